@@ -0,0 +1,40 @@
+// SPDX-License-Identifier: Apache-2.0
+
+description = "Mirror Node Benchmark"
+
+plugins {
+    id("java-conventions")
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    jmhImplementation(project(":common"))
+    jmhImplementation(project(path = ":common", configuration = "testClasses"))
+    jmhImplementation(project(":importer"))
+    jmhImplementation(project(path = ":importer", configuration = "testClasses"))
+    jmhImplementation("io.micrometer:micrometer-core")
+    jmhImplementation("jakarta.inject:jakarta.inject-api")
+    jmhImplementation("org.mockito:mockito-core")
+    jmhRuntimeOnly("commons-beanutils:commons-beanutils")
+    jmhRuntimeOnly("org.awaitility:awaitility")
+    jmhRuntimeOnly("org.gaul:s3proxy") {
+        exclude(group = "org.apache.commons", module = "commons-fileupload2-javax")
+    }
+    jmhRuntimeOnly("org.hyperledger.besu:evm")
+    jmhRuntimeOnly("org.springframework.boot:spring-boot-starter-test")
+}
+
+jmh {
+    val jmhVersion: String by rootProject.extra
+
+    fork = 1
+    iterations = 5
+    this.jmhVersion = jmhVersion
+    resultFormat = "JSON"
+    timeOnIteration = "5s"
+    warmup = "5s"
+    warmupIterations = 3
+}
+
+// JMH generated sources trigger lint warnings outside our control
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses") { options.compilerArgs.remove("-Werror") }
@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.transaction.CryptoTransfer;
+import org.hiero.mirror.common.domain.transaction.Transaction;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the CSV serialization {@link BatchInserter} performs before streaming rows to the database with COPY. The
+ * prepared copy is never run, so no database is needed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BatchInserterBenchmark {
+
+    @Param({"100", "10000"})
+    private int rows;
+
+    private BatchInserter cryptoTransferInserter;
+    private List<CryptoTransfer> cryptoTransfers;
+    private BatchInserter transactionInserter;
+    private List<Transaction> transactions;
+
+    @Setup
+    public void setup() {
+        var domainBuilder = new DomainBuilder();
+        var meterRegistry = new SimpleMeterRegistry();
+        var properties = new CommonParserProperties();
+        cryptoTransferInserter = new BatchInserter(CryptoTransfer.class, null, meterRegistry, properties);
+        cryptoTransfers = Stream.generate(() -> domainBuilder.cryptoTransfer().get())
+                .limit(rows)
+                .toList();
+        transactionInserter = new BatchInserter(Transaction.class, null, meterRegistry, properties);
+        transactions = Stream.generate(() -> domainBuilder.transaction().get())
+                .limit(rows)
+                .toList();
+    }
+
+    @Benchmark
+    public Runnable cryptoTransfer() {
+        return cryptoTransferInserter.prepare(cryptoTransfers);
+    }
+
+    @Benchmark
+    public Runnable transaction() {
+        return transactionInserter.prepare(transactions);
+    }
+}
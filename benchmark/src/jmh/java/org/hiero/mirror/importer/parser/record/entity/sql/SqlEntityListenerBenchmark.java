@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.sql;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.common.collect.Range;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.CommonProperties;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.SystemEntity;
+import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.token.Token;
+import org.hiero.mirror.common.domain.token.TokenAccount;
+import org.hiero.mirror.importer.domain.EntityIdService;
+import org.hiero.mirror.importer.parser.batch.BatchPersister;
+import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.hiero.mirror.importer.repository.HookStorageRepository;
+import org.hiero.mirror.importer.repository.NftRepository;
+import org.hiero.mirror.importer.repository.TokenAccountRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the {@link SqlEntityListener} merge functions that fold repeated updates to the same entity, token and
+ * token account within a record file into a single row. The merge functions mutate their inputs, so fresh updates are
+ * generated before every invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SqlEntityListenerBenchmark {
+
+    private static final int IDS = 100;
+
+    @Param({"1", "10"})
+    private int updates;
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final ParserContext context = new ParserContext();
+    private final List<Entity> entities = new ArrayList<>();
+    private final List<Token> tokens = new ArrayList<>();
+    private final List<TokenAccount> tokenAccounts = new ArrayList<>();
+
+    private SqlEntityListener sqlEntityListener;
+
+    @Setup
+    public void setup() {
+        var stubOnly = withSettings().stubOnly();
+        sqlEntityListener = new SqlEntityListener(
+                mock(BatchPersister.class, stubOnly),
+                context,
+                mock(EntityIdService.class, stubOnly),
+                new EntityProperties(new SystemEntity(CommonProperties.getInstance())),
+                mock(NftRepository.class, stubOnly),
+                mock(TokenAccountRepository.class, stubOnly),
+                mock(HookStorageRepository.class, stubOnly),
+                new SqlProperties());
+    }
+
+    @Setup(Level.Invocation)
+    public void generate() {
+        context.clear();
+        entities.clear();
+        tokens.clear();
+        tokenAccounts.clear();
+
+        for (int i = 0; i < IDS; i++) {
+            var entityId = domainBuilder.entityId();
+            long accountId = domainBuilder.id();
+            long tokenId = domainBuilder.id();
+            long createdTimestamp = domainBuilder.timestamp();
+
+            for (int j = 0; j < updates; j++) {
+                long timestamp = createdTimestamp + j;
+                var created = j == 0 ? createdTimestamp : null;
+                entities.add(domainBuilder
+                        .entity(entityId, createdTimestamp)
+                        .customize(e -> e.createdTimestamp(created).timestampRange(Range.atLeast(timestamp)))
+                        .get());
+                entities.add(balanceUpdate(entityId.getId(), timestamp));
+                tokens.add(domainBuilder
+                        .token()
+                        .customize(t -> t.createdTimestamp(created)
+                                .timestampRange(Range.atLeast(timestamp))
+                                .tokenId(tokenId))
+                        .get());
+                tokenAccounts.add(domainBuilder
+                        .tokenAccount()
+                        .customize(t -> t.accountId(accountId)
+                                .createdTimestamp(created)
+                                .timestampRange(Range.atLeast(timestamp))
+                                .tokenId(tokenId))
+                        .get());
+            }
+        }
+    }
+
+    @Benchmark
+    public ParserContext merge() {
+        entities.forEach(sqlEntityListener::onEntity);
+        tokens.forEach(sqlEntityListener::onToken);
+        tokenAccounts.forEach(sqlEntityListener::onTokenAccount);
+        return context;
+    }
+
+    private static Entity balanceUpdate(long id, long timestamp) {
+        var entity = new Entity();
+        entity.setId(id);
+        entity.setBalance(10L);
+        entity.setBalanceTimestamp(timestamp);
+        return entity;
+    }
+}
@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.transactionhandler;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.CommonProperties;
+import org.hiero.mirror.common.domain.SystemEntity;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
+import org.hiero.mirror.importer.domain.ContractResultService;
+import org.hiero.mirror.importer.domain.EntityIdService;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.parser.batch.BatchPersister;
+import org.hiero.mirror.importer.parser.contractlog.SyntheticContractLogService;
+import org.hiero.mirror.importer.parser.contractresult.SyntheticContractResultService;
+import org.hiero.mirror.importer.parser.domain.RecordItemBuilder;
+import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
+import org.hiero.mirror.importer.parser.record.entity.EntityRecordItemListener;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.hiero.mirror.importer.parser.record.entity.sql.SqlEntityListener;
+import org.hiero.mirror.importer.parser.record.entity.sql.SqlProperties;
+import org.hiero.mirror.importer.repository.HookStorageRepository;
+import org.hiero.mirror.importer.repository.NftRepository;
+import org.hiero.mirror.importer.repository.TokenAccountRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link EntityRecordItemListener} handling of crypto transfers into an in-memory {@link ParserContext}.
+ * Services that need a database are replaced with stubs. The benchmark lives in this package so that it can create the
+ * package-private transaction handlers directly instead of starting a Spring context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class EntityRecordItemListenerBenchmark {
+
+    private static final int TRANSACTIONS = 100;
+
+    private final ParserContext context = new ParserContext();
+    private final RecordItemBuilder recordItemBuilder = new RecordItemBuilder();
+    private final List<RecordItem> recordItems = new ArrayList<>(TRANSACTIONS);
+
+    private EntityRecordItemListener entityRecordItemListener;
+
+    @Setup
+    public void setup() {
+        var stubOnly = withSettings().stubOnly();
+        var entityIdService = mock(EntityIdService.class, stubOnly);
+        var entityProperties = new EntityProperties(new SystemEntity(CommonProperties.getInstance()));
+        var sqlEntityListener = new SqlEntityListener(
+                mock(BatchPersister.class, stubOnly),
+                context,
+                entityIdService,
+                entityProperties,
+                mock(NftRepository.class, stubOnly),
+                mock(TokenAccountRepository.class, stubOnly),
+                mock(HookStorageRepository.class, stubOnly),
+                new SqlProperties());
+        var transactionHandlerFactory =
+                new TransactionHandlerFactory(List.of(new CryptoTransferTransactionHandler(entityIdService)));
+        entityRecordItemListener = new EntityRecordItemListener(
+                new CommonParserProperties(),
+                mock(ContractResultService.class, stubOnly),
+                entityIdService,
+                sqlEntityListener,
+                entityProperties,
+                transactionHandlerFactory,
+                mock(SyntheticContractLogService.class, stubOnly),
+                mock(SyntheticContractResultService.class, stubOnly));
+    }
+
+    @Setup(Level.Invocation)
+    public void generate() {
+        context.clear();
+        recordItems.clear();
+
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            recordItems.add(recordItemBuilder.cryptoTransfer().build());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRANSACTIONS)
+    public ParserContext cryptoTransfer() {
+        recordItems.forEach(entityRecordItemListener::onItem);
+        return context;
+    }
+}
@@ -0,0 +1,56 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.block;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hiero.block.api.protoc.BlockItemSet;
+import org.hiero.mirror.common.domain.transaction.BlockFile;
+import org.hiero.mirror.importer.downloader.block.simulator.BlockGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures conversion of block items into a {@link BlockFile} for blocks generated by the block node simulator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BlockStreamReaderBenchmark {
+
+    private static final int BLOCKS = 100;
+
+    private final BlockStreamReader blockStreamReader = new BlockStreamReaderImpl();
+
+    private List<BlockStream> blockStreams;
+
+    @Setup
+    public void setup() {
+        blockStreams = new BlockGenerator(0L)
+                .next(BLOCKS).stream().map(BlockStreamReaderBenchmark::toBlockStream).toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS)
+    public long read() {
+        long count = 0;
+
+        for (var blockStream : blockStreams) {
+            count += blockStreamReader.read(blockStream).getCount();
+        }
+
+        return count;
+    }
+
+    private static BlockStream toBlockStream(BlockItemSet blockItemSet) {
+        var number = blockItemSet.getBlockItems(0).getBlockHeader().getNumber();
+        var filename = BlockFile.getFilename(number, false);
+        return new BlockStream(blockItemSet.getBlockItemsList(), null, filename, System.currentTimeMillis(), 0L);
+    }
+}
@@ -0,0 +1,89 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.record;
+
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Ints;
+import com.hedera.services.stream.proto.HashAlgorithm;
+import com.hedera.services.stream.proto.HashObject;
+import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
+import com.hederahashgraph.api.proto.java.SemanticVersion;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.importer.TestUtils;
+import org.hiero.mirror.importer.domain.StreamFileData;
+import org.hiero.mirror.importer.parser.domain.RecordItemBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures decoding of version 5 and version 6 record files. Version 6 files are generated from synthetic crypto
+ * transfers while version 5 files, which can't be easily generated, use a sample file from the importer test
+ * resources.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RecordFileReaderBenchmark {
+
+    private static final String V5_FILE = "2021-01-11T22_09_24.063739000Z.rcd";
+    private static final String V6_FILE = "2022-07-13T08_46_08.041986003Z.rcd";
+
+    @Param({"100", "1000"})
+    private int transactions;
+
+    private final ProtoRecordFileReader protoRecordFileReader = new ProtoRecordFileReader();
+    private final RecordFileReaderImplV5 recordFileReaderV5 = new RecordFileReaderImplV5();
+
+    private byte[] v5Bytes;
+    private byte[] v6Bytes;
+
+    @Setup
+    public void setup() throws IOException {
+        var recordItemBuilder = new RecordItemBuilder();
+        var hashObject = HashObject.newBuilder().setAlgorithm(HashAlgorithm.SHA_384).setLength(48);
+        var recordStreamFile = RecordStreamFile.newBuilder()
+                .setBlockNumber(100L)
+                .setHapiProtoVersion(SemanticVersion.newBuilder().setMajor(0).setMinor(69))
+                .setStartObjectRunningHash(
+                        hashObject.setHash(DomainUtils.fromBytes(TestUtils.generateRandomByteArray(48))))
+                .setEndObjectRunningHash(
+                        hashObject.setHash(DomainUtils.fromBytes(TestUtils.generateRandomByteArray(48))));
+
+        for (int i = 0; i < transactions; i++) {
+            var recordItem = recordItemBuilder.cryptoTransfer().build();
+            recordStreamFile.addRecordStreamItems(RecordStreamItem.newBuilder()
+                    .setRecord(recordItem.getTransactionRecord())
+                    .setTransaction(recordItem.getTransaction()));
+        }
+
+        v6Bytes = Bytes.concat(
+                Ints.toByteArray(ProtoRecordFileReader.VERSION),
+                recordStreamFile.build().toByteArray());
+
+        var path = "data/recordstreams/v5/record0.0.3/" + V5_FILE;
+        try (var inputStream = getClass().getClassLoader().getResourceAsStream(path)) {
+            v5Bytes = Objects.requireNonNull(inputStream, path).readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public RecordFile protoRecordFileReader() {
+        return protoRecordFileReader.read(StreamFileData.from(V6_FILE, v6Bytes));
+    }
+
+    @Benchmark
+    public RecordFile recordFileReaderV5() {
+        return recordFileReaderV5.read(StreamFileData.from(V5_FILE, v5Bytes));
+    }
+}
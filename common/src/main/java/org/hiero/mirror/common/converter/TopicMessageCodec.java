@@ -0,0 +1,169 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.converter;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import lombok.experimental.UtilityClass;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+
+/**
+ * A compact binary encoding of a {@link TopicMessage} used to send messages from the importer to the gRPC API. The
+ * encoding starts with a byte that is never used by MessagePack so it can be told apart from the previous Jackson
+ * MessagePack encoding. Fixed width fields are written first followed by length prefixed byte arrays, and a bit set
+ * records which optional fields are present.
+ */
+@UtilityClass
+public class TopicMessageCodec {
+
+    static final byte MAGIC = (byte) 0xC1;
+    static final byte VERSION = 1;
+
+    private static final int CHUNK_NUM = 1;
+    private static final int CHUNK_TOTAL = 1 << 1;
+    private static final int INITIAL_TRANSACTION_ID = 1 << 2;
+    private static final int MESSAGE = 1 << 3;
+    private static final int PAYER_ACCOUNT_ID = 1 << 4;
+    private static final int RUNNING_HASH = 1 << 5;
+    private static final int RUNNING_HASH_VERSION = 1 << 6;
+    private static final int TOPIC_ID = 1 << 7;
+    private static final int VALID_START_TIMESTAMP = 1 << 8;
+
+    private static final int HEADER_SIZE = Byte.BYTES * 2 + Short.BYTES + Long.BYTES * 2;
+
+    public static boolean canDecode(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_SIZE && bytes[0] == MAGIC && bytes[1] == VERSION;
+    }
+
+    public static byte[] encode(TopicMessage topicMessage) {
+        int flags = 0;
+        int size = HEADER_SIZE;
+
+        if (topicMessage.getChunkNum() != null) {
+            flags |= CHUNK_NUM;
+            size += Integer.BYTES;
+        }
+        if (topicMessage.getChunkTotal() != null) {
+            flags |= CHUNK_TOTAL;
+            size += Integer.BYTES;
+        }
+        if (topicMessage.getInitialTransactionId() != null) {
+            flags |= INITIAL_TRANSACTION_ID;
+            size += Integer.BYTES + topicMessage.getInitialTransactionId().length;
+        }
+        if (topicMessage.getMessage() != null) {
+            flags |= MESSAGE;
+            size += Integer.BYTES + topicMessage.getMessage().length;
+        }
+        if (!EntityId.isEmpty(topicMessage.getPayerAccountId())) {
+            flags |= PAYER_ACCOUNT_ID;
+            size += Long.BYTES;
+        }
+        if (topicMessage.getRunningHash() != null) {
+            flags |= RUNNING_HASH;
+            size += Integer.BYTES + topicMessage.getRunningHash().length;
+        }
+        if (topicMessage.getRunningHashVersion() != null) {
+            flags |= RUNNING_HASH_VERSION;
+            size += Integer.BYTES;
+        }
+        if (!EntityId.isEmpty(topicMessage.getTopicId())) {
+            flags |= TOPIC_ID;
+            size += Long.BYTES;
+        }
+        if (topicMessage.getValidStartTimestamp() != null) {
+            flags |= VALID_START_TIMESTAMP;
+            size += Long.BYTES;
+        }
+
+        var buffer = ByteBuffer.allocate(size)
+                .put(MAGIC)
+                .put(VERSION)
+                .putShort((short) flags)
+                .putLong(topicMessage.getConsensusTimestamp())
+                .putLong(topicMessage.getSequenceNumber());
+
+        if ((flags & CHUNK_NUM) != 0) {
+            buffer.putInt(topicMessage.getChunkNum());
+        }
+        if ((flags & CHUNK_TOTAL) != 0) {
+            buffer.putInt(topicMessage.getChunkTotal());
+        }
+        if ((flags & PAYER_ACCOUNT_ID) != 0) {
+            buffer.putLong(topicMessage.getPayerAccountId().getId());
+        }
+        if ((flags & RUNNING_HASH_VERSION) != 0) {
+            buffer.putInt(topicMessage.getRunningHashVersion());
+        }
+        if ((flags & TOPIC_ID) != 0) {
+            buffer.putLong(topicMessage.getTopicId().getId());
+        }
+        if ((flags & VALID_START_TIMESTAMP) != 0) {
+            buffer.putLong(topicMessage.getValidStartTimestamp());
+        }
+
+        putBytes(buffer, topicMessage.getInitialTransactionId());
+        putBytes(buffer, topicMessage.getMessage());
+        putBytes(buffer, topicMessage.getRunningHash());
+        return buffer.array();
+    }
+
+    public static TopicMessage decode(byte[] bytes) {
+        if (!canDecode(bytes)) {
+            throw new IllegalArgumentException("Unsupported topic message encoding");
+        }
+
+        try {
+            var buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 2);
+            int flags = buffer.getShort();
+            var topicMessage = new TopicMessage();
+            topicMessage.setConsensusTimestamp(buffer.getLong());
+            topicMessage.setSequenceNumber(buffer.getLong());
+
+            if ((flags & CHUNK_NUM) != 0) {
+                topicMessage.setChunkNum(buffer.getInt());
+            }
+            if ((flags & CHUNK_TOTAL) != 0) {
+                topicMessage.setChunkTotal(buffer.getInt());
+            }
+            if ((flags & PAYER_ACCOUNT_ID) != 0) {
+                topicMessage.setPayerAccountId(EntityId.of(buffer.getLong()));
+            }
+            if ((flags & RUNNING_HASH_VERSION) != 0) {
+                topicMessage.setRunningHashVersion(buffer.getInt());
+            }
+            if ((flags & TOPIC_ID) != 0) {
+                topicMessage.setTopicId(EntityId.of(buffer.getLong()));
+            }
+            if ((flags & VALID_START_TIMESTAMP) != 0) {
+                topicMessage.setValidStartTimestamp(buffer.getLong());
+            }
+            if ((flags & INITIAL_TRANSACTION_ID) != 0) {
+                topicMessage.setInitialTransactionId(getBytes(buffer));
+            }
+            if ((flags & MESSAGE) != 0) {
+                topicMessage.setMessage(getBytes(buffer));
+            }
+            if ((flags & RUNNING_HASH) != 0) {
+                topicMessage.setRunningHash(getBytes(buffer));
+            }
+
+            return topicMessage;
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Invalid topic message encoding", e);
+        }
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes != null) {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+}
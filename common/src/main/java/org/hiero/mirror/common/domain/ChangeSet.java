@@ -0,0 +1,161 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.domain;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import org.hiero.mirror.common.domain.contract.ContractState;
+import org.hiero.mirror.common.domain.token.AbstractTokenAccount;
+
+/**
+ * The entities, tokens, token accounts and contract slots changed by one or more record files. The importer publishes
+ * it to the {@value #CHANNEL} Postgres notification channel so that consumers caching those rows can evict only what
+ * changed. Postgres delivers a notification only once its transaction commits, so a consumer never reloads a row
+ * before its change is visible. A change set is encoded as space separated tokens that are split across as many
+ * payloads as needed to stay under the payload limit, and decoding a payload only yields the changes it contains.
+ */
+@Getter
+public final class ChangeSet {
+
+    public static final String CHANNEL = "change_set";
+    public static final int MAX_PAYLOAD_LENGTH = 7999; // Postgres requires payloads to be shorter than 8000 bytes
+
+    private static final String ALL = "*";
+    private static final String ENTITY = "e";
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+    private static final String SLOT = "s";
+    private static final String TOKEN = "t";
+    private static final String TOKEN_ACCOUNT = "a";
+    private static final String TOKEN_ACCOUNTS = "T";
+
+    private boolean all;
+    private final Set<Long> entities = new HashSet<>();
+    private final Set<ContractState.Id> slots = new HashSet<>();
+    private final Set<AbstractTokenAccount.Id> tokenAccounts = new HashSet<>();
+    private final Set<Long> tokens = new HashSet<>();
+
+    /**
+     * The tokens whose every token account may have changed, such as when its treasury or its freeze or KYC key changes
+     */
+    private final Set<Long> tokensWithAccounts = new HashSet<>();
+
+    public static ChangeSet decode(String payload) {
+        var changeSet = new ChangeSet();
+
+        for (var token : payload.split(" ")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+
+            if (token.equals(ALL)) {
+                changeSet.all = true;
+                continue;
+            }
+
+            var value = token.substring(1);
+            switch (token.substring(0, 1)) {
+                case ENTITY -> changeSet.addEntity(Long.parseLong(value));
+                case SLOT -> {
+                    var separator = value.indexOf('.');
+                    changeSet.addSlot(
+                            Long.parseLong(value.substring(0, separator)),
+                            HEX_FORMAT.parseHex(value.substring(separator + 1)));
+                }
+                case TOKEN -> changeSet.addToken(Long.parseLong(value));
+                case TOKEN_ACCOUNT -> {
+                    var separator = value.indexOf('.');
+                    changeSet.addTokenAccount(
+                            Long.parseLong(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+                }
+                case TOKEN_ACCOUNTS -> changeSet.addTokenAccounts(Long.parseLong(value));
+                default -> {
+                    // Ignore changes added by a newer version
+                }
+            }
+        }
+
+        return changeSet;
+    }
+
+    public void addAll() {
+        all = true;
+    }
+
+    public void addEntity(long id) {
+        entities.add(id);
+    }
+
+    public void addSlot(long contractId, byte[] slot) {
+        slots.add(new ContractState.Id(contractId, slot));
+    }
+
+    public void addToken(long tokenId) {
+        tokens.add(tokenId);
+    }
+
+    public void addTokenAccount(long accountId, long tokenId) {
+        var id = new AbstractTokenAccount.Id();
+        id.setAccountId(accountId);
+        id.setTokenId(tokenId);
+        tokenAccounts.add(id);
+    }
+
+    public void addTokenAccounts(long tokenId) {
+        tokensWithAccounts.add(tokenId);
+    }
+
+    public boolean isEmpty() {
+        return !all && size() == 0;
+    }
+
+    public int size() {
+        return entities.size() + slots.size() + tokenAccounts.size() + tokens.size() + tokensWithAccounts.size();
+    }
+
+    /**
+     * Encodes the change set as one or more payloads no longer than the maximum length. A change set that changed
+     * everything is encoded as a single wildcard payload.
+     *
+     * @param maxLength the maximum length of a payload
+     * @return the payloads
+     */
+    public List<String> encode(int maxLength) {
+        var payloads = new ArrayList<String>();
+
+        if (all) {
+            payloads.add(ALL);
+            return payloads;
+        }
+
+        var payload = new StringBuilder();
+        var changes = new ArrayList<String>(size());
+        entities.forEach(id -> changes.add(ENTITY + id));
+        slots.forEach(id -> changes.add(SLOT + id.getContractId() + "." + HEX_FORMAT.formatHex(id.getSlot())));
+        tokens.forEach(id -> changes.add(TOKEN + id));
+        tokenAccounts.forEach(id -> changes.add(TOKEN_ACCOUNT + id.getAccountId() + "." + id.getTokenId()));
+        tokensWithAccounts.forEach(id -> changes.add(TOKEN_ACCOUNTS + id));
+
+        for (var token : changes) {
+            if (!payload.isEmpty() && payload.length() + token.length() + 1 > maxLength) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+            }
+
+            if (!payload.isEmpty()) {
+                payload.append(' ');
+            }
+
+            payload.append(token);
+        }
+
+        if (!payload.isEmpty()) {
+            payloads.add(payload.toString());
+        }
+
+        return payloads;
+    }
+}
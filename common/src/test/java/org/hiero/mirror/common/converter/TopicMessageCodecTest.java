@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.junit.jupiter.api.Test;
+
+class TopicMessageCodecTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+
+    @Test
+    void roundTrip() {
+        // given
+        var topicMessage = domainBuilder.topicMessage().get();
+
+        // when
+        var bytes = TopicMessageCodec.encode(topicMessage);
+
+        // then
+        assertThat(TopicMessageCodec.canDecode(bytes)).isTrue();
+        assertThat(TopicMessageCodec.decode(bytes)).isEqualTo(topicMessage);
+    }
+
+    @Test
+    void roundTripEmpty() {
+        // given
+        var topicMessage = new TopicMessage();
+
+        // when
+        var bytes = TopicMessageCodec.encode(topicMessage);
+
+        // then
+        assertThat(bytes).hasSize(20);
+        assertThat(TopicMessageCodec.decode(bytes)).isEqualTo(topicMessage);
+    }
+
+    @Test
+    void canDecode() {
+        assertThat(TopicMessageCodec.canDecode(null)).isFalse();
+        assertThat(TopicMessageCodec.canDecode(new byte[0])).isFalse();
+        assertThat(TopicMessageCodec.canDecode(new byte[] {(byte) 0x82, 1, 2})).isFalse();
+        var bytes = TopicMessageCodec.encode(new TopicMessage());
+        bytes[1] = TopicMessageCodec.VERSION + 1;
+        assertThat(TopicMessageCodec.canDecode(bytes)).isFalse();
+    }
+
+    @Test
+    void decodeTruncated() {
+        // given
+        var bytes = TopicMessageCodec.encode(domainBuilder.topicMessage().get());
+        var truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        // when/then
+        assertThatThrownBy(() -> TopicMessageCodec.decode(truncated))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid topic message encoding");
+        assertThatThrownBy(() -> TopicMessageCodec.decode(new byte[] {1}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported topic message encoding");
+    }
+}
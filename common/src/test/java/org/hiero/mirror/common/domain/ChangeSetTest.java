@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hiero.mirror.common.domain.contract.ContractState;
+import org.junit.jupiter.api.Test;
+
+class ChangeSetTest {
+
+    @Test
+    void encodeAndDecode() {
+        // given
+        var slot = new byte[32];
+        slot[31] = 1;
+        var changeSet = new ChangeSet();
+        changeSet.addEntity(1L);
+        changeSet.addSlot(2L, slot);
+        changeSet.addToken(3L);
+        changeSet.addTokenAccount(4L, 3L);
+        changeSet.addTokenAccounts(5L);
+
+        // when
+        var payloads = changeSet.encode(ChangeSet.MAX_PAYLOAD_LENGTH);
+
+        // then
+        assertThat(payloads).hasSize(1);
+        var decoded = ChangeSet.decode(payloads.getFirst());
+        assertThat(decoded.isAll()).isFalse();
+        assertThat(decoded.getEntities()).containsExactly(1L);
+        assertThat(decoded.getSlots()).containsExactly(new ContractState.Id(2L, slot));
+        assertThat(decoded.getTokens()).containsExactly(3L);
+        assertThat(decoded.getTokenAccounts()).isEqualTo(changeSet.getTokenAccounts());
+        assertThat(decoded.getTokensWithAccounts()).containsExactly(5L);
+        assertThat(decoded.size()).isEqualTo(5);
+    }
+
+    @Test
+    void encodeSplits() {
+        // given
+        var changeSet = new ChangeSet();
+        for (long id = 1000L; id < 2000L; id++) {
+            changeSet.addEntity(id);
+        }
+
+        // when
+        var payloads = changeSet.encode(100);
+
+        // then
+        assertThat(payloads).hasSizeGreaterThan(1).allSatisfy(p -> assertThat(p).hasSizeLessThanOrEqualTo(100));
+        var entities = payloads.stream()
+                .map(ChangeSet::decode)
+                .flatMap(c -> c.getEntities().stream())
+                .toList();
+        assertThat(entities).hasSize(1000).containsExactlyInAnyOrderElementsOf(changeSet.getEntities());
+    }
+
+    @Test
+    void encodeAll() {
+        // given
+        var changeSet = new ChangeSet();
+        changeSet.addEntity(1L);
+        changeSet.addAll();
+
+        // when
+        var payloads = changeSet.encode(ChangeSet.MAX_PAYLOAD_LENGTH);
+
+        // then
+        assertThat(payloads).containsExactly("*");
+        assertThat(ChangeSet.decode(payloads.getFirst()).isAll()).isTrue();
+    }
+
+    @Test
+    void empty() {
+        var changeSet = new ChangeSet();
+        assertThat(changeSet.isEmpty()).isTrue();
+        assertThat(changeSet.encode(ChangeSet.MAX_PAYLOAD_LENGTH)).isEmpty();
+        changeSet.addAll();
+        assertThat(changeSet.isEmpty()).isFalse();
+    }
+
+    @Test
+    void decodeUnknown() {
+        var changeSet = ChangeSet.decode("e1 z2  t3");
+        assertThat(changeSet.getEntities()).containsExactly(1L);
+        assertThat(changeSet.getTokens()).containsExactly(3L);
+        assertThat(changeSet.size()).isEqualTo(2);
+    }
+
+    @Test
+    void decodeInvalid() {
+        assertThatThrownBy(() -> ChangeSet.decode("eabc")).isInstanceOf(NumberFormatException.class);
+    }
+}
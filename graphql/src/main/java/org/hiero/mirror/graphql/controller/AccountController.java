@@ -8,8 +8,12 @@ import static org.hiero.mirror.graphql.util.GraphQlUtils.validateOneOf;
 
 import jakarta.validation.Valid;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
+import org.dataloader.DataLoader;
+import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.entity.EntityType;
 import org.hiero.mirror.graphql.mapper.AccountMapper;
 import org.hiero.mirror.graphql.service.EntityService;
@@ -19,18 +23,53 @@ import org.hiero.mirror.graphql.viewmodel.HbarUnit;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
 
 @Controller
 @CustomLog
-@RequiredArgsConstructor
 class AccountController {
 
     private final AccountMapper accountMapper;
     private final EntityService entityService;
 
+    AccountController(
+            AccountMapper accountMapper, BatchLoaderRegistry batchLoaderRegistry, EntityService entityService) {
+        this.accountMapper = accountMapper;
+        this.entityService = entityService;
+
+        // Loads all the entities referenced within a request with a single query and caches them for the request
+        batchLoaderRegistry
+                .forTypePair(Long.class, Entity.class)
+                .registerMappedBatchLoader((ids, env) -> Mono.fromCallable(() -> entityService.getByIds(ids)));
+    }
+
     @QueryMapping
-    Optional<Account> account(@Argument @Valid AccountInput input) {
+    Optional<Account> account(@Argument @Valid AccountInput input, DataLoader<Long, Entity> entityLoader) {
+        return getAccount(input).map(entity -> {
+            // Prime the cache so the relationships of the account can be resolved without querying it again
+            entityLoader.prime(entity.getId(), entity);
+            return accountMapper.map(entity);
+        });
+    }
+
+    @SchemaMapping
+    CompletableFuture<Account> autoRenewAccount(Account account, DataLoader<Long, Entity> entityLoader) {
+        return loadAccount(account, entityLoader, Entity::getAutoRenewAccountId);
+    }
+
+    @SchemaMapping
+    Long balance(@Argument @Valid HbarUnit unit, Account account) {
+        return convertCurrency(unit, account.getBalance());
+    }
+
+    @SchemaMapping
+    CompletableFuture<Account> stakedAccount(Account account, DataLoader<Long, Entity> entityLoader) {
+        return loadAccount(account, entityLoader, Entity::getStakedAccountId);
+    }
+
+    private Optional<Entity> getAccount(AccountInput input) {
         final var alias = input.getAlias();
         final var evmAddress = input.getEvmAddress();
         final var entityId = input.getEntityId();
@@ -39,26 +78,40 @@ class AccountController {
         validateOneOf(alias, entityId, evmAddress, id);
 
         if (entityId != null) {
-            return entityService
-                    .getByIdAndType(toEntityId(entityId), EntityType.ACCOUNT)
-                    .map(accountMapper::map);
+            return entityService.getByIdAndType(toEntityId(entityId), EntityType.ACCOUNT);
         }
 
         if (alias != null) {
-            return entityService.getByAliasAndType(alias, EntityType.ACCOUNT).map(accountMapper::map);
+            return entityService.getByAliasAndType(alias, EntityType.ACCOUNT);
         }
 
         if (evmAddress != null) {
-            return entityService
-                    .getByEvmAddressAndType(evmAddress, EntityType.ACCOUNT)
-                    .map(accountMapper::map);
+            return entityService.getByEvmAddressAndType(evmAddress, EntityType.ACCOUNT);
         }
 
         throw new IllegalStateException("Not implemented");
     }
 
-    @SchemaMapping
-    Long balance(@Argument @Valid HbarUnit unit, Account account) {
-        return convertCurrency(unit, account.getBalance());
+    /**
+     * Resolves a related account through the entity data loader. The parent account was either primed by the query or
+     * loaded by the data loader itself, so looking it up is a cache hit and the related account is batched with the
+     * other accounts requested at the same level of the query.
+     */
+    private CompletableFuture<Account> loadAccount(
+            Account account, DataLoader<Long, Entity> entityLoader, Function<Entity, Long> relation) {
+        var parentId = account.getEntityId();
+        long id = EntityId.of(parentId.getShard(), parentId.getRealm(), parentId.getNum())
+                .getId();
+
+        return entityLoader
+                .load(id)
+                .thenCompose(parent -> {
+                    var relatedId = parent != null ? relation.apply(parent) : null;
+                    return relatedId != null && relatedId > 0
+                            ? entityLoader.load(relatedId)
+                            : CompletableFuture.completedFuture(null);
+                })
+                .thenApply(related ->
+                        related != null && related.getType() == EntityType.ACCOUNT ? accountMapper.map(related) : null);
     }
 }
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.graphql.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.springframework.data.jpa.repository.Query;
@@ -15,4 +16,7 @@ public interface EntityRepository extends CrudRepository<Entity, Long> {
 
     @Query(value = "select * from entity where evm_address = ?1 and deleted is not true", nativeQuery = true)
     Optional<Entity> findByEvmAddress(byte[] evmAddress);
+
+    @Query(value = "select * from entity where id = any(?1)", nativeQuery = true)
+    List<Entity> findByIdIn(Long[] ids);
 }
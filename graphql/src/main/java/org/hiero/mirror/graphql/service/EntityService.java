@@ -2,6 +2,8 @@
 
 package org.hiero.mirror.graphql.service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
@@ -14,4 +16,6 @@ public interface EntityService {
     Optional<Entity> getByAliasAndType(String alias, EntityType type);
 
     Optional<Entity> getByEvmAddressAndType(String evmAddress, EntityType type);
+
+    Map<Long, Entity> getByIds(Collection<Long> ids);
 }
@@ -7,7 +7,11 @@ import static org.hiero.mirror.graphql.util.GraphQlUtils.decodeEvmAddress;
 
 import jakarta.inject.Named;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
@@ -39,4 +43,14 @@ public class EntityServiceImpl implements EntityService {
         }
         return entityRepository.findByEvmAddress(evmAddressBytes).filter(e -> e.getType() == type);
     }
+
+    @Override
+    public Map<Long, Entity> getByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return entityRepository.findByIdIn(ids.toArray(Long[]::new)).stream()
+                .collect(Collectors.toMap(Entity::getId, Function.identity()));
+    }
 }
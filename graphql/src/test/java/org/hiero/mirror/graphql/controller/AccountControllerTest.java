@@ -220,4 +220,46 @@ class AccountControllerTest extends GraphqlIntegrationTest {
                 .entity(Long.class)
                 .isEqualTo(entity.getBalance() / 100_000_000L);
     }
+
+    @Test
+    void relationships() {
+        var autoRenewAccount = domainBuilder.entity().persist();
+        var stakedAccount = domainBuilder
+                .entity()
+                .customize(e -> e.autoRenewAccountId(autoRenewAccount.getId()))
+                .persist();
+        var entity = domainBuilder
+                .entity()
+                .customize(e -> e.autoRenewAccountId(autoRenewAccount.getId()).stakedAccountId(stakedAccount.getId()))
+                .persist();
+        var query =
+                """
+                query Account($realm: Long!,$shard: Long!,$num: Long!) {
+                  account(input: { entityId: {realm: $realm, shard: $shard, num: $num} }) {
+                    autoRenewAccount { entityId { shard, realm, num } }
+                    stakedAccount {
+                      entityId { shard, realm, num }
+                      autoRenewAccount { entityId { shard, realm, num } }
+                      stakedAccount { entityId { shard, realm, num } }
+                    }
+                  }
+                }
+                """;
+        var response = tester.document(query)
+                .variable("num", entity.getNum())
+                .variable("realm", entity.getRealm())
+                .variable("shard", entity.getShard())
+                .execute()
+                .errors()
+                .verify();
+
+        response.path("account.autoRenewAccount.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(autoRenewAccount.getNum());
+        response.path("account.stakedAccount.entityId.num").entity(Long.class).isEqualTo(stakedAccount.getNum());
+        response.path("account.stakedAccount.autoRenewAccount.entityId.num")
+                .entity(Long.class)
+                .isEqualTo(autoRenewAccount.getNum());
+        response.path("account.stakedAccount.stakedAccount").valueIsNull();
+    }
 }
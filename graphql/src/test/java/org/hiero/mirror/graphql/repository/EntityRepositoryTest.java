@@ -32,4 +32,13 @@ class EntityRepositoryTest extends GraphqlIntegrationTest {
                 .get()
                 .isEqualTo(entity);
     }
+
+    @Test
+    void findByIdIn() {
+        var entity1 = domainBuilder.entity().persist();
+        var entity2 = domainBuilder.entity().persist();
+        domainBuilder.entity().persist();
+        assertThat(entityRepository.findByIdIn(new Long[] {entity1.getId(), entity2.getId(), 999L}))
+                .containsExactlyInAnyOrder(entity1, entity2);
+    }
 }
@@ -3,9 +3,13 @@
 package org.hiero.mirror.graphql.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Base32;
@@ -153,4 +157,20 @@ class EntityServiceTest {
                 .get()
                 .isEqualTo(entity);
     }
+
+    @Test
+    void getByIds() {
+        var entity1 = domainBuilder.entity().get();
+        var entity2 = domainBuilder.entity().get();
+        var ids = List.of(entity1.getId(), entity2.getId(), 999L);
+        when(entityRepository.findByIdIn(any())).thenReturn(List.of(entity1, entity2));
+        assertThat(entityService.getByIds(ids))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(entity1.getId(), entity1, entity2.getId(), entity2));
+        verify(entityRepository).findByIdIn(ids.toArray(Long[]::new));
+    }
+
+    @Test
+    void getByIdsEmpty() {
+        assertThat(entityService.getByIds(List.of())).isEmpty();
+    }
 }
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.hiero.mirror.common.converter.EntityIdDeserializer;
 import org.hiero.mirror.common.converter.EntityIdSerializer;
+import org.hiero.mirror.common.converter.TopicMessageCodec;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
@@ -22,6 +23,7 @@ import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @AutoConfigureBefore(RedisAutoConfiguration.class)
@@ -37,7 +39,28 @@ class RedisConfiguration {
 
         var objectMapper = new ObjectMapper(new MessagePackFactory());
         objectMapper.registerModule(module);
-        return new Jackson2JsonRedisSerializer<>(objectMapper, TopicMessage.class);
+        var jacksonSerializer = new Jackson2JsonRedisSerializer<>(objectMapper, TopicMessage.class);
+
+        // Decode the importer's compact binary encoding without Jackson, falling back to MessagePack for older versions
+        return new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(TopicMessage value) {
+                return value != null ? TopicMessageCodec.encode(value) : jacksonSerializer.serialize(null);
+            }
+
+            @Override
+            public TopicMessage deserialize(byte[] bytes) {
+                if (!TopicMessageCodec.canDecode(bytes)) {
+                    return jacksonSerializer.deserialize(bytes);
+                }
+
+                try {
+                    return TopicMessageCodec.decode(bytes);
+                } catch (IllegalArgumentException e) {
+                    throw new SerializationException("Unable to decode topic message", e);
+                }
+            }
+        };
     }
 
     @Bean
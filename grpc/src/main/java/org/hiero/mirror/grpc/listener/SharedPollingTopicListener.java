@@ -2,30 +2,42 @@
 
 package org.hiero.mirror.grpc.listener;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.Data;
+import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.hiero.mirror.grpc.repository.TopicMessageRepository;
 import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 import reactor.retry.Repeat;
 import reactor.util.retry.Retry;
 
+/**
+ * Polls the database for new messages across all topics and routes each one only to the subscribers of its topic. The
+ * poller runs while there's at least one subscriber.
+ */
 @Named
 public class SharedPollingTopicListener extends SharedTopicListener {
 
+    private final Map<EntityId, TopicSink> topicSinks = new ConcurrentHashMap<>();
     private final TopicMessageRepository topicMessageRepository;
     private final Flux<TopicMessage> topicMessages;
+    private Disposable dispatcher;
 
     public SharedPollingTopicListener(
             ListenerProperties listenerProperties,
@@ -52,7 +64,46 @@ public class SharedPollingTopicListener extends SharedTopicListener {
 
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
-        return topicMessages;
+        var topicId = filter.getTopicId();
+        return Flux.defer(() -> subscribe(topicId)).doFinally(s -> unsubscribe(topicId));
+    }
+
+    @VisibleForTesting
+    int getTopicCount() {
+        return topicSinks.size();
+    }
+
+    private void dispatch(TopicMessage topicMessage) {
+        var topicSink = topicSinks.get(topicMessage.getTopicId());
+        if (topicSink != null) {
+            topicSink.getSink().tryEmitNext(topicMessage);
+        }
+    }
+
+    private synchronized Flux<TopicMessage> subscribe(EntityId topicId) {
+        var topicSink = topicSinks.computeIfAbsent(topicId, k -> new TopicSink());
+        topicSink.setSubscribers(topicSink.getSubscribers() + 1);
+
+        if (dispatcher == null) {
+            dispatcher = topicMessages.subscribe(this::dispatch);
+        }
+
+        return topicSink.getSink().asFlux();
+    }
+
+    private synchronized void unsubscribe(EntityId topicId) {
+        var topicSink = topicSinks.get(topicId);
+        if (topicSink != null) {
+            topicSink.setSubscribers(topicSink.getSubscribers() - 1);
+            if (topicSink.getSubscribers() <= 0) {
+                topicSinks.remove(topicId);
+            }
+        }
+
+        if (topicSinks.isEmpty() && dispatcher != null) {
+            dispatcher.dispose();
+            dispatcher = null;
+        }
     }
 
     private Flux<TopicMessage> poll(PollingContext context) {
@@ -68,6 +119,14 @@ public class SharedPollingTopicListener extends SharedTopicListener {
                 .doOnSubscribe(context::onPollStart);
     }
 
+    @Data
+    private static class TopicSink {
+
+        // Subscribers always have demand due to the per subscriber backpressure buffer in SharedTopicListener
+        private final Sinks.Many<TopicMessage> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+
     @Data
     private class PollingContext {
 
@@ -6,9 +6,21 @@ import java.util.stream.Stream;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 
 public interface TopicMessageRepositoryCustom {
 
     @Transactional(readOnly = true)
     Stream<TopicMessage> findByFilter(TopicMessageFilter filter);
+
+    /**
+     * Streams the topic messages matching the filter in batches, querying the next batch after the last message of the
+     * previous one only as the subscriber requests more. Each batch is a separate short query, so no connection or
+     * transaction is held while a slow subscriber consumes the messages.
+     *
+     * @param filter    the topic message filter
+     * @param fetchSize the number of messages to query at a time
+     * @return the matching topic messages in consensus order
+     */
+    Flux<TopicMessage> streamByFilter(TopicMessageFilter filter, int fetchSize);
 }
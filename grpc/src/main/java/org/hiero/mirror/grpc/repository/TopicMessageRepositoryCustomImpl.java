@@ -9,12 +9,15 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.jpa.HibernateHints;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Flux;
 
 @CustomLog
 @Named
@@ -28,6 +31,7 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
     private static final String TOPIC_MESSAGES_BY_ID_QUERY_HINT = "set local random_page_cost = 0";
 
     private final EntityManager entityManager;
+    private final TransactionOperations transactionOperations;
 
     @Override
     public Stream<TopicMessage> findByFilter(TopicMessageFilter filter) {
@@ -59,4 +63,30 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
 
         return typedQuery.getResultList().stream(); // getResultStream()'s cursor doesn't work with reactive streams
     }
+
+    @Override
+    public Flux<TopicMessage> streamByFilter(TopicMessageFilter filter, int fetchSize) {
+        // The state is the filter for the remaining messages, or null once they've all been retrieved
+        return Flux.<List<TopicMessage>, TopicMessageFilter>generate(() -> filter, (remaining, sink) -> {
+                    if (remaining == null) {
+                        sink.complete();
+                        return null;
+                    }
+
+                    long limit = remaining.hasLimit() ? Math.min(remaining.getLimit(), fetchSize) : fetchSize;
+                    var batchFilter = remaining.toBuilder().limit(limit).build();
+                    var batch = transactionOperations.execute(t -> findByFilter(batchFilter).toList());
+                    sink.next(batch);
+
+                    if (batch.size() < limit || remaining.getLimit() == batch.size()) {
+                        return null;
+                    }
+
+                    return remaining.toBuilder()
+                            .limit(remaining.hasLimit() ? remaining.getLimit() - batch.size() : remaining.getLimit())
+                            .startTime(batch.getLast().getConsensusTimestamp() + 1)
+                            .build();
+                })
+                .concatMapIterable(batch -> batch, 1);
+    }
 }
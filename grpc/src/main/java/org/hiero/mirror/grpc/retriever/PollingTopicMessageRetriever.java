@@ -2,20 +2,26 @@
 
 package org.hiero.mirror.grpc.retriever;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Stopwatch;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
 import lombok.Data;
+import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.hiero.mirror.grpc.repository.TopicMessageRepository;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 import reactor.retry.Jitter;
@@ -26,6 +32,10 @@ import reactor.util.retry.Retry;
 @CustomLog
 public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
+    // Approximate per message overhead of the object headers, boxed fields and list slot
+    private static final int MESSAGE_OVERHEAD = 128;
+
+    private final AsyncCache<PageKey, List<TopicMessage>> cache;
     private final ObservationRegistry observationRegistry;
     private final RetrieverProperties retrieverProperties;
     private final TopicMessageRepository topicMessageRepository;
@@ -41,6 +51,13 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         int threadCount =
                 retrieverProperties.getThreadMultiplier() * Runtime.getRuntime().availableProcessors();
         scheduler = Schedulers.newParallel("retriever", threadCount, true);
+
+        var cacheProperties = retrieverProperties.getCache();
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheProperties.getExpireAfterWrite())
+                .maximumWeight(cacheProperties.getMaxSize().toBytes())
+                .weigher(PollingTopicMessageRetriever::weigh)
+                .buildAsync();
     }
 
     @Override
@@ -76,10 +93,107 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
         var newFilter = filter.toBuilder().limit(pageSize).startTime(startTime).build();
 
+        // Cached pages are shared as lists held in memory, so the cache takes precedence over streaming in batches
+        if (retrieverProperties.getCache().isEnabled()) {
+            return getCachedPage(context, newFilter);
+        }
+
         log.debug("Executing query: {}", newFilter);
+        int fetchSize = retrieverProperties.getFetchSize();
+
+        if (fetchSize > 0) {
+            // Blocking batch queries happen on demand, so keep both the query and later requests off the caller thread
+            return topicMessageRepository.streamByFilter(newFilter, fetchSize).subscribeOn(scheduler);
+        }
+
         return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
     }
 
+    /**
+     * Retrieves a page through the shared cache so that concurrent subscribers reading the same range coalesce into a
+     * single database query. Pages always hold the context's maximum page size and are trimmed to the start time and
+     * limit of the subscriber afterward, so subscribers with different limits share them. The first page starts at the
+     * beginning of the aligned time bucket of the subscriber's start time, and every later page starts right after the
+     * last message of the previous page. This way subscribers whose start times fall in the same bucket read the same
+     * pages from the start, and their page boundaries stay the same afterward.
+     */
+    private Flux<TopicMessage> getCachedPage(PollingContext context, TopicMessageFilter filter) {
+        long startTime = filter.getStartTime();
+        long pageStart = context.getLast() == null ? align(startTime) : startTime;
+        int pageSize = context.getMaxPageSize();
+
+        return getCachedPage(filter, pageStart, pageSize)
+                .flatMap(page -> {
+                    // The bucket has more messages before the start time than fit in a page
+                    if (pageStart < startTime
+                            && page.size() >= pageSize
+                            && page.getLast().getConsensusTimestamp() < startTime) {
+                        return getCachedPage(filter, startTime, pageSize);
+                    }
+
+                    return Mono.just(page);
+                })
+                .flatMapIterable(page -> {
+                    var messages = page.stream()
+                            .filter(t -> t.getConsensusTimestamp() >= startTime)
+                            .limit(filter.getLimit())
+                            .toList();
+                    // Count the skipped messages, so completion still depends on whether the page was full
+                    context.getPageSize().addAndGet(page.size() - messages.size());
+                    return messages;
+                });
+    }
+
+    /**
+     * Only full pages are retained, since a partial page may still grow as new messages reach consensus, while a full
+     * page covers a range that can no longer change.
+     */
+    private Mono<List<TopicMessage>> getCachedPage(TopicMessageFilter filter, long startTime, int pageSize) {
+        var key = new PageKey(filter.getTopicId(), startTime, filter.getEndTime(), pageSize);
+        var future = cache.get(
+                key,
+                (k, executor) -> load(filter.toBuilder()
+                        .limit(pageSize)
+                        .startTime(startTime)
+                        .build()));
+        return Mono.fromFuture(future, true).doOnNext(page -> {
+            if (page.size() < pageSize) {
+                cache.asMap().remove(key, future);
+            }
+        });
+    }
+
+    private long align(long startTime) {
+        long alignment = retrieverProperties.getCache().getAlignment().toNanos();
+        return alignment > 0 ? startTime - Math.floorMod(startTime, alignment) : startTime;
+    }
+
+    private CompletableFuture<List<TopicMessage>> load(TopicMessageFilter filter) {
+        log.debug("Executing query: {}", filter);
+        return Mono.fromCallable(() -> topicMessageRepository.findByFilter(filter).toList())
+                .subscribeOn(scheduler)
+                .toFuture();
+    }
+
+    private static int weigh(PageKey key, List<TopicMessage> page) {
+        long size = MESSAGE_OVERHEAD;
+
+        for (var topicMessage : page) {
+            size += MESSAGE_OVERHEAD
+                    + length(topicMessage.getInitialTransactionId())
+                    + length(topicMessage.getMessage())
+                    + length(topicMessage.getRunningHash());
+        }
+
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private record PageKey(EntityId topicId, long startTime, Long endTime, int pageSize) {}
+
     @Data
     private class PollingContext {
 
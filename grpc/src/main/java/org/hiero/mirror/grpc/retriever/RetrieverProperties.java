@@ -9,6 +9,7 @@ import java.time.Duration;
 import lombok.Data;
 import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @Data
@@ -16,8 +17,15 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hiero.mirror.grpc.retriever")
 public class RetrieverProperties {
 
+    @NotNull
+    @Valid
+    private CacheProperties cache = new CacheProperties();
+
     private boolean enabled = true;
 
+    @Min(0)
+    private int fetchSize = 0;
+
     @Min(32)
     private int maxPageSize = 1000;
 
@@ -34,6 +42,23 @@ public class RetrieverProperties {
     @Valid
     private UnthrottledProperties unthrottled = new UnthrottledProperties();
 
+    @Data
+    @Validated
+    public static class CacheProperties {
+
+        @NotNull
+        private Duration alignment = Duration.ofSeconds(1L);
+
+        private boolean enabled = false;
+
+        @DurationMin(seconds = 1)
+        @NotNull
+        private Duration expireAfterWrite = Duration.ofMinutes(5L);
+
+        @NotNull
+        private DataSize maxSize = DataSize.ofMegabytes(64L);
+    }
+
     @Data
     @Validated
     public static class UnthrottledProperties {
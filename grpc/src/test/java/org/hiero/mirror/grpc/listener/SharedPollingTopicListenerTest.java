@@ -2,11 +2,65 @@
 
 package org.hiero.mirror.grpc.listener;
 
-@SuppressWarnings("java:S2187") // Ignore no tests in file warning
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.annotation.Resource;
+import java.time.Duration;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
 class SharedPollingTopicListenerTest extends AbstractSharedTopicListenerTest {
 
+    @Resource
+    private SharedPollingTopicListener sharedPollingTopicListener;
+
     @Override
     protected ListenerProperties.ListenerType getType() {
         return ListenerProperties.ListenerType.SHARED_POLL;
     }
+
+    @Test
+    void routesByTopic() {
+        var topic1 = domainBuilder.entityId();
+        var topic2 = domainBuilder.entityId();
+        var topic3 = domainBuilder.entityId();
+        Flux<TopicMessage> generator = Flux.concat(
+                domainBuilder.topicMessage(t -> t.topicId(topic3).sequenceNumber(1).consensusTimestamp(future + 1L)),
+                domainBuilder.topicMessage(t -> t.topicId(topic1).sequenceNumber(1).consensusTimestamp(future + 2L)),
+                domainBuilder.topicMessage(t -> t.topicId(topic2).sequenceNumber(1).consensusTimestamp(future + 3L)),
+                domainBuilder.topicMessage(t -> t.topicId(topic1).sequenceNumber(2).consensusTimestamp(future + 4L)));
+        var filter1 = TopicMessageFilter.builder().startTime(0).topicId(topic1).build();
+        var filter2 = TopicMessageFilter.builder().startTime(0).topicId(topic2).build();
+
+        var stepVerifier1 = sharedPollingTopicListener
+                .listen(filter1)
+                .map(TopicMessage::getConsensusTimestamp)
+                .as(StepVerifier::create)
+                .expectNext(future + 2L, future + 4L)
+                .thenCancel()
+                .verifyLater();
+        var stepVerifier2 = sharedPollingTopicListener
+                .listen(filter2)
+                .map(TopicMessage::getConsensusTimestamp)
+                .as(StepVerifier::create)
+                .expectNext(future + 3L)
+                .thenCancel()
+                .verifyLater();
+
+        sharedPollingTopicListener
+                .listen(filter1)
+                .as(StepVerifier::create)
+                .then(() -> assertThat(sharedPollingTopicListener.getTopicCount()).isEqualTo(2))
+                .then(() -> publish(generator))
+                .expectNextCount(2)
+                .thenCancel()
+                .verify(Duration.ofSeconds(2));
+
+        stepVerifier1.verify(Duration.ofSeconds(2));
+        stepVerifier2.verify(Duration.ofSeconds(2));
+        assertThat(sharedPollingTopicListener.getTopicCount()).isZero();
+    }
 }
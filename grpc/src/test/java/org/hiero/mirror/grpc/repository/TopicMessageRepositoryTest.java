@@ -4,6 +4,7 @@ package org.hiero.mirror.grpc.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.entity.EntityId;
@@ -14,6 +15,7 @@ import org.hiero.mirror.grpc.GrpcIntegrationTest;
 import org.hiero.mirror.grpc.domain.ReactiveDomainBuilder;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
 
 @RequiredArgsConstructor
 class TopicMessageRepositoryTest extends GrpcIntegrationTest {
@@ -110,6 +112,76 @@ class TopicMessageRepositoryTest extends GrpcIntegrationTest {
         assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1);
     }
 
+    @Test
+    void streamByFilter() {
+        // given
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        var topicMessage2 = domainBuilder.topicMessage().block();
+        var topicMessage3 = domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage(t -> t.topicId(EntityId.of(-1))).block();
+        var filter = TopicMessageFilter.builder()
+                .endTime(topicMessage3.getConsensusTimestamp())
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+        var filterWithLimit = filter.toBuilder().endTime(null).limit(3).build();
+
+        // when, then
+        StepVerifier.create(topicMessageRepository.streamByFilter(filter, 1))
+                .expectNext(topicMessage1, topicMessage2)
+                .expectComplete()
+                .verify();
+        StepVerifier.create(topicMessageRepository.streamByFilter(filterWithLimit, 2))
+                .expectNext(topicMessage1, topicMessage2, topicMessage3)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void streamByFilterNullColumns() {
+        // given
+        var topicMessage = domainBuilder
+                .topicMessage(t -> t.chunkNum(null).chunkTotal(null).validStartTimestamp(null))
+                .block();
+        var filter = TopicMessageFilter.builder()
+                .startTime(0)
+                .topicId(topicMessage.getTopicId())
+                .build();
+
+        // when, then
+        StepVerifier.create(topicMessageRepository.streamByFilter(filter, 2))
+                .assertNext(t -> assertThat(t)
+                        .returns(null, TopicMessage::getChunkNum)
+                        .returns(null, TopicMessage::getChunkTotal)
+                        .returns(null, TopicMessage::getValidStartTimestamp))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void streamByFilterOnDemand() {
+        // given
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        var topicMessage2 = domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+        var filter = TopicMessageFilter.builder()
+                .startTime(0)
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        // when, then
+        StepVerifier.create(topicMessageRepository.streamByFilter(filter, 1), 0)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenRequest(1)
+                .expectNext(topicMessage1)
+                .thenRequest(1)
+                .expectNext(topicMessage2)
+                .thenCancel()
+                .verify();
+    }
+
     @Test
     void findLatest() {
         // given
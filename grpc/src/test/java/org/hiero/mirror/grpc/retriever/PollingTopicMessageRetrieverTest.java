@@ -13,6 +13,7 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.grpc.GrpcIntegrationTest;
 import org.hiero.mirror.grpc.domain.ReactiveDomainBuilder;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.hiero.mirror.grpc.repository.TopicMessageRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,7 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
     private final ReactiveDomainBuilder domainBuilder;
     private final PollingTopicMessageRetriever pollingTopicMessageRetriever;
     private final RetrieverProperties retrieverProperties;
+    private final TopicMessageRepository topicMessageRepository;
     private final long now = DomainUtils.now();
 
     private long unthrottledMaxPolls;
@@ -162,6 +164,96 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
         restoreMaxPageSize(throttle, maxPageSize);
     }
 
+    @Test
+    void cache() {
+        int maxPageSize = overrideMaxPageSize(true, 2);
+        retrieverProperties.getCache().setEnabled(true);
+
+        domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
+
+        StepVerifier.withVirtualTime(() ->
+                        pollingTopicMessageRetriever.retrieve(filter, true).map(TopicMessage::getSequenceNumber))
+                .thenAwait(WAIT)
+                .expectNext(1L, 2L, 3L)
+                .expectComplete()
+                .verify(WAIT);
+
+        // The full first page is served from the cache while the partial last page is queried again
+        topicMessageRepository.deleteAll();
+        StepVerifier.withVirtualTime(() ->
+                        pollingTopicMessageRetriever.retrieve(filter, true).map(TopicMessage::getSequenceNumber))
+                .thenAwait(WAIT)
+                .expectNext(1L, 2L)
+                .expectComplete()
+                .verify(WAIT);
+
+        retrieverProperties.getCache().setEnabled(false);
+        restoreMaxPageSize(true, maxPageSize);
+    }
+
+    @Test
+    void cacheAlignedStartTime() {
+        int maxPageSize = overrideMaxPageSize(true, 2);
+        retrieverProperties.getCache().setEnabled(true);
+        long bucket = now - Math.floorMod(now, Duration.ofSeconds(1L).toNanos());
+
+        domainBuilder.topicMessage(t -> t.consensusTimestamp(bucket + 10L)).block();
+        domainBuilder.topicMessage(t -> t.consensusTimestamp(bucket + 20L)).block();
+        domainBuilder.topicMessage(t -> t.consensusTimestamp(bucket + 30L)).block();
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(bucket).topicId(TOPIC_ID).build();
+
+        StepVerifier.withVirtualTime(() ->
+                        pollingTopicMessageRetriever.retrieve(filter, true).map(TopicMessage::getSequenceNumber))
+                .thenAwait(WAIT)
+                .expectNext(1L, 2L, 3L)
+                .expectComplete()
+                .verify(WAIT);
+
+        // A later start time in the same bucket reads the cached first page and skips the messages before it
+        topicMessageRepository.deleteAll();
+        var laterFilter = filter.toBuilder().startTime(bucket + 15L).build();
+        StepVerifier.withVirtualTime(() ->
+                        pollingTopicMessageRetriever.retrieve(laterFilter, true).map(TopicMessage::getSequenceNumber))
+                .thenAwait(WAIT)
+                .expectNext(2L)
+                .expectComplete()
+                .verify(WAIT);
+
+        retrieverProperties.getCache().setEnabled(false);
+        restoreMaxPageSize(true, maxPageSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void fetchSize(boolean throttle) {
+        int maxPageSize = overrideMaxPageSize(throttle, 2);
+        retrieverProperties.setFetchSize(1);
+
+        domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
+
+        StepVerifier.withVirtualTime(() ->
+                        pollingTopicMessageRetriever.retrieve(filter, throttle).map(TopicMessage::getSequenceNumber))
+                .thenAwait(WAIT)
+                .expectNext(1L, 2L, 3L)
+                .expectComplete()
+                .verify(WAIT);
+
+        retrieverProperties.setFetchSize(0);
+        restoreMaxPageSize(throttle, maxPageSize);
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void startTimeBefore(boolean throttle) {
@@ -11,6 +11,7 @@ plugins {
 
 dependencies {
     val blockNodeVersion: String by rootProject.extra
+    val testClasses by configurations.registering
 
     implementation(platform("software.amazon.awssdk:bom"))
     implementation(project(":common"))
@@ -66,6 +67,8 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:postgresql")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    testClasses(sourceSets["test"].output)
 }
 
 protobuf {
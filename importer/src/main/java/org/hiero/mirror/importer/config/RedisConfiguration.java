@@ -6,9 +6,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.hiero.mirror.common.converter.EntityIdDeserializer;
 import org.hiero.mirror.common.converter.EntityIdSerializer;
+import org.hiero.mirror.common.converter.TopicMessageCodec;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.StreamMessage;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.importer.parser.record.entity.redis.RedisProperties;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
@@ -25,6 +29,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
 
 @AutoConfigureBefore(RedisAutoConfiguration.class)
 @AutoConfigureAfter({MetricsAutoConfiguration.class, CompositeMeterRegistryAutoConfiguration.class})
@@ -32,29 +37,60 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 class RedisConfiguration {
 
     @Bean
-    RedisSerializer<StreamMessage> redisSerializer() {
+    RedisSerializer<StreamMessage> redisSerializer(ObjectProvider<RedisProperties> redisProperties) {
+        return redisSerializer(redisProperties.getIfAvailable(RedisProperties::new).isTopicMessageCodec());
+    }
+
+    static RedisSerializer<StreamMessage> redisSerializer(boolean topicMessageCodec) {
         var module = new SimpleModule();
         module.addDeserializer(EntityId.class, EntityIdDeserializer.INSTANCE);
         module.addSerializer(EntityIdSerializer.INSTANCE);
 
         var objectMapper = new ObjectMapper(new MessagePackFactory());
         objectMapper.registerModule(module);
+        var jacksonSerializer = new Jackson2JsonRedisSerializer<>(objectMapper, StreamMessage.class);
+
+        // Topic messages can use a compact binary encoding. Older gRPC versions can only decode MessagePack, so it's
+        // opt-in until they're upgraded, but both encodings are always accepted
+        return new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(StreamMessage value) {
+                if (topicMessageCodec && value instanceof TopicMessage topicMessage) {
+                    return TopicMessageCodec.encode(topicMessage);
+                }
+
+                return jacksonSerializer.serialize(value);
+            }
+
+            @Override
+            public StreamMessage deserialize(byte[] bytes) {
+                if (!TopicMessageCodec.canDecode(bytes)) {
+                    return jacksonSerializer.deserialize(bytes);
+                }
 
-        return new Jackson2JsonRedisSerializer<>(objectMapper, StreamMessage.class);
+                try {
+                    return TopicMessageCodec.decode(bytes);
+                } catch (IllegalArgumentException e) {
+                    throw new SerializationException("Unable to decode topic message", e);
+                }
+            }
+        };
     }
 
     @Bean
-    RedisOperations<String, StreamMessage> redisOperations(RedisConnectionFactory redisConnectionFactory) {
+    RedisOperations<String, StreamMessage> redisOperations(
+            RedisConnectionFactory redisConnectionFactory, RedisSerializer<StreamMessage> redisSerializer) {
         RedisTemplate<String, StreamMessage> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory);
-        redisTemplate.setValueSerializer(redisSerializer());
+        redisTemplate.setValueSerializer(redisSerializer);
         return redisTemplate;
     }
 
     @Bean
-    ReactiveRedisOperations<String, StreamMessage> reactiveRedisOperations(ReactiveRedisConnectionFactory factory) {
+    ReactiveRedisOperations<String, StreamMessage> reactiveRedisOperations(
+            ReactiveRedisConnectionFactory factory, RedisSerializer<StreamMessage> redisSerializer) {
         var serializationContext = RedisSerializationContext.<String, StreamMessage>newSerializationContext(
-                        redisSerializer())
+                        redisSerializer)
                 .build();
         return new ReactiveRedisTemplate<>(factory, serializationContext);
     }
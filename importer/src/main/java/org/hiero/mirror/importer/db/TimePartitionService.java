@@ -5,6 +5,12 @@ package org.hiero.mirror.importer.db;
 import java.util.List;
 
 public interface TimePartitionService {
+
+    /**
+     * Evict all cached time partitions so that subsequent calls reflect partitions that were created or removed.
+     */
+    void evict();
+
     /**
      * Get the time partitions overlapping the range [fromTimestamp, toTimestamp]
      *
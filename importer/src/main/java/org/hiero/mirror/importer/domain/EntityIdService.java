@@ -4,9 +4,11 @@ package org.hiero.mirror.importer.domain;
 
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.Collection;
 import java.util.Optional;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
 
 /**
  * This service is used to centralize the conversion logic from protobuf-based HAPI entities to its internal EntityId
@@ -57,6 +59,14 @@ public interface EntityIdService {
      */
     Optional<EntityId> lookup(ContractID... contractIds);
 
+    /**
+     * Resolves the aliases and EVM addresses referenced by the record items in bulk and caches the results so that the
+     * lookups made while processing the record items don't each have to query the database.
+     *
+     * @param recordItems The record items about to be processed
+     */
+    void warmUp(Collection<RecordItem> recordItems);
+
     /**
      * Used to notify the system of new aliases / evm addresses for potential use in future lookups.
      *
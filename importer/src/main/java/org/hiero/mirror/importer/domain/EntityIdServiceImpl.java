@@ -13,7 +13,10 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.GeneratedMessage;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import jakarta.inject.Named;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
@@ -23,6 +26,7 @@ import org.apache.commons.codec.binary.Hex;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.entity.EntityType;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.common.exception.InvalidEntityException;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.repository.EntityRepository;
@@ -133,6 +137,81 @@ public class EntityIdServiceImpl implements EntityIdService {
         return EMPTY;
     }
 
+    @Override
+    public void warmUp(Collection<RecordItem> recordItems) {
+        var aliases = new HashSet<ByteString>();
+        var evmAddresses = new HashSet<ByteString>();
+
+        for (var recordItem : recordItems) {
+            var body = recordItem.getTransactionBody();
+
+            if (body.hasCryptoTransfer()) {
+                addAliases(body.getCryptoTransfer(), aliases, evmAddresses);
+            } else if (body.hasContractCall()) {
+                var contractId = body.getContractCall().getContractID();
+                if (contractId.getContractCase() == ContractID.ContractCase.EVM_ADDRESS) {
+                    addEvmAddress(contractId.getEvmAddress(), evmAddresses);
+                }
+            }
+        }
+
+        if (aliases.isEmpty() && evmAddresses.isEmpty()) {
+            return;
+        }
+
+        var mappings = entityRepository.findByAliasesAndEvmAddresses(toArray(aliases), toArray(evmAddresses));
+        // Only cache the matches so misses are still looked up and reported as they're encountered
+        mappings.forEach(m -> cache.put(fromBytes(m.getAlias()), Optional.of(EntityId.of(m.getId()))));
+        log.debug(
+                "Resolved {} of {} aliases and EVM addresses in bulk",
+                mappings.size(),
+                aliases.size() + evmAddresses.size());
+    }
+
+    private void addAliases(
+            CryptoTransferTransactionBody cryptoTransfer,
+            Collection<ByteString> aliases,
+            Collection<ByteString> evmAddresses) {
+        for (var accountAmount : cryptoTransfer.getTransfers().getAccountAmountsList()) {
+            addAlias(accountAmount.getAccountID(), aliases, evmAddresses);
+        }
+
+        for (var tokenTransferList : cryptoTransfer.getTokenTransfersList()) {
+            for (var accountAmount : tokenTransferList.getTransfersList()) {
+                addAlias(accountAmount.getAccountID(), aliases, evmAddresses);
+            }
+
+            for (var nftTransfer : tokenTransferList.getNftTransfersList()) {
+                addAlias(nftTransfer.getSenderAccountID(), aliases, evmAddresses);
+                addAlias(nftTransfer.getReceiverAccountID(), aliases, evmAddresses);
+            }
+        }
+    }
+
+    private void addAlias(AccountID accountId, Collection<ByteString> aliases, Collection<ByteString> evmAddresses) {
+        if (accountId.getAccountCase() != AccountID.AccountCase.ALIAS) {
+            return;
+        }
+
+        var alias = accountId.getAlias();
+        if (alias.size() == EVM_ADDRESS_LENGTH) {
+            addEvmAddress(alias, evmAddresses);
+        } else if (cache.get(alias) == null) {
+            aliases.add(alias);
+        }
+    }
+
+    // Long-zero EVM addresses are converted without a query so only the others need to be resolved
+    private void addEvmAddress(ByteString evmAddress, Collection<ByteString> evmAddresses) {
+        if (cache.get(evmAddress) == null && DomainUtils.fromEvmAddress(toBytes(evmAddress)) == null) {
+            evmAddresses.add(evmAddress);
+        }
+    }
+
+    private static byte[][] toArray(Collection<ByteString> aliases) {
+        return aliases.stream().map(DomainUtils::toBytes).toArray(byte[][]::new);
+    }
+
     @Override
     public void notify(Entity entity) {
         if (entity == null || (entity.getDeleted() != null && entity.getDeleted())) {
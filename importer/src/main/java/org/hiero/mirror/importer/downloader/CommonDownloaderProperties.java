@@ -70,6 +70,10 @@ public class CommonDownloaderProperties {
 
     private String pathPrefix = "";
 
+    @Max(32)
+    @Min(0)
+    private int prefetch = 0;
+
     private String region = "us-east-1";
 
     private String secretKey;
@@ -21,11 +21,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -53,6 +56,7 @@ import org.hiero.mirror.importer.util.Utility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem> {
@@ -278,41 +282,91 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         var nodeIds = consensusNodeService.getNodes().stream()
                 .map(ConsensusNode::getNodeId)
                 .collect(Collectors.toSet());
+        var sigFilenames = new ArrayList<>(sigFilesMap.keySet());
+        var prefetches = new HashMap<StreamFilename, Prefetch>();
 
-        for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
-            if (ShutdownHelper.isStopping()) {
-                return;
-            }
+        try {
+            for (int i = 0; i < sigFilenames.size(); i++) {
+                if (ShutdownHelper.isStopping()) {
+                    return;
+                }
 
-            Instant startTime = Instant.now();
-            var sigFilename = sigFilenameIter.next();
-            var signatures = sigFilesMap.get(sigFilename);
+                prefetch(sigFilesMap, sigFilenames, i, prefetches);
+                Instant startTime = Instant.now();
+                var sigFilename = sigFilenames.get(i);
+                var signatures = sigFilesMap.get(sigFilename);
+                var prefetch = prefetches.remove(sigFilename);
+
+                try {
+                    nodeSignatureVerifier.verify(signatures);
+                } catch (SignatureVerificationException ex) {
+                    cancel(prefetch);
+                    var statusMapMessage = statusMap(signatures, nodeIds);
+                    if (i < sigFilenames.size() - 1) {
+                        log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
+                        continue;
+                    }
+
+                    throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
+                }
 
-            try {
-                nodeSignatureVerifier.verify(signatures);
-            } catch (SignatureVerificationException ex) {
-                var statusMapMessage = statusMap(signatures, nodeIds);
-                if (sigFilenameIter.hasNext()) {
-                    log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
-                    continue;
+                boolean valid = verifySignatures(signatures, prefetch);
+                cancel(prefetch);
+                if (!valid) {
+                    log.error("None of the data files could be verified, signatures: {}", signatures);
                 }
 
-                throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
+                streamVerificationMetric
+                        .tag("success", String.valueOf(valid))
+                        .register(meterRegistry)
+                        .record(Duration.between(startTime, Instant.now()));
             }
+        } finally {
+            prefetches.values().forEach(this::cancel);
+        }
+    }
 
-            boolean valid = verifySignatures(signatures);
-            if (!valid) {
-                log.error("None of the data files could be verified, signatures: {}", signatures);
+    /**
+     * Starts downloading the data files of the signature groups in the prefetch window ahead of their verification so
+     * that the object store round trips overlap with the verification and parsing of earlier files. Only the data file
+     * of the first signature in each group is prefetched since that's the one normally picked when consensus is
+     * reached. Signature verification and the hash chain checks still happen in order when the group is processed.
+     */
+    private void prefetch(
+            Multimap<StreamFilename, StreamFileSignature> sigFilesMap,
+            List<StreamFilename> sigFilenames,
+            int index,
+            Map<StreamFilename, Prefetch> prefetches) {
+        int end = Math.min(index + downloaderProperties.getCommon().getPrefetch(), sigFilenames.size());
+
+        for (int i = index; i < end; i++) {
+            var sigFilename = sigFilenames.get(i);
+            if (prefetches.containsKey(sigFilename)) {
+                continue;
             }
 
-            streamVerificationMetric
-                    .tag("success", String.valueOf(valid))
-                    .register(meterRegistry)
-                    .record(Duration.between(startTime, Instant.now()));
+            var signature = sigFilesMap.get(sigFilename).iterator().next();
+            var data = streamFileProvider
+                    .get(signature.getNode(), signature.getDataFilename())
+                    .toFuture();
+            prefetches.put(sigFilename, new Prefetch(signature, data));
+        }
+    }
+
+    private void cancel(Prefetch prefetch) {
+        if (prefetch != null) {
+            prefetch.data().cancel(true);
         }
     }
 
-    private boolean verifySignatures(Collection<StreamFileSignature> signatures) {
+    private StreamFileData download(StreamFileSignature signature, Prefetch prefetch) {
+        var streamFileData = prefetch != null && prefetch.signature() == signature
+                ? Mono.fromFuture(prefetch.data())
+                : streamFileProvider.get(signature.getNode(), signature.getDataFilename());
+        return Objects.requireNonNull(streamFileData.block());
+    }
+
+    private boolean verifySignatures(Collection<StreamFileSignature> signatures, Prefetch prefetch) {
         Instant endDate = importerProperties.getEndDate();
 
         for (var signature : signatures) {
@@ -326,8 +380,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
             try {
                 var dataFilename = signature.getDataFilename();
                 var node = signature.getNode();
-                var streamFileData = Objects.requireNonNull(
-                        streamFileProvider.get(node, dataFilename).block());
+                var streamFileData = download(signature, prefetch);
                 T streamFile = streamFileReader.read(streamFileData);
                 streamFile.setNodeId(nodeId);
 
@@ -517,4 +570,6 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 totalStake);
         return nodes.subList(0, lastEntry);
     }
+
+    private record Prefetch(StreamFileSignature signature, CompletableFuture<StreamFileData> data) {}
 }
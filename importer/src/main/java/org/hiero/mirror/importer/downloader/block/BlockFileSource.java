@@ -13,6 +13,9 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
 import org.hiero.mirror.common.domain.StreamType;
 import org.hiero.mirror.importer.addressbook.ConsensusNode;
 import org.hiero.mirror.importer.addressbook.ConsensusNodeService;
@@ -25,6 +28,9 @@ import org.hiero.mirror.importer.exception.BlockStreamException;
 import org.hiero.mirror.importer.reader.block.BlockStream;
 import org.hiero.mirror.importer.reader.block.BlockStreamReader;
 import org.hiero.mirror.importer.util.Utility;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Named
 final class BlockFileSource extends AbstractBlockSource {
@@ -36,6 +42,9 @@ final class BlockFileSource extends AbstractBlockSource {
     private final Timer cloudStorageLatencyMetric;
     private final Timer downloadLatencyMetric;
 
+    private long averageBlockSize;
+    private int prefetchWindow;
+
     BlockFileSource(
             BlockStreamReader blockStreamReader,
             BlockStreamVerifier blockStreamVerifier,
@@ -71,10 +80,36 @@ final class BlockFileSource extends AbstractBlockSource {
         }
 
         var nodes = getRandomizedNodes();
+        var prefetches = prefetch(nodes, blockNumber, endBlockNumber);
+
+        try {
+            download(nodes, blockNumber);
+            int processed = 0;
+
+            for (var prefetch : prefetches) {
+                if (!process(prefetch)) {
+                    break;
+                }
+
+                processed++;
+            }
+
+            // Grow the window while every prefetched block is available and shrink it once the source is caught up
+            prefetchWindow = processed == prefetches.size()
+                    ? Math.min(Math.max(1, prefetchWindow * 2), properties.getPrefetch())
+                    : processed;
+        } catch (RuntimeException e) {
+            prefetchWindow = 0;
+            throw e;
+        } finally {
+            prefetches.forEach(prefetch -> prefetch.data().cancel(true));
+        }
+    }
+
+    private void download(List<ConsensusNode> nodes, long blockNumber) {
         var stopwatch = Stopwatch.createStarted();
         var streamFilename = StreamFilename.from(blockNumber);
         var filename = streamFilename.getFilename();
-        var streamPath = commonDownloaderProperties.getImporterProperties().getStreamPath();
         var timeout = commonDownloaderProperties.getTimeout();
 
         for (int i = 0; i < nodes.size() && timeout.isPositive(); i++) {
@@ -89,17 +124,7 @@ final class BlockFileSource extends AbstractBlockSource {
                 log.debug("Downloaded block file {} from node {}", filename, nodeId);
 
                 var blockStream = getBlockStream(blockFileData, nodeId);
-                var blockFile = onBlockStream(blockStream);
-
-                var cloudStorageTime = blockFileData.getLastModified();
-                var consensusEnd = Instant.ofEpochSecond(0, blockFile.getConsensusEnd());
-                cloudStorageLatencyMetric.record(Duration.between(consensusEnd, cloudStorageTime));
-                downloadLatencyMetric.record(Duration.between(consensusEnd, Instant.now()));
-
-                if (properties.isWriteFiles()) {
-                    Utility.archiveFile(blockFileData.getFilePath(), blockStream.bytes(), streamPath);
-                }
-
+                onDownload(new Download(blockFileData, blockStream));
                 return;
             } catch (TransientProviderException e) {
                 log.warn(
@@ -117,7 +142,90 @@ final class BlockFileSource extends AbstractBlockSource {
         throw new BlockStreamException("Failed to download block file " + filename);
     }
 
-    private BlockStream getBlockStream(StreamFileData blockFileData, long nodeId) throws IOException {
+    private void onDownload(Download download) {
+        var blockFileData = download.data();
+        var blockStream = download.blockStream();
+        var blockFile = onBlockStream(blockStream);
+
+        var cloudStorageTime = blockFileData.getLastModified();
+        var consensusEnd = Instant.ofEpochSecond(0, blockFile.getConsensusEnd());
+        cloudStorageLatencyMetric.record(Duration.between(consensusEnd, cloudStorageTime));
+        downloadLatencyMetric.record(Duration.between(consensusEnd, Instant.now()));
+
+        long size = blockStream.bytes().length;
+        averageBlockSize = averageBlockSize == 0 ? size : (averageBlockSize * 7 + size) / 8;
+
+        if (properties.isWriteFiles()) {
+            var streamPath = commonDownloaderProperties.getImporterProperties().getStreamPath();
+            Utility.archiveFile(blockFileData.getFilePath(), blockStream.bytes(), streamPath);
+        }
+    }
+
+    /**
+     * Starts downloading and decoding the blocks following the next block concurrently, so that their object store
+     * round trips overlap with the download and verification of the blocks before them. Each prefetched block is
+     * downloaded from the first node that has it. The window is limited by the configured prefetch count, by the
+     * number of average sized blocks that fit in the configured maximum size and by the end block number.
+     */
+    private List<Prefetch> prefetch(List<ConsensusNode> nodes, long blockNumber, Long endBlockNumber) {
+        long maxBlocksBySize = averageBlockSize > 0 ? properties.getPrefetchMaxSize().toBytes() / averageBlockSize : 1;
+        long window = Math.min(prefetchWindow, Math.max(1L, maxBlocksBySize));
+
+        if (endBlockNumber != null) {
+            window = Math.min(window, endBlockNumber - blockNumber);
+        }
+
+        var prefetches = new ArrayList<Prefetch>();
+
+        for (long next = blockNumber + 1; next <= blockNumber + window; next++) {
+            var streamFilename = StreamFilename.from(next);
+            var data = Flux.fromIterable(nodes)
+                    .concatMap(node -> streamFileProvider
+                            .get(node, streamFilename)
+                            .publishOn(Schedulers.parallel())
+                            .map(d -> new Download(d, getBlockStream(d, node.getNodeId())))
+                            .onErrorResume(e -> {
+                                log.debug(
+                                        "Unable to prefetch block file {} from node {}: {}",
+                                        streamFilename.getFilename(),
+                                        node.getNodeId(),
+                                        e.getMessage());
+                                return Mono.empty();
+                            }))
+                    .next()
+                    .toFuture();
+            prefetches.add(new Prefetch(streamFilename, data));
+        }
+
+        return prefetches;
+    }
+
+    private boolean process(Prefetch prefetch) {
+        var filename = prefetch.streamFilename().getFilename();
+
+        try {
+            var timeout = commonDownloaderProperties.getTimeout();
+            var download = prefetch.data().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            if (download == null) {
+                log.debug("Prefetched block file {} is not available", filename);
+                return false;
+            }
+
+            log.debug("Downloaded block file {} from node {}", filename, download.blockStream().nodeId());
+            onDownload(download);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Failed to process prefetched block file {}: {}", filename, e.getMessage());
+        }
+
+        return false;
+    }
+
+    @SneakyThrows(IOException.class)
+    private BlockStream getBlockStream(StreamFileData blockFileData, long nodeId) {
         try (var inputStream = blockFileData.getInputStream()) {
             var block = Block.parseFrom(inputStream);
             byte[] bytes = blockFileData.getBytes();
@@ -135,4 +243,8 @@ final class BlockFileSource extends AbstractBlockSource {
         Collections.shuffle(nodes);
         return nodes;
     }
+
+    private record Download(StreamFileData data, BlockStream blockStream) {}
+
+    private record Prefetch(StreamFilename streamFilename, CompletableFuture<Download> data) {}
 }
@@ -3,6 +3,8 @@
 package org.hiero.mirror.importer.downloader.block;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.util.Collection;
@@ -11,8 +13,11 @@ import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.transaction.BlockSourceType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DataSizeUnit;
 import org.springframework.data.util.Version;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.util.unit.DataUnit;
 import org.springframework.validation.annotation.Validated;
 
 @Component("blockProperties")
@@ -36,6 +41,14 @@ public class BlockProperties {
 
     private boolean persistBytes = false;
 
+    @Max(32)
+    @Min(0)
+    private int prefetch = 0;
+
+    @DataSizeUnit(DataUnit.MEGABYTES)
+    @NotNull
+    private DataSize prefetchMaxSize = DataSize.ofMegabytes(256);
+
     @NotNull
     private BlockSourceType sourceType = BlockSourceType.AUTO;
 
@@ -4,12 +4,19 @@ package org.hiero.mirror.importer.migration;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.BooleanUtils;
 import org.flywaydb.core.api.callback.Callback;
 import org.flywaydb.core.api.callback.Context;
@@ -31,6 +38,8 @@ import reactor.core.scheduler.Schedulers;
 @NullMarked
 abstract class AsyncJavaMigration<T> extends RepeatableMigration implements Callback {
 
+    static final String PARALLELISM_KEY = "parallelism";
+
     private static final String ASYNC_JAVA_MIGRATION_HISTORY_FIXED =
             """
             select exists(select * from flyway_schema_history where version in ('1.109.0', '2.14.0'))
@@ -42,6 +51,8 @@ abstract class AsyncJavaMigration<T> extends RepeatableMigration implements Call
             where table_schema = :schema and table_name = 'flyway_schema_history')
             """;
 
+    private static final String DEFAULT_PARALLELISM = "1";
+
     private static final String SELECT_LAST_CHECKSUM_SQL =
             """
             select checksum from flyway_schema_history
@@ -198,6 +209,19 @@ abstract class AsyncJavaMigration<T> extends RepeatableMigration implements Call
 
     protected abstract T getInitial();
 
+    /**
+     * Gets the independent shards of the key space to migrate, e.g. consensus timestamp ranges or time partitions. Each
+     * shard is migrated by calling {@link #migratePartial} from its initial value until it returns empty, and the
+     * shards are migrated concurrently up to the {@value #PARALLELISM_KEY} migration parameter. Every partial migration
+     * runs in its own transaction, so it should persist the progress of its shard in that transaction for the shards
+     * returned after a restart to resume from where they stopped.
+     *
+     * @return The initial values of the shards, defaulting to a single shard starting from {@link #getInitial()}
+     */
+    protected List<T> getShards() {
+        return List.of(getInitial());
+    }
+
     /**
      * Gets the success checksum to set for the migration in flyway schema history table. Note the checksum is required
      * to be positive.
@@ -211,26 +235,19 @@ abstract class AsyncJavaMigration<T> extends RepeatableMigration implements Call
     protected abstract TransactionOperations getTransactionOperations();
 
     protected void migrateAsync() {
-        log.info("Starting asynchronous migration");
+        var shards = getShards();
+        int parallelism = Math.min(getParallelism(), Math.max(shards.size(), 1));
+        log.info("Starting asynchronous migration of {} shards with parallelism {}", shards.size(), parallelism);
 
-        long count = 0;
+        var count = new AtomicLong();
         var stopwatch = Stopwatch.createStarted();
-        var last = Optional.of(getInitial());
-        long minutes = 1L;
 
         try {
-            do {
-                final var previous = last;
-                last = Objects.requireNonNullElse(
-                        getTransactionOperations().execute(t -> migratePartial(previous.get())), Optional.empty());
-                count++;
-
-                long elapsed = stopwatch.elapsed(TimeUnit.MINUTES);
-                if (elapsed >= minutes) {
-                    log.info("Completed iteration {} with last value: {}", count, last.orElse(null));
-                    minutes = elapsed + 1;
-                }
-            } while (last.isPresent());
+            if (parallelism == 1) {
+                shards.forEach(shard -> migrateShard(shard, count, stopwatch));
+            } else {
+                migrateShards(shards, parallelism, count, stopwatch);
+            }
 
             log.info("Successfully completed asynchronous migration with {} iterations in {}", count, stopwatch);
         } catch (Exception e) {
@@ -259,6 +276,11 @@ abstract class AsyncJavaMigration<T> extends RepeatableMigration implements Call
                 .subscribe();
     }
 
+    private int getParallelism() {
+        var parallelism = migrationProperties.getParams().getOrDefault(PARALLELISM_KEY, DEFAULT_PARALLELISM);
+        return Math.max(Integer.parseInt(parallelism), 1);
+    }
+
     private MapSqlParameterSource getSqlParamSource() {
         return new MapSqlParameterSource().addValue("description", getDescription());
     }
@@ -269,6 +291,58 @@ abstract class AsyncJavaMigration<T> extends RepeatableMigration implements Call
         return BooleanUtils.isTrue(exists);
     }
 
+    private long migrateShard(T shard, AtomicLong count, Stopwatch stopwatch) {
+        long iterations = 0;
+        var last = Optional.of(shard);
+        long minutes = stopwatch.elapsed(TimeUnit.MINUTES) + 1;
+
+        do {
+            final var previous = last;
+            last = Objects.requireNonNullElse(
+                    getTransactionOperations().execute(t -> migratePartial(previous.get())), Optional.empty());
+            count.incrementAndGet();
+            iterations++;
+
+            long elapsed = stopwatch.elapsed(TimeUnit.MINUTES);
+            if (elapsed >= minutes) {
+                log.info(
+                        "Completed iteration {} of shard {} with last value: {}", iterations, shard, last.orElse(null));
+                minutes = elapsed + 1;
+            }
+        } while (last.isPresent() && !Thread.currentThread().isInterrupted());
+
+        if (last.isPresent()) {
+            // The interrupt flag is left set. Fail so that the shard resumes from its checkpoint instead of succeeding
+            throw new CancellationException("Interrupted migrating shard " + shard + " at " + last.get());
+        }
+
+        return iterations;
+    }
+
+    private void migrateShards(List<T> shards, int parallelism, AtomicLong count, Stopwatch stopwatch) {
+        var threadFactory = Thread.ofPlatform().name(getClass().getSimpleName() + "-", 1).factory();
+        var executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+        var completionService = new ExecutorCompletionService<Long>(executor);
+
+        try {
+            shards.forEach(shard -> completionService.submit(() -> migrateShard(shard, count, stopwatch)));
+
+            for (int i = 0; i < shards.size(); i++) {
+                completionService.take().get();
+            }
+        } catch (ExecutionException e) {
+            // Stop the other shards so that each of them resumes from its last checkpoint on the next run
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdownNow();
+            executor.close();
+        }
+    }
+
     private boolean isAsyncJavaMigrationHistoryFixed() {
         var fixed = getJdbcOperations().queryForObject(ASYNC_JAVA_MIGRATION_HISTORY_FIXED, Boolean.class);
         return BooleanUtils.isTrue(fixed);
@@ -4,6 +4,8 @@ package org.hiero.mirror.importer.migration;
 
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -27,9 +29,18 @@ import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @Named
-final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
+final class ContractLogIndexMigration extends AsyncJavaMigration<ContractLogIndexMigration.Shard> {
 
     static final long INTERVAL = Duration.ofDays(7).toNanos();
+    static final long SHARD_SIZE = Duration.ofDays(91).toNanos();
+
+    private static final String CREATE_SHARD_TABLE =
+            """
+                    create table if not exists contract_log_index_migration_shard(
+                        lower_bound bigint primary key,
+                        upper_bound bigint not null
+                    );
+            """;
 
     private static final String CREATE_TEMPORARY_PROCESSED_RECORD_FILE_TABLE =
             """
@@ -47,11 +58,25 @@ final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
                     );
             """;
 
-    private static final String DROP_TEMPORARY_RECORD_FILE_TABLE =
+    private static final String DROP_TEMPORARY_TABLES =
             """
+                    drop table if exists contract_log_index_migration_shard;
                     drop table if exists processed_record_file_temp;
             """;
 
+    private static final String INSERT_SHARD =
+            "insert into contract_log_index_migration_shard(lower_bound, upper_bound) values (?, ?)";
+
+    private static final String SELECT_FIRST_RECORD_FILE_TIMESTAMP =
+            "select coalesce(min(consensus_end), 0) from record_file";
+
+    private static final String SELECT_SHARDS =
+            """
+                    select lower_bound, upper_bound
+                    from contract_log_index_migration_shard
+                    order by lower_bound desc;
+            """;
+
     private static final String SELECT_RECORD_FILES_MIN_AND_MAX_TIMESTAMP =
             """
                     select consensus_start as min_consensus_timestamp, max_consensus_timestamp
@@ -159,16 +184,21 @@ final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
                     insert into contract_log
                     select * from contract_log_migration;
 
-                    -- Save the timestamp from where to resume the migration if necessary.
-                    insert into processed_record_file_temp(consensus_end)
-                    values(:consensusStart);
+                    -- Save the timestamp from where to resume the shard if necessary.
+                    update contract_log_index_migration_shard
+                    set upper_bound = :checkpoint
+                    where lower_bound = :shard;
 
                     commit;
             """;
 
+    private static final String UPDATE_SHARD =
+            "update contract_log_index_migration_shard set upper_bound = ? where lower_bound = ?";
+
     private static final String V2_PROPERTY_MAX_INTERMEDIATE_RESULTS = "set citus.max_intermediate_result_size = -1;";
 
     private static final RowMapper<RecordFileSlice> ROW_MAPPER = new DataClassRowMapper<>(RecordFileSlice.class);
+    private static final RowMapper<Shard> SHARD_ROW_MAPPER = new DataClassRowMapper<>(Shard.class);
 
     @Getter(lazy = true)
     private final TransactionOperations transactionOperations = transactionOperations();
@@ -192,33 +222,81 @@ final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
         return "Recalculate contract log indexes on block level.";
     }
 
+    /**
+     * Gets the range of record files to migrate, resuming from the progress saved by versions that migrated it in a
+     * single shard.
+     */
     @Override
-    protected Long getInitial() {
+    protected Shard getInitial() {
         log.info("Create table processed_record_file_temp if not exists.");
         getJdbcOperations().execute(CREATE_TEMPORARY_PROCESSED_RECORD_FILE_TABLE);
 
         final var endTimestamp = getJdbcOperations().queryForObject(SELECT_LAST_PROCESSED_TIMESTAMP, Long.class);
-        log.info("Starting migration with initial timestamp: {}.", endTimestamp);
-        return endTimestamp;
+        final var startTimestamp = getJdbcOperations().queryForObject(SELECT_FIRST_RECORD_FILE_TIMESTAMP, Long.class);
+        return new Shard(Objects.requireNonNull(startTimestamp) - 1, Objects.requireNonNull(endTimestamp));
+    }
+
+    /**
+     * Splits the record files into shards by their consensus end and saves them, so each shard resumes from its own
+     * checkpoint after a restart. The contract logs of a record file are all in the shard of the record file. A
+     * completed shard keeps its row with its checkpoint at its lower bound, so that the shards aren't split again when
+     * the migration is restarted after they all completed but before the table was dropped.
+     */
+    @Override
+    protected List<Shard> getShards() {
+        getJdbcOperations().execute(CREATE_SHARD_TABLE);
+        var shards = new ArrayList<>(getJdbcOperations().query(SELECT_SHARDS, SHARD_ROW_MAPPER));
+
+        if (!shards.isEmpty()) {
+            shards.removeIf(Shard::isComplete);
+        } else {
+            final var range = getInitial();
+            for (long upperBound = range.upperBound(); upperBound > range.lowerBound(); upperBound -= SHARD_SIZE) {
+                shards.add(new Shard(Math.max(upperBound - SHARD_SIZE, range.lowerBound()), upperBound));
+            }
+
+            getJdbcOperations().batchUpdate(INSERT_SHARD, shards, shards.size(), (ps, shard) -> {
+                ps.setLong(1, shard.lowerBound());
+                ps.setLong(2, shard.upperBound());
+            });
+        }
+
+        log.info("Starting migration with {} shards: {}.", shards.size(), shards);
+        return shards;
+    }
+
+    @Override
+    protected void migrateAsync() {
+        super.migrateAsync();
+        log.info("Dropping temporary tables contract_log_index_migration_shard and processed_record_file_temp.");
+        getJdbcOperations().execute(DROP_TEMPORARY_TABLES);
     }
 
     @NonNull
     @Override
-    protected Optional<Long> migratePartial(Long consensusEndTimestamp) {
+    protected Optional<Shard> migratePartial(Shard shard) {
         // Get record files for an interval of time.
-        var consensusStartTimestamp = consensusEndTimestamp - INTERVAL;
+        final long consensusEndTimestamp = shard.upperBound();
+        final long consensusStartTimestamp = Math.max(consensusEndTimestamp - INTERVAL, shard.lowerBound());
+        final var next = consensusStartTimestamp > shard.lowerBound()
+                ? Optional.of(new Shard(shard.lowerBound(), consensusStartTimestamp))
+                : Optional.<Shard>empty();
         var recordFileSliceParams = new MapSqlParameterSource()
                 .addValue("consensusEndUpperBound", consensusEndTimestamp)
                 .addValue("consensusEndLowerBound", consensusStartTimestamp);
         final var recordFileSlice =
                 queryForObjectOrNull(SELECT_RECORD_FILES_MIN_AND_MAX_TIMESTAMP, recordFileSliceParams, ROW_MAPPER);
         if (recordFileSlice == null) {
-            log.info(
-                    "No more record files remaining to process. Last consensus end timestamp: {}."
-                            + "Dropping temporary table processed_record_file_temp.",
-                    consensusEndTimestamp);
-            getJdbcOperations().execute(DROP_TEMPORARY_RECORD_FILE_TABLE);
-            return Optional.empty();
+            getJdbcOperations().update(UPDATE_SHARD, consensusStartTimestamp, shard.lowerBound());
+
+            if (next.isEmpty()) {
+                log.info(
+                        "No more record files remaining to process in shard {}. Last consensus end timestamp: {}.",
+                        shard.lowerBound(),
+                        consensusEndTimestamp);
+            }
+
+            return next;
         }
 
         // The record file slice contains only one element.
@@ -231,11 +309,13 @@ final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
 
         // Update the contract log entries for the given timestamp range.
         final var params = Map.of(
+                "checkpoint", consensusStartTimestamp,
                 "lastConsensusEnd", sliceEndTimestamp,
-                "consensusStart", sliceStartTimestamp);
+                "consensusStart", sliceStartTimestamp,
+                "shard", shard.lowerBound());
         getNamedParameterJdbcOperations().update(getVersionedContractUpdateQuery(), params);
 
-        return Optional.of(consensusStartTimestamp);
+        return next;
     }
 
     @Override
@@ -256,4 +336,15 @@ final class ContractLogIndexMigration extends AsyncJavaMigration<Long> {
     }
 
     private record RecordFileSlice(long minConsensusTimestamp, long maxConsensusTimestamp) {}
+
+    /**
+     * The record files with a consensus end in the range (lowerBound, upperBound]. The lower bound identifies the shard
+     * and the upper bound is its checkpoint.
+     */
+    record Shard(long lowerBound, long upperBound) {
+
+        boolean isComplete() {
+            return upperBound <= lowerBound;
+        }
+    }
 }
@@ -12,9 +12,9 @@ import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -135,7 +135,7 @@ public class TopicMessageLookupMigration extends AsyncJavaMigration<String> {
     private static final TypeReference<Map<Long, List<TopicStat>>> TOPIC_STAT_MAP_TYPE = new TypeReference<>() {};
 
     private final EntityProperties entityProperties;
-    private final List<String> partitions = new LinkedList<>();
+    private final List<String> partitions = new ArrayList<>();
     private final ObjectMapper objectMapper;
     private final ObjectProvider<RecordFileRepository> recordFileRepositoryProvider;
     private final ObjectProvider<TimePartitionService> timePartitionServiceProvider;
@@ -195,6 +195,7 @@ public class TopicMessageLookupMigration extends AsyncJavaMigration<String> {
                 .findFirst()
                 .orElseThrow(() -> new ParserException("No active partition found"));
 
+        partitions.clear();
         partitions.addAll(timePartitions.stream()
                 .filter(p -> p.getTimestampRange().lowerEndpoint() <= lastRecordFile.get()
                         && !p.getName().equals(activePartition))
@@ -216,9 +217,22 @@ public class TopicMessageLookupMigration extends AsyncJavaMigration<String> {
         return "Backfill topic_message_lookup table";
     }
 
+    /**
+     * Only the default {@link #getShards()} uses the initial value, so this just returns the newest partition, or null
+     * if there are none to migrate.
+     */
     @Override
     protected String getInitial() {
-        return partitions.isEmpty() ? null : partitions.removeLast();
+        return partitions.isEmpty() ? null : partitions.getLast();
+    }
+
+    /**
+     * Each partition is an independent shard, newest first. A partition that already has lookups is skipped, so the
+     * partitions migrated before a restart aren't migrated again.
+     */
+    @Override
+    protected List<String> getShards() {
+        return List.copyOf(partitions.reversed());
     }
 
     @Override
@@ -230,7 +244,7 @@ public class TopicMessageLookupMigration extends AsyncJavaMigration<String> {
     @Override
     protected Optional<String> migratePartial(String partitionName) {
         migratePartition(partitionName);
-        return Optional.ofNullable(getInitial());
+        return Optional.empty();
     }
 
     private Set<Long> getTopTopics(String partitionName) {
@@ -21,6 +21,7 @@ import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.importer.domain.TransactionFilterFields;
 import org.hiero.mirror.importer.exception.InvalidConfigurationException;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DataSizeUnit;
 import org.springframework.expression.AccessException;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
@@ -33,6 +34,8 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.util.unit.DataUnit;
 import org.springframework.validation.annotation.Validated;
 
 @ConfigurationProperties("hiero.mirror.importer.parser")
@@ -43,6 +46,9 @@ public class CommonParserProperties {
     @Min(8192)
     private int bufferSize = 32768; // tested max byte size of buffer used by PGCopyOutputStream
 
+    @NotNull
+    private CopyFormat copyFormat = CopyFormat.CSV;
+
     @NotNull
     @Valid
     private Collection<TransactionFilter> exclude = new ArrayList<>();
@@ -51,6 +57,13 @@ public class CommonParserProperties {
     @Valid
     private Collection<TransactionFilter> include = new ArrayList<>();
 
+    @Min(0)
+    private int inlineUpsertThreshold = 0; // the max batch size to upsert without a temp table, 0 to always use one
+
+    @DataSizeUnit(DataUnit.MEGABYTES)
+    @NotNull
+    private DataSize prepareMaxSize = DataSize.ofMegabytes(32); // the max size of a table to serialize ahead in memory
+
     @Getter(lazy = true)
     private final Predicate<TransactionFilterFields> filter = includeFilter().and(excludeFilter());
 
@@ -72,6 +85,11 @@ public class CommonParserProperties {
         return include.stream().map(TransactionFilter::getFilter).reduce(a -> false, Predicate::or);
     }
 
+    public enum CopyFormat {
+        BINARY,
+        CSV
+    }
+
     @Data
     @Validated
     public static class TransactionFilter {
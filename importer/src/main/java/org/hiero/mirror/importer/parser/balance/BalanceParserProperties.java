@@ -20,9 +20,15 @@ public class BalanceParserProperties extends AbstractParserProperties {
     @Min(1)
     private int batchSize = 200_000;
 
+    @Min(1)
+    private int chunkSize = 4 * 1024 * 1024;
+
     @Min(1)
     private int fileBufferSize = 200_000;
 
+    @Min(1)
+    private int parallelism = 4;
+
     public BalanceParserProperties() {
         frequency = Duration.ofSeconds(1L);
         batch.setQueueCapacity(1);
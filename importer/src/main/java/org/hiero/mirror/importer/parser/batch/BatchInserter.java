@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.parser.batch;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
@@ -9,17 +10,22 @@ import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Lists;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import lombok.CustomLog;
+import lombok.Getter;
 import org.hiero.mirror.common.converter.EntityIdSerializer;
 import org.hiero.mirror.common.converter.ListToStringSerializer;
 import org.hiero.mirror.common.converter.RangeToStringSerializer;
@@ -27,26 +33,31 @@ import org.hiero.mirror.importer.converter.ByteArrayArrayToHexSerializer;
 import org.hiero.mirror.importer.converter.ByteArrayToHexSerializer;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.parser.CommonParserProperties.CopyFormat;
+import org.jspecify.annotations.Nullable;
 import org.postgresql.PGConnection;
 import org.postgresql.copy.CopyIn;
 import org.postgresql.copy.PGCopyOutputStream;
 import org.springframework.jdbc.datasource.DataSourceUtils;
 
 /**
- * Stateless writer to insert rows into PostgreSQL using COPY.
+ * Stateless writer to insert rows into PostgreSQL using COPY. Rows are encoded as CSV unless the binary format is
+ * configured and supported by every column of the table.
  */
 @CustomLog
 public class BatchInserter implements BatchPersister {
 
     protected final DataSource dataSource;
     protected final Timer latencyMetric;
+    protected final ObjectMapper mapper;
     protected final MeterRegistry meterRegistry;
+    protected final CommonParserProperties properties;
+    protected final Counter rowsMetric;
     protected final String tableName;
 
-    private final Counter rowsMetric;
+    private final Supplier<BinaryCopyWriter> binaryCopyWriter;
     private final String sql;
     private final ObjectWriter writer;
-    private final CommonParserProperties properties;
 
     public BatchInserter(
             Class<?> entityClass,
@@ -76,6 +87,7 @@ public class BatchInserter implements BatchPersister {
         mapper.registerModule(module);
         mapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_EMPTY_STRINGS, true);
         var schema = mapper.schemaFor(entityClass);
+        this.mapper = mapper;
         writer = mapper.writer(schema);
         String columnsCsv = Lists.newArrayList(schema.iterator()).stream()
                 .map(CsvSchema.Column::getName)
@@ -83,9 +95,11 @@ public class BatchInserter implements BatchPersister {
                 .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
                 .collect(Collectors.joining(", "));
         sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
+        binaryCopyWriter = Suppliers.memoize(() -> createBinaryCopyWriter(entityClass, mapper, schema));
         var parentTableName = this.tableName.replaceAll("_\\d+$", ""); // Strip _01 shard suffix
         latencyMetric = Timer.builder(LATENCY_METRIC)
                 .description("The time it took to batch insert rows")
+                .tag("path", "copy")
                 .tag("table", parentTableName)
                 .tag("upsert", "false")
                 .register(meterRegistry);
@@ -101,37 +115,160 @@ public class BatchInserter implements BatchPersister {
             return;
         }
 
-        Connection connection = DataSourceUtils.getConnection(dataSource);
+        persist(items.size(), out -> write(out, items));
+    }
+
+    @Override
+    public void initialize(Collection<? extends Object> items) {
+        binaryCopyWriter.get();
+    }
+
+    /**
+     * Serializes the items to an in-memory buffer. Items that don't fit within the prepare max size are serialized
+     * while they're written instead, so that a large batch isn't held in memory twice.
+     */
+    @Override
+    public Runnable prepare(Collection<? extends Object> items) {
+        if (items == null || items.isEmpty()) {
+            return () -> {};
+        }
+
+        long maxSize = properties.getPrepareMaxSize().toBytes();
+        var buffer = new BoundedOutputStream(properties.getBufferSize(), maxSize);
 
         try {
-            Stopwatch stopwatch = Stopwatch.createStarted();
-            persistItems(items, connection);
-            log.info("Copied {} rows to {} table in {}", items.size(), tableName, stopwatch);
+            write(buffer, items);
+            return () -> persist(items.size(), buffer::writeTo);
         } catch (Exception e) {
-            throw new ParserException(String.format("Error copying %d items to table %s", items.size(), tableName), e);
-        } finally {
-            DataSourceUtils.releaseConnection(connection, dataSource);
+            if (buffer.isFull()) {
+                log.debug(
+                        "Streaming {} items to table {} since they exceed {} bytes", items.size(), tableName, maxSize);
+                return () -> persist(items.size(), out -> write(out, items));
+            }
+
+            throw new ParserException(
+                    String.format("Error serializing %d items to table %s", items.size(), tableName), e);
         }
     }
 
     protected void persistItems(Collection<?> items, Connection connection) throws SQLException, IOException {
+        persistItems(items.size(), out -> write(out, items), connection);
+    }
+
+    protected void persistItems(int count, CopyWriter copyWriter, Connection connection)
+            throws SQLException, IOException {
         var stopwatch = Stopwatch.createStarted();
         PGConnection pgConnection = connection.unwrap(PGConnection.class);
-        CopyIn copyIn = pgConnection.getCopyAPI().copyIn(sql);
+        CopyIn copyIn = pgConnection.getCopyAPI().copyIn(getCopySql());
+
+        try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
+            copyWriter.write(pgCopyOutputStream);
+            rowsMetric.increment(count);
+            latencyMetric.record(stopwatch.elapsed());
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * @return the COPY statement for the format the rows are actually encoded in
+     */
+    String getCopySql() {
+        var binary = binaryCopyWriter.get();
+        return binary != null ? binary.getSql() : sql;
+    }
+
+    private void write(OutputStream outputStream, Collection<?> items) throws IOException {
+        var binary = binaryCopyWriter.get();
+
+        if (binary != null) {
+            log.trace("Generated SQL: {}\n{} rows in binary format", binary.getSql(), items.size());
+            binary.write(outputStream, items);
+            return;
+        }
 
         if (log.isTraceEnabled()) {
             String csv = writer.writeValueAsString(items);
             log.trace("Generated SQL: {}\n{}", sql, csv);
         }
 
-        try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
-            writer.writeValue(pgCopyOutputStream, items);
-            rowsMetric.increment(items.size());
-            latencyMetric.record(stopwatch.elapsed());
+        writer.writeValue(outputStream, items);
+    }
+
+    private @Nullable BinaryCopyWriter createBinaryCopyWriter(
+            Class<?> entityClass, ObjectMapper mapper, CsvSchema schema) {
+        if (properties.getCopyFormat() != CopyFormat.BINARY) {
+            return null;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+
+        try {
+            return BinaryCopyWriter.create(entityClass, tableName, mapper, schema, connection);
+        } catch (Exception e) {
+            log.warn("Unable to generate binary COPY writer for table {}, falling back to CSV", tableName, e);
+            return null;
         } finally {
-            if (copyIn.isActive()) {
-                copyIn.cancelCopy();
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void persist(int count, CopyWriter copyWriter) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+
+        try {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            persistItems(count, copyWriter, connection);
+            log.info("Copied {} rows to {} table in {}", count, tableName, stopwatch);
+        } catch (Exception e) {
+            throw new ParserException(String.format("Error copying %d items to table %s", count, tableName), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * An in-memory buffer that fails the write that would grow it past its max size.
+     */
+    private static class BoundedOutputStream extends ByteArrayOutputStream {
+
+        private final long maxSize;
+
+        @Getter
+        private boolean full;
+
+        private BoundedOutputStream(int size, long maxSize) {
+            super((int) Math.min(size, maxSize));
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            checkSize(1);
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            checkSize(len);
+            super.write(b, off, len);
+        }
+
+        private void checkSize(int length) {
+            if (count + (long) length > maxSize) {
+                full = true;
+                throw new IllegalStateException("Buffer exceeded max size of " + maxSize);
             }
         }
     }
+
+    /**
+     * Writes the COPY payload of a batch to the output stream
+     */
+    @FunctionalInterface
+    protected interface CopyWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
 }
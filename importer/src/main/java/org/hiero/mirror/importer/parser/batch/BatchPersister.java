@@ -13,4 +13,20 @@ public interface BatchPersister {
     String LATENCY_METRIC = "hiero.mirror.importer.batch.latency";
 
     void persist(Collection<? extends Object> items);
+
+    /**
+     * Does the database lookups needed to persist the items ahead of time so that {@link #prepare(Collection)} doesn't
+     * wait on the database when it's called from another thread. Must be called on the thread that is bound to the
+     * current transaction.
+     */
+    default void initialize(Collection<? extends Object> items) {}
+
+    /**
+     * Prepares the items to be persisted, doing any CPU bound work like serialization up front so that it can happen
+     * concurrently on another thread. The returned task performs the database writes and must be run on the thread that
+     * is bound to the current transaction.
+     */
+    default Runnable prepare(Collection<? extends Object> items) {
+        return () -> persist(items);
+    }
 }
@@ -2,27 +2,46 @@
 
 package org.hiero.mirror.importer.parser.batch;
 
+import com.google.common.base.CaseFormat;
+import com.google.common.base.Stopwatch;
+import com.google.common.base.Suppliers;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import javax.sql.DataSource;
 import lombok.CustomLog;
+import org.apache.commons.lang3.StringUtils;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
 import org.hiero.mirror.importer.repository.upsert.UpsertQueryGenerator;
-import org.springframework.util.CollectionUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.datasource.DataSourceUtils;
 
 /**
- * Stateless writer to upsert rows into PostgreSQL using COPY into a temp table then insert and update into final table
+ * Stateless writer to upsert rows into PostgreSQL using COPY into a temp table then insert and update into final table.
+ * Batches no larger than the inline upsert threshold skip the temp table and are upserted by statements that read the
+ * rows from a JSON parameter, cast to the column types of the temp table.
  */
 @CustomLog
 public class BatchUpserter extends BatchInserter {
 
+    private static final String COLUMN_SQL =
+            """
+            select attname, format_type(atttypid, atttypmod)
+            from pg_attribute
+            where attrelid = to_regclass(?) and attnum > 0 and not attisdropped
+            order by attnum
+            """;
+
     private final String finalTableName;
+    private final Supplier<@Nullable InlineUpsert> inlineUpsert;
+    private final Timer inlineUpsertMetric;
     private final String tempTableCleanupSql;
     private final String upsertSql;
     private final Timer upsertMetric;
@@ -37,17 +56,54 @@ public class BatchUpserter extends BatchInserter {
         tempTableCleanupSql = String.format("truncate table %s restart identity cascade", tableName);
         finalTableName = upsertQueryGenerator.getFinalTableName();
         upsertSql = upsertQueryGenerator.getUpsertQuery();
+        inlineUpsert = Suppliers.memoize(() -> createInlineUpsert(upsertQueryGenerator));
         log.trace("Table: {}, Entity: {}, upsertSql:\n{}", finalTableName, entityClass, upsertSql);
         upsertMetric = Timer.builder(LATENCY_METRIC)
                 .description("The time it took to batch insert rows")
+                .tag("path", "copy")
+                .tag("table", finalTableName)
+                .tag("upsert", "true")
+                .register(meterRegistry);
+        inlineUpsertMetric = Timer.builder(LATENCY_METRIC)
+                .description("The time it took to batch insert rows")
+                .tag("path", "inline")
                 .tag("table", finalTableName)
                 .tag("upsert", "true")
                 .register(meterRegistry);
     }
 
     @Override
-    protected void persistItems(Collection<?> items, Connection connection) {
-        if (CollectionUtils.isEmpty(items)) {
+    public void persist(Collection<? extends Object> items) {
+        if (!isInline(items)) {
+            super.persist(items);
+            return;
+        }
+
+        upsertInline(items.size(), serialize(items));
+    }
+
+    @Override
+    public void initialize(Collection<? extends Object> items) {
+        super.initialize(items);
+
+        if (properties.getInlineUpsertThreshold() > 0) {
+            inlineUpsert.get();
+        }
+    }
+
+    @Override
+    public Runnable prepare(Collection<? extends Object> items) {
+        if (!isInline(items)) {
+            return super.prepare(items);
+        }
+
+        var rows = serialize(items);
+        return () -> upsertInline(items.size(), rows);
+    }
+
+    @Override
+    protected void persistItems(int count, CopyWriter copyWriter, Connection connection) {
+        if (count == 0) {
             return;
         }
 
@@ -56,13 +112,13 @@ public class BatchUpserter extends BatchInserter {
             cleanupTempTable(connection);
 
             // copy items to temp table
-            super.persistItems(items, connection);
+            super.persistItems(count, copyWriter, connection);
 
             // Upsert items from the temporary table to the final table
             upsert(connection);
         } catch (Exception e) {
             throw new ParserException(
-                    String.format("Error copying %d items to table %s", items.size(), finalTableName), e);
+                    String.format("Error copying %d items to table %s", count, finalTableName), e);
         }
     }
 
@@ -74,6 +130,81 @@ public class BatchUpserter extends BatchInserter {
         log.trace("Cleaned temp table {}", tableName);
     }
 
+    /**
+     * Generates the upsert query that reads the rows from a JSON array of objects keyed by column name instead of the
+     * temp table. Every value is the text the CSV format would write for it, so casting it to the column type is
+     * equivalent to copying it. Each statement of the upsert binds the JSON once in a leading common table expression.
+     *
+     * @return the upsert query or null if it's not supported by the table
+     */
+    private @Nullable InlineUpsert createInlineUpsert(UpsertQueryGenerator upsertQueryGenerator) {
+        var connection = DataSourceUtils.getConnection(dataSource);
+
+        try (var preparedStatement = connection.prepareStatement(COLUMN_SQL)) {
+            var columns = new ArrayList<String>();
+            preparedStatement.setString(1, tableName);
+
+            try (var rs = preparedStatement.executeQuery()) {
+                while (rs.next()) {
+                    columns.add(String.format("(r->>'%1$s')::%2$s as \"%1$s\"", rs.getString(1), rs.getString(2)));
+                }
+            }
+
+            if (columns.isEmpty()) {
+                return null;
+            }
+
+            var sourceQuery = String.format(
+                    "select %s from jsonb_array_elements(?::jsonb) as r", String.join(", ", columns));
+            var sql = upsertQueryGenerator.getUpsertQuery(sourceQuery);
+
+            if (sql == null) {
+                return null;
+            }
+
+            log.trace("Table: {}, inlineUpsertSql:\n{}", finalTableName, sql);
+            return new InlineUpsert(sql, StringUtils.countMatches(sql, sourceQuery));
+        } catch (Exception e) {
+            log.warn("Unable to generate inline upsert for table {}, falling back to COPY", finalTableName, e);
+            return null;
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private boolean isInline(Collection<?> items) {
+        return items != null
+                && !items.isEmpty()
+                && items.size() <= properties.getInlineUpsertThreshold()
+                && inlineUpsert.get() != null;
+    }
+
+    private String serialize(Collection<?> items) {
+        try {
+            var rows = mapper.createArrayNode();
+
+            for (var item : items) {
+                var row = rows.addObject();
+
+                for (var property : mapper.valueToTree(item).properties()) {
+                    var column = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, property.getKey());
+                    var value = property.getValue();
+
+                    if (value.isNull()) {
+                        row.putNull(column);
+                    } else {
+                        row.put(column, value.isContainerNode() ? value.toString() : value.asText());
+                    }
+                }
+            }
+
+            return rows.toString();
+        } catch (IllegalArgumentException e) {
+            throw new ParserException(
+                    String.format("Error serializing %d items to table %s", items.size(), finalTableName), e);
+        }
+    }
+
     private void upsert(Connection connection) throws SQLException {
         var startTime = System.nanoTime();
 
@@ -84,4 +215,32 @@ public class BatchUpserter extends BatchInserter {
             upsertMetric.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
         }
     }
+
+    private void upsertInline(int count, String rows) {
+        var connection = DataSourceUtils.getConnection(dataSource);
+        var upsert = inlineUpsert.get();
+        var stopwatch = Stopwatch.createStarted();
+
+        try (var preparedStatement = connection.prepareStatement(upsert.sql())) {
+            for (int i = 1; i <= upsert.parameters(); i++) {
+                preparedStatement.setString(i, rows);
+            }
+
+            preparedStatement.execute();
+            rowsMetric.increment(count);
+            log.info("Upserted {} rows to {} table in {}", count, finalTableName, stopwatch);
+        } catch (Exception e) {
+            throw new ParserException(
+                    String.format("Error upserting %d items to table %s", count, finalTableName), e);
+        } finally {
+            inlineUpsertMetric.record(stopwatch.elapsed());
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * @param sql        the upsert query that reads the rows from the JSON parameter
+     * @param parameters the number of statements in the query, each binding the JSON once
+     */
+    private record InlineUpsert(String sql, int parameters) {}
 }
@@ -0,0 +1,358 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.google.common.base.CaseFormat;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Shorts;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.CustomLog;
+import lombok.Getter;
+import org.hiero.mirror.common.converter.ListToStringSerializer;
+import org.hiero.mirror.common.converter.ObjectToStringSerializer;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Writes domain objects to PostgreSQL using the binary COPY format. The column encoders are generated once per table
+ * from the same Jackson bean properties the CSV format uses, combined with the column types in the PostgreSQL catalog.
+ * Values are written straight to the output stream without an intermediate text representation.
+ */
+@CustomLog
+final class BinaryCopyWriter {
+
+    private static final byte[] HEADER = {
+        'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0, 0, 0, 0, 0, 0, 0, 0, 0
+    };
+    private static final String COLUMN_TYPE_SQL =
+            """
+            select a.attname, t.typname, t.typtype, t.typelem
+            from pg_attribute a
+            join pg_type t on t.oid = a.atttypid
+            where a.attrelid = to_regclass(?) and a.attnum > 0 and not a.attisdropped
+            """;
+    private static final byte JSONB_VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+    private static final byte RANGE_EMPTY = 0x01;
+    private static final byte RANGE_LB_INC = 0x02;
+    private static final byte RANGE_UB_INC = 0x04;
+    private static final byte RANGE_LB_INF = 0x08;
+    private static final byte RANGE_UB_INF = 0x10;
+    private static final short TRAILER = -1;
+
+    @Getter
+    private final String sql;
+
+    private final List<Column> columns;
+
+    private BinaryCopyWriter(String tableName, List<Column> columns) {
+        this.columns = columns;
+        var columnNames = columns.stream().map(Column::name).collect(Collectors.joining(", "));
+        this.sql = String.format("COPY %s(%s) FROM STDIN WITH (FORMAT binary)", tableName, columnNames);
+    }
+
+    /**
+     * Generates a binary writer for the entity class and table.
+     *
+     * @return the writer or null if any of the columns has a type that is not supported by the binary format
+     */
+    static @Nullable BinaryCopyWriter create(
+            Class<?> entityClass, String tableName, ObjectMapper mapper, CsvSchema schema, Connection connection)
+            throws SQLException {
+        var columnTypes = getColumnTypes(tableName, connection);
+        var description = mapper.getSerializationConfig().introspect(mapper.constructType(entityClass));
+        var properties = description.findProperties().stream()
+                .collect(Collectors.toMap(BeanPropertyDefinition::getName, p -> p, (a, b) -> a));
+        var columns = new ArrayList<Column>();
+
+        for (var schemaColumn : schema) {
+            var name = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, schemaColumn.getName());
+            if (columns.stream().anyMatch(c -> c.name().equals(name))) {
+                continue;
+            }
+
+            var property = properties.get(schemaColumn.getName());
+            var columnType = columnTypes.get(name);
+            var encoder = property != null && columnType != null ? encoder(mapper, property, columnType) : null;
+
+            if (encoder == null) {
+                log.info(
+                        "Using CSV for table {} since column {} with type {} is not supported",
+                        tableName,
+                        name,
+                        columnType);
+                return null;
+            }
+
+            var accessor = property.getAccessor();
+            accessor.fixAccess(true);
+            columns.add(new Column(name, accessor, encoder));
+        }
+
+        return new BinaryCopyWriter(tableName, columns);
+    }
+
+    void write(OutputStream outputStream, Collection<?> items) throws IOException {
+        var out = new DataOutputStream(outputStream);
+        out.write(HEADER);
+
+        for (var item : items) {
+            out.writeShort(columns.size());
+
+            for (var column : columns) {
+                var value = column.accessor().getValue(item);
+
+                if (value == null || (value instanceof EntityId entityId && EntityId.isEmpty(entityId))) {
+                    out.writeInt(NULL_LENGTH);
+                } else {
+                    column.encoder().encode(out, value);
+                }
+            }
+        }
+
+        out.writeShort(TRAILER);
+        out.flush();
+    }
+
+    private static Map<String, ColumnType> getColumnTypes(String tableName, Connection connection)
+            throws SQLException {
+        var columnTypes = new HashMap<String, ColumnType>();
+
+        try (var statement = connection.prepareStatement(COLUMN_TYPE_SQL)) {
+            statement.setString(1, tableName);
+
+            try (var rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    var columnType = new ColumnType(rs.getString(2), "e".equals(rs.getString(3)), (int) rs.getLong(4));
+                    columnTypes.put(rs.getString(1), columnType);
+                }
+            }
+        }
+
+        return columnTypes;
+    }
+
+    private static @Nullable Encoder encoder(
+            ObjectMapper mapper, BeanPropertyDefinition property, ColumnType columnType) {
+        var javaType = property.getRawPrimaryType();
+        var serializer = mapper.getSerializationConfig()
+                .getAnnotationIntrospector()
+                .findSerializer(property.getAccessor());
+
+        if (columnType.name().equals("json") || columnType.name().equals("jsonb")) {
+            return json(columnType.name().equals("jsonb"));
+        }
+
+        if (serializer != null
+                && serializer != JsonSerializer.None.class
+                && serializer != ListToStringSerializer.class
+                && serializer != ObjectToStringSerializer.class) {
+            return null;
+        }
+
+        return switch (columnType.name()) {
+            case "bool" -> javaType == Boolean.class || javaType == boolean.class
+                    ? BinaryCopyWriter::writeBoolean
+                    : null;
+            case "bytea" -> javaType == byte[].class ? BinaryCopyWriter::writeBytes : null;
+            case "int2" -> integer(mapper, javaType, Short.BYTES);
+            case "int4" -> integer(mapper, javaType, Integer.BYTES);
+            case "int8" -> integer(mapper, javaType, Long.BYTES);
+            case "int8range" -> Range.class.isAssignableFrom(javaType) ? BinaryCopyWriter::writeRange : null;
+            case "_bytea" -> javaType == byte[][].class ? array(columnType, BinaryCopyWriter::writeBytes) : null;
+            case "_int2" -> List.class.isAssignableFrom(javaType) ? array(columnType, integer(Short.BYTES)) : null;
+            case "_int4" -> List.class.isAssignableFrom(javaType) ? array(columnType, integer(Integer.BYTES)) : null;
+            case "_int8" -> List.class.isAssignableFrom(javaType) ? array(columnType, integer(Long.BYTES)) : null;
+            case "bpchar", "text", "varchar" -> text(mapper, javaType);
+            default -> columnType.enumType() ? text(mapper, javaType) : null;
+        };
+    }
+
+    private static @Nullable Encoder integer(ObjectMapper mapper, Class<?> javaType, int width) {
+        if (javaType == EntityId.class && width == Long.BYTES) {
+            return (out, value) -> writeInteger(out, ((EntityId) value).getId(), width);
+        } else if (Number.class.isAssignableFrom(javaType) || isIntegerPrimitive(javaType)) {
+            return integer(width);
+        } else if (javaType.isEnum()) {
+            var values = new HashMap<Object, Long>();
+            for (var constant : javaType.getEnumConstants()) {
+                JsonNode node = mapper.valueToTree(constant);
+                if (!node.isIntegralNumber()) {
+                    return null;
+                }
+                values.put(constant, node.longValue());
+            }
+            return (out, value) -> writeInteger(out, values.get(value), width);
+        }
+
+        return null;
+    }
+
+    private static Encoder integer(int width) {
+        return (out, value) -> writeInteger(out, ((Number) value).longValue(), width);
+    }
+
+    private static boolean isIntegerPrimitive(Class<?> javaType) {
+        return javaType == long.class || javaType == int.class || javaType == short.class || javaType == byte.class;
+    }
+
+    private static @Nullable Encoder text(ObjectMapper mapper, Class<?> javaType) {
+        if (javaType == String.class) {
+            return (out, value) -> writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (javaType.isEnum()) {
+            var labels = new HashMap<Object, byte[]>();
+            for (var constant : javaType.getEnumConstants()) {
+                JsonNode node = mapper.valueToTree(constant);
+                if (!node.isTextual()) {
+                    return null;
+                }
+                labels.put(constant, node.textValue().getBytes(StandardCharsets.UTF_8));
+            }
+            return (out, value) -> writeBytes(out, labels.get(value));
+        }
+
+        return null;
+    }
+
+    private static Encoder json(boolean binary) {
+        return (out, value) -> {
+            var json = value instanceof String text
+                    ? text.getBytes(StandardCharsets.UTF_8)
+                    : ObjectToStringSerializer.OBJECT_MAPPER.writeValueAsBytes(value);
+
+            if (binary) {
+                out.writeInt(json.length + 1);
+                out.writeByte(JSONB_VERSION);
+            } else {
+                out.writeInt(json.length);
+            }
+
+            out.write(json);
+        };
+    }
+
+    private static Encoder array(ColumnType columnType, Encoder elementEncoder) {
+        return (out, value) -> {
+            var elements = value instanceof byte[][] bytes ? Arrays.asList((Object[]) bytes) : (List<?>) value;
+            var buffer = new ByteArrayOutputStream();
+            var arrayOut = new DataOutputStream(buffer);
+            boolean hasNull = elements.stream().anyMatch(Objects::isNull);
+
+            arrayOut.writeInt(elements.isEmpty() ? 0 : 1);
+            arrayOut.writeInt(hasNull ? 1 : 0);
+            arrayOut.writeInt(columnType.elementOid());
+
+            if (!elements.isEmpty()) {
+                arrayOut.writeInt(elements.size());
+                arrayOut.writeInt(1);
+            }
+
+            for (var element : elements) {
+                if (element == null) {
+                    arrayOut.writeInt(NULL_LENGTH);
+                } else {
+                    elementEncoder.encode(arrayOut, element);
+                }
+            }
+
+            out.writeInt(buffer.size());
+            buffer.writeTo(out);
+        };
+    }
+
+    private static void writeBoolean(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(1);
+        out.writeBoolean((Boolean) value);
+    }
+
+    private static void writeBytes(DataOutputStream out, Object value) throws IOException {
+        var bytes = (byte[]) value;
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeInteger(DataOutputStream out, long value, int width) throws IOException {
+        out.writeInt(width);
+
+        switch (width) {
+            case Short.BYTES -> out.writeShort(Shorts.checkedCast(value));
+            case Integer.BYTES -> out.writeInt(Ints.checkedCast(value));
+            default -> out.writeLong(value);
+        }
+    }
+
+    private static void writeRange(DataOutputStream out, Object value) throws IOException {
+        var range = (Range<?>) value;
+
+        if (range.isEmpty()) {
+            out.writeInt(1);
+            out.writeByte(RANGE_EMPTY);
+            return;
+        }
+
+        byte flags = 0;
+        int length = 1;
+
+        if (range.hasLowerBound()) {
+            flags |= range.lowerBoundType() == BoundType.CLOSED ? RANGE_LB_INC : 0;
+            length += Integer.BYTES + Long.BYTES;
+        } else {
+            flags |= RANGE_LB_INF;
+        }
+
+        if (range.hasUpperBound()) {
+            flags |= range.upperBoundType() == BoundType.CLOSED ? RANGE_UB_INC : 0;
+            length += Integer.BYTES + Long.BYTES;
+        } else {
+            flags |= RANGE_UB_INF;
+        }
+
+        out.writeInt(length);
+        out.writeByte(flags);
+
+        if (range.hasLowerBound()) {
+            writeInteger(out, ((Number) range.lowerEndpoint()).longValue(), Long.BYTES);
+        }
+
+        if (range.hasUpperBound()) {
+            writeInteger(out, ((Number) range.upperEndpoint()).longValue(), Long.BYTES);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        void encode(DataOutputStream out, Object value) throws IOException;
+    }
+
+    private record Column(String name, AnnotatedMember accessor, Encoder encoder) {}
+
+    private record ColumnType(String name, boolean enumType, int elementOid) {
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
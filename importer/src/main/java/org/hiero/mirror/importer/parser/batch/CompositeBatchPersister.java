@@ -49,13 +49,34 @@ public class CompositeBatchPersister implements BatchPersister {
             return;
         }
 
+        getBatchPersister(items).persist(items);
+    }
+
+    @Override
+    public void initialize(Collection<? extends Object> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        getBatchPersister(items).initialize(items);
+    }
+
+    @Override
+    public Runnable prepare(Collection<? extends Object> items) {
+        if (items == null || items.isEmpty()) {
+            return () -> {};
+        }
+
+        return getBatchPersister(items).prepare(items);
+    }
+
+    private BatchPersister getBatchPersister(Collection<?> items) {
         Object item = items.iterator().next();
         if (item == null) {
             throw new UnsupportedOperationException("Object does not support batch insertion: " + item);
         }
 
-        BatchPersister batchPersister = batchPersisters.computeIfAbsent(item.getClass(), this::create);
-        batchPersister.persist(items);
+        return batchPersisters.computeIfAbsent(item.getClass(), this::create);
     }
 
     private BatchPersister create(Class<?> domainClass) {
@@ -24,6 +24,7 @@ import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.config.DateRangeCalculator;
+import org.hiero.mirror.importer.domain.EntityIdService;
 import org.hiero.mirror.importer.parser.AbstractStreamFileParser;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
@@ -40,6 +41,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final RecordItemListener recordItemListener;
     private final DateRangeCalculator dateRangeCalculator;
+    private final EntityIdService entityIdService;
     private final ParserContext parserContext;
 
     // Metrics
@@ -57,11 +59,13 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             RecordItemListener recordItemListener,
             RecordStreamFileListener recordStreamFileListener,
             DateRangeCalculator dateRangeCalculator,
+            EntityIdService entityIdService,
             ParserContext parserContext) {
         super(meterRegistry, parserProperties, recordStreamFileListener, streamFileRepository);
         this.applicationEventPublisher = applicationEventPublisher;
         this.recordItemListener = recordItemListener;
         this.dateRangeCalculator = dateRangeCalculator;
+        this.entityIdService = entityIdService;
         this.parserContext = parserContext;
 
         // build transaction latency metrics
@@ -143,6 +147,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         final var logIndex = new AtomicInteger(0);
 
         applicationEventPublisher.publishEvent(new RecordFileParsedEvent(this, recordFile.getConsensusEnd()));
+        entityIdService.warmUp(recordFile.getItems());
         recordFile.getItems().forEach(recordItem -> {
             if (shouldLog) {
                 logItem(recordItem);
@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.notify;
+
+import static org.hiero.mirror.common.domain.ChangeSet.CHANNEL;
+import static org.hiero.mirror.common.domain.ChangeSet.MAX_PAYLOAD_LENGTH;
+
+import jakarta.inject.Named;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.ChangeSet;
+import org.hiero.mirror.common.domain.contract.ContractState;
+import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.token.Token;
+import org.hiero.mirror.common.domain.token.TokenAccount;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.parser.record.RecordStreamFileListener;
+import org.hiero.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+/**
+ * Publishes the entities, tokens, token accounts and contract slots changed by each record file as a {@link ChangeSet}
+ * to a Postgres notification channel. The notifications are sent in the record file's transaction, so Postgres only
+ * delivers them once the changes are committed and visible to the listeners. It runs before the SQL entity listener
+ * flushes and clears the changes from the parser context.
+ */
+@ConditionOnEntityRecordParser
+@CustomLog
+@Named
+@Order(1)
+@RequiredArgsConstructor
+public class ChangeSetPublisher implements RecordStreamFileListener {
+
+    private static final String NOTIFY_SQL = "select pg_notify(?, ?)";
+    private static final RowCallbackHandler NO_OP = rs -> {};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotifyProperties notifyProperties;
+    private final ParserContext parserContext;
+
+    @Override
+    public void onEnd(RecordFile recordFile) {
+        if (!notifyProperties.isEnabled()) {
+            return;
+        }
+
+        var changeSet = getChangeSet();
+        if (changeSet.isEmpty()) {
+            return;
+        }
+
+        if (changeSet.size() > notifyProperties.getMaxChanges()) {
+            log.info(
+                    "Publishing change set for record file {} as all changed since it has {} changes",
+                    recordFile.getIndex(),
+                    changeSet.size());
+            changeSet = new ChangeSet();
+            changeSet.addAll();
+        }
+
+        for (var payload : changeSet.encode(MAX_PAYLOAD_LENGTH)) {
+            jdbcTemplate.query(NOTIFY_SQL, NO_OP, CHANNEL, payload);
+        }
+    }
+
+    private ChangeSet getChangeSet() {
+        var changeSet = new ChangeSet();
+        parserContext.get(Entity.class).forEach(e -> changeSet.addEntity(e.getId()));
+        parserContext.get(ContractState.class).forEach(s -> changeSet.addSlot(s.getContractId(), s.getSlot()));
+        parserContext.get(TokenAccount.class).forEach(t -> changeSet.addTokenAccount(t.getAccountId(), t.getTokenId()));
+
+        for (var token : parserContext.get(Token.class)) {
+            changeSet.addToken(token.getTokenId());
+
+            if (isTokenAccountsUpdate(token)) {
+                changeSet.addTokenAccounts(token.getTokenId());
+            }
+        }
+
+        return changeSet;
+    }
+
+    // A token update changing its treasury or its freeze or KYC key can change any of its token accounts
+    private boolean isTokenAccountsUpdate(Token token) {
+        return token.getCreatedTimestamp() == null
+                && (token.getTreasuryAccountId() != null || token.getFreezeKey() != null || token.getKycKey() != null);
+    }
+}
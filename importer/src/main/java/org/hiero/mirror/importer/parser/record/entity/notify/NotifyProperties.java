@@ -0,0 +1,21 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.notify;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.hiero.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@ConditionOnEntityRecordParser
+@ConfigurationProperties("hiero.mirror.importer.parser.record.entity.notify")
+@Validated
+public class NotifyProperties {
+
+    private boolean enabled = false;
+
+    @Min(1)
+    private int maxChanges = 10000;
+}
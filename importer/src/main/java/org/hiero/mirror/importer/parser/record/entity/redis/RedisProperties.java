@@ -19,4 +19,13 @@ public class RedisProperties implements BatchPublisherProperties {
 
     @Min(1)
     private int queueCapacity = 8;
+
+    @Min(1)
+    private int threads = 4;
+
+    /**
+     * Whether to publish topic messages with the compact binary encoding instead of MessagePack. Only gRPC versions
+     * that include the encoding can decode it, so it must only be enabled once every gRPC instance is upgraded.
+     */
+    private boolean topicMessageCodec = false;
 }
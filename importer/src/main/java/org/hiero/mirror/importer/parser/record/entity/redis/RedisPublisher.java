@@ -8,7 +8,9 @@ import com.google.common.base.Stopwatch;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
@@ -38,7 +40,7 @@ public class RedisPublisher implements BatchPublisher {
     private final RedisProperties redisProperties;
     private final RedisOperations<String, StreamMessage> redisOperations;
     private final Timer timer;
-    private final BlockingQueue<Collection<TopicMessage>> topicMessagesQueue;
+    private final List<BlockingQueue<Collection<TopicMessage>>> topicMessagesQueues;
 
     RedisPublisher(
             RedisProperties redisProperties,
@@ -50,18 +52,25 @@ public class RedisPublisher implements BatchPublisher {
         this.redisOperations = redisOperations;
         this.redisProperties = redisProperties;
         this.timer = PUBLISH_TIMER.tag("type", "redis").register(meterRegistry);
-        this.topicMessagesQueue = new ArrayBlockingQueue<>(redisProperties.getQueueCapacity());
+        this.topicMessagesQueues = new ArrayList<>(redisProperties.getThreads());
 
-        Executor executor = Executors.newSingleThreadExecutor();
-        executor.execute(() -> {
-            try {
-                while (true) {
-                    publish(topicMessagesQueue.take());
+        // Each thread drains its own queue and pipelines to its own dedicated connection. Messages are partitioned by
+        // topic so that messages for a topic are always published in order by the same thread.
+        var threadFactory = Thread.ofPlatform().name("redis-publisher-", 0).factory();
+        for (int i = 0; i < redisProperties.getThreads(); i++) {
+            var queue = new ArrayBlockingQueue<Collection<TopicMessage>>(redisProperties.getQueueCapacity());
+            topicMessagesQueues.add(queue);
+            Executor executor = Executors.newSingleThreadExecutor(threadFactory);
+            executor.execute(() -> {
+                try {
+                    while (true) {
+                        publish(queue.take());
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
                 }
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            }
-        });
+            });
+        }
     }
 
     @Override
@@ -73,9 +82,38 @@ public class RedisPublisher implements BatchPublisher {
 
         var topicMessages = parserContext.get(TopicMessage.class);
 
-        if (!topicMessages.isEmpty() && !topicMessagesQueue.offer(topicMessages)) {
+        if (topicMessages.isEmpty()) {
+            return;
+        }
+
+        if (topicMessagesQueues.size() == 1) {
+            enqueue(topicMessagesQueues.getFirst(), topicMessages);
+            return;
+        }
+
+        var partitions = new ArrayList<List<TopicMessage>>(topicMessagesQueues.size());
+        for (int i = 0; i < topicMessagesQueues.size(); i++) {
+            partitions.add(new ArrayList<>());
+        }
+
+        for (var topicMessage : topicMessages) {
+            long topicId = topicMessage.getTopicId().getId();
+            partitions.get(Math.floorMod(Long.hashCode(topicId), partitions.size())).add(topicMessage);
+        }
+
+        for (int i = 0; i < partitions.size(); i++) {
+            var partition = partitions.get(i);
+            if (!partition.isEmpty()) {
+                enqueue(topicMessagesQueues.get(i), partition);
+            }
+        }
+    }
+
+    private void enqueue(BlockingQueue<Collection<TopicMessage>> queue, Collection<TopicMessage> topicMessages)
+            throws InterruptedException {
+        if (!queue.offer(topicMessages)) {
             log.warn("topicMessagesQueue is full, will block until space is available");
-            topicMessagesQueue.put(topicMessages);
+            queue.put(topicMessages);
         }
     }
 
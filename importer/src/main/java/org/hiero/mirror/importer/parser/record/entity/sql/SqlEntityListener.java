@@ -4,10 +4,13 @@ package org.hiero.mirror.importer.parser.record.entity.sql;
 
 import com.google.common.base.Stopwatch;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import lombok.AccessLevel;
 import lombok.CustomLog;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
 import org.hiero.mirror.common.domain.addressbook.NetworkStake;
@@ -69,6 +72,10 @@ import org.hiero.mirror.importer.repository.TokenAccountRepository;
 import org.hiero.mirror.importer.util.Utility;
 import org.springframework.core.annotation.Order;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @CustomLog
 @Named
@@ -88,6 +95,10 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private final HookStorageRepository hookStorageRepository;
     private final SqlProperties sqlProperties;
 
+    // Kept apart from the shared parallel scheduler so that serializing a large record file can't starve other work
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final Scheduler scheduler = Schedulers.newParallel("sql-flush", sqlProperties.getParallelism(), true);
+
     @Override
     public boolean isEnabled() {
         return sqlProperties.isEnabled();
@@ -409,7 +420,14 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private void flush() {
         try {
             var stopwatch = Stopwatch.createStarted();
-            context.forEach(batchPersister::persist);
+            int parallelism = sqlProperties.getParallelism();
+
+            if (parallelism > 1) {
+                flushParallel(parallelism);
+            } else {
+                context.forEach(batchPersister::persist);
+            }
+
             log.info("Completed batch inserts in {}", stopwatch);
         } catch (ParserException e) {
             throw e;
@@ -418,6 +436,26 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    /**
+     * Serializes the tables concurrently while still writing them in dependency order on the current thread. All writes
+     * have to go through the connection bound to the current transaction, so only the serialization can be offloaded.
+     * The persisters are initialized on the current thread first so that serialization never waits on the database.
+     */
+    private void flushParallel(int parallelism) {
+        var batches = new ArrayList<Collection<?>>();
+        context.forEach(batches::add);
+        batches.forEach(batchPersister::initialize);
+
+        try (var prepared = Flux.fromIterable(batches)
+                .flatMapSequential(
+                        items -> Mono.fromCallable(() -> batchPersister.prepare(items))
+                                .subscribeOn(getScheduler()),
+                        parallelism)
+                .toStream(1)) {
+            prepared.forEach(Runnable::run);
+        }
+    }
+
     private void flushNftState() {
         try {
             // flush tables required for an accurate nft state in database to ensure correct state-dependent changes
@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.historicalbalance;
+
+import jakarta.inject.Named;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.token.AbstractTokenAccount;
+import org.hiero.mirror.common.domain.token.NftTransfer;
+import org.hiero.mirror.common.domain.token.TokenAccount;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.common.domain.transaction.Transaction;
+import org.hiero.mirror.importer.parser.record.RecordStreamFileListener;
+import org.hiero.mirror.importer.parser.record.entity.EntityListener;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Tracks the accounts and token accounts whose balance changed in the record files parsed since the last historical
+ * balance snapshot, along with the latest balance timestamp of each. An incremental snapshot only has to copy the
+ * balances of the tracked rows instead of scanning the entity and token_account tables for them. An NFT treasury change
+ * updates token account balances directly in the database, so the tracker can't be relied on until the next snapshot
+ * taken after it.
+ */
+@ConditionalOnProperty(
+        name = "enabled",
+        matchIfMissing = true,
+        prefix = "hiero.mirror.importer.parser.record.historical-balance")
+@Named
+@Order(3)
+@RequiredArgsConstructor
+public class BalanceChangeTracker implements EntityListener, RecordStreamFileListener {
+
+    private final Map<Long, Long> accounts = new ConcurrentHashMap<>();
+    private final ParserContext parserContext;
+    private final HistoricalBalanceProperties properties;
+    private final Map<AbstractTokenAccount.Id, Long> tokenAccounts = new ConcurrentHashMap<>();
+
+    private boolean initialized;
+    private long invalidTimestamp;
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled() && properties.isIncremental();
+    }
+
+    @Override
+    public void onTransaction(Transaction transaction) {
+        var nftTransfers = transaction.getNftTransfer();
+        if (nftTransfers == null) {
+            return;
+        }
+
+        for (var nftTransfer : nftTransfers) {
+            if (nftTransfer.getSerialNumber() == NftTransfer.WILDCARD_SERIAL_NUMBER) {
+                invalidate(transaction.getConsensusTimestamp());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records the balance changes in the parser context. This is called before the record file is committed, so the
+     * changes of a record file that's later rolled back may be tracked. That only results in redundant rows in the
+     * next snapshot.
+     */
+    @Override
+    public void onEnd(RecordFile recordFile) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        for (var entity : parserContext.get(Entity.class)) {
+            var balanceTimestamp = entity.getBalanceTimestamp();
+            if (balanceTimestamp != null) {
+                accounts.merge(entity.getId(), balanceTimestamp, Math::max);
+            }
+        }
+
+        if (properties.isTokenBalances()) {
+            for (var tokenAccount : parserContext.get(TokenAccount.class)) {
+                var balanceTimestamp = tokenAccount.getBalanceTimestamp();
+                if (balanceTimestamp != null) {
+                    tokenAccounts.merge(tokenAccount.getId(), balanceTimestamp, Math::max);
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether every balance change since the last snapshot has been tracked. This is only the case after a snapshot
+     * was generated by this process, since changes parsed before it started weren't tracked, and no NFT treasury change
+     * was parsed after it.
+     */
+    public synchronized boolean isInitialized() {
+        return isEnabled() && initialized;
+    }
+
+    /**
+     * Gets a copy of the tracked changes. It has to be taken after the snapshot transaction has started so that it
+     * includes the changes of every record file visible to the transaction.
+     */
+    public Changes getChanges() {
+        return new Changes(Map.copyOf(accounts), Map.copyOf(tokenAccounts));
+    }
+
+    /**
+     * Removes the changes included in a committed snapshot. Changes from record files after the snapshot timestamp are
+     * kept for the next snapshot, even if they were written to this one.
+     *
+     * @param changes   the changes returned by {@link #getChanges()} when the snapshot was generated
+     * @param timestamp the consensus timestamp of the snapshot
+     */
+    public synchronized void onSnapshot(Changes changes, long timestamp) {
+        changes.accounts().forEach((id, balanceTimestamp) -> {
+            if (balanceTimestamp <= timestamp) {
+                accounts.remove(id, balanceTimestamp);
+            }
+        });
+
+        changes.tokenAccounts().forEach((id, balanceTimestamp) -> {
+            if (balanceTimestamp <= timestamp) {
+                tokenAccounts.remove(id, balanceTimestamp);
+            }
+        });
+
+        // A treasury change after the snapshot timestamp isn't included in it
+        initialized = isEnabled() && invalidTimestamp <= timestamp;
+    }
+
+    /**
+     * Forgets every tracked change and treasury change, as if nothing had been parsed since startup.
+     */
+    synchronized void reset() {
+        accounts.clear();
+        tokenAccounts.clear();
+        initialized = false;
+        invalidTimestamp = 0L;
+    }
+
+    private synchronized void invalidate(long timestamp) {
+        initialized = false;
+        invalidTimestamp = Math.max(invalidTimestamp, timestamp);
+    }
+
+    public record Changes(Map<Long, Long> accounts, Map<AbstractTokenAccount.Id, Long> tokenAccounts) {}
+}
@@ -26,6 +26,12 @@ public class HistoricalBalanceProperties {
 
     private boolean enabled = true;
 
+    /**
+     * Whether to generate the deduplicated snapshots from the balance changes tracked while parsing record files
+     * instead of scanning the entity and token_account tables.
+     */
+    private boolean incremental = false;
+
     @DurationMin(minutes = 2)
     @DurationUnit(ChronoUnit.MINUTES)
     @NotNull
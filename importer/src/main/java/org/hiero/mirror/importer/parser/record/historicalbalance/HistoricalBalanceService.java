@@ -6,11 +6,14 @@ import static org.hiero.mirror.common.domain.balance.AccountBalanceFile.INVALID_
 import static org.hiero.mirror.importer.parser.AbstractStreamFileParser.STREAM_PARSE_DURATION_METRIC_NAME;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Range;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.AccessLevel;
@@ -18,22 +21,29 @@ import lombok.CustomLog;
 import lombok.Getter;
 import org.hiero.mirror.common.domain.StreamType;
 import org.hiero.mirror.common.domain.SystemEntity;
+import org.hiero.mirror.common.domain.balance.AccountBalance;
 import org.hiero.mirror.common.domain.balance.AccountBalanceFile;
+import org.hiero.mirror.common.domain.balance.TokenBalance;
+import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.entity.EntityType;
+import org.hiero.mirror.common.domain.token.AbstractTokenAccount;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.domain.StreamFilename;
 import org.hiero.mirror.importer.domain.StreamFilename.FileType;
 import org.hiero.mirror.importer.exception.InvalidDatasetException;
 import org.hiero.mirror.importer.exception.ParserException;
+import org.hiero.mirror.importer.parser.batch.BatchPersister;
 import org.hiero.mirror.importer.parser.record.RecordFileParsedEvent;
 import org.hiero.mirror.importer.parser.record.RecordFileParser;
+import org.hiero.mirror.importer.parser.record.historicalbalance.BalanceChangeTracker.Changes;
 import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.AccountBalanceRepository;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.hiero.mirror.importer.repository.TokenBalanceRepository;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -48,12 +58,26 @@ import org.springframework.transaction.support.TransactionTemplate;
 @Named
 public class HistoricalBalanceService {
     private static final String ACCOUNT_BALANCE_TABLE_NAME = "account_balance";
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final String CHANGED_ACCOUNT_BALANCES_QUERY =
+            "select id, balance from entity where id = any(?) and balance is not null";
+
+    private static final String CHANGED_TOKEN_BALANCES_QUERY =
+            """
+            select ta.account_id, ta.balance, ta.token_id
+            from unnest(?, ?) as changed(account_id, token_id)
+            join token_account ta on ta.account_id = changed.account_id and ta.token_id = changed.token_id
+            """;
 
     @Getter(AccessLevel.PACKAGE)
     private final AtomicBoolean treasuryExists = new AtomicBoolean(false);
 
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
+    private final BalanceChangeTracker balanceChangeTracker;
+    private final BatchPersister batchPersister;
+    private final JdbcOperations jdbcOperations;
     private final HistoricalBalanceProperties properties;
     private final RecordFileRepository recordFileRepository;
     private final AtomicBoolean running = new AtomicBoolean(false);
@@ -71,6 +95,9 @@ public class HistoricalBalanceService {
     public HistoricalBalanceService(
             AccountBalanceFileRepository accountBalanceFileRepository,
             AccountBalanceRepository accountBalanceRepository,
+            BalanceChangeTracker balanceChangeTracker,
+            BatchPersister batchPersister,
+            JdbcOperations jdbcOperations,
             MeterRegistry meterRegistry,
             PlatformTransactionManager platformTransactionManager,
             HistoricalBalanceProperties properties,
@@ -81,6 +108,9 @@ public class HistoricalBalanceService {
             EntityRepository entityRepository) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.accountBalanceRepository = accountBalanceRepository;
+        this.balanceChangeTracker = balanceChangeTracker;
+        this.batchPersister = batchPersister;
+        this.jdbcOperations = jdbcOperations;
         this.properties = properties;
         this.recordFileRepository = recordFileRepository;
         this.systemEntity = systemEntity;
@@ -126,7 +156,7 @@ public class HistoricalBalanceService {
             checkTreasuryAccount();
 
             log.info("Generating historical balances after processing record file with consensusEnd {}", consensusEnd);
-            transactionTemplate.executeWithoutResult(t -> {
+            var snapshot = transactionTemplate.execute(t -> {
                 long loadStart = System.currentTimeMillis();
                 long timestamp = recordFileRepository
                         .findLatest()
@@ -136,6 +166,8 @@ public class HistoricalBalanceService {
 
                 var maxConsensusTimestamp = getMaxConsensusTimestamp(timestamp);
                 boolean full = maxConsensusTimestamp.isEmpty();
+                boolean incremental = balanceChangeTracker.isInitialized();
+                var changes = balanceChangeTracker.getChanges();
                 int accountBalancesCount;
                 int tokenBalancesCount;
                 if (full) {
@@ -144,6 +176,11 @@ public class HistoricalBalanceService {
                     tokenBalancesCount = properties.isTokenBalances()
                             ? tokenBalanceRepository.balanceSnapshot(timestamp, treasuryAccountId)
                             : 0;
+                } else if (incremental) {
+                    // only copy the balances that changed in the record files parsed since the last snapshot
+                    accountBalancesCount = incrementalAccountBalances(changes, timestamp, treasuryAccountId);
+                    tokenBalancesCount =
+                            properties.isTokenBalances() ? incrementalTokenBalances(changes, timestamp) : 0;
                 } else {
                     // get a snapshot that has no duplicates
                     accountBalancesCount = accountBalanceRepository.balanceSnapshotDeduplicate(
@@ -170,13 +207,19 @@ public class HistoricalBalanceService {
 
                 log.info(
                         "Generated {} historical account balance file {} with {} account balances and {} token balances in {}",
-                        full ? "full" : "deduped",
+                        full ? "full" : incremental ? "incremental" : "deduped",
                         filename,
                         accountBalancesCount,
                         tokenBalancesCount,
                         stopwatch);
+                return new Snapshot(changes, timestamp);
             });
 
+            // Only forget the tracked changes once the snapshot is committed
+            if (snapshot != null) {
+                balanceChangeTracker.onSnapshot(snapshot.changes(), snapshot.timestamp());
+            }
+
             timer = generateDurationMetricSuccess;
         } catch (Exception e) {
             log.error("Failed to generate historical balances in {}", stopwatch, e);
@@ -190,6 +233,53 @@ public class HistoricalBalanceService {
         }
     }
 
+    private int incrementalAccountBalances(Changes changes, long timestamp, long treasuryAccountId) {
+        var accountIds = new ArrayList<Long>(changes.accounts().size() + 1);
+        accountIds.add(treasuryAccountId);
+        accountIds.addAll(changes.accounts().keySet());
+        int count = 0;
+
+        for (var batch : Lists.partition(accountIds, BATCH_SIZE)) {
+            var accountBalances = jdbcOperations.query(
+                    CHANGED_ACCOUNT_BALANCES_QUERY,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("BIGINT", batch.toArray())),
+                    (rs, rowNum) -> {
+                        var accountId = EntityId.of(rs.getLong(1));
+                        return new AccountBalance(
+                                rs.getLong(2), List.of(), new AccountBalance.Id(timestamp, accountId));
+                    });
+            batchPersister.persist(accountBalances);
+            count += accountBalances.size();
+        }
+
+        return count;
+    }
+
+    private int incrementalTokenBalances(Changes changes, long timestamp) {
+        var tokenAccountIds = List.copyOf(changes.tokenAccounts().keySet());
+        int count = 0;
+
+        for (var batch : Lists.partition(tokenAccountIds, BATCH_SIZE)) {
+            var accountIds = batch.stream().map(AbstractTokenAccount.Id::getAccountId).toArray();
+            var tokenIds = batch.stream().map(AbstractTokenAccount.Id::getTokenId).toArray();
+            var tokenBalances = jdbcOperations.query(
+                    CHANGED_TOKEN_BALANCES_QUERY,
+                    ps -> {
+                        ps.setArray(1, ps.getConnection().createArrayOf("BIGINT", accountIds));
+                        ps.setArray(2, ps.getConnection().createArrayOf("BIGINT", tokenIds));
+                    },
+                    (rs, rowNum) -> {
+                        var accountId = EntityId.of(rs.getLong(1));
+                        var tokenId = EntityId.of(rs.getLong(3));
+                        return new TokenBalance(rs.getLong(2), new TokenBalance.Id(timestamp, accountId, tokenId));
+                    });
+            batchPersister.persist(tokenBalances);
+            count += tokenBalances.size();
+        }
+
+        return count;
+    }
+
     private Optional<Long> getMaxConsensusTimestamp(long timestamp) {
         var partitions =
                 timePartitionService.getOverlappingTimePartitions(ACCOUNT_BALANCE_TABLE_NAME, timestamp, timestamp);
@@ -242,4 +332,6 @@ public class HistoricalBalanceService {
             }
         }
     }
+
+    private record Snapshot(Changes changes, long timestamp) {}
 }
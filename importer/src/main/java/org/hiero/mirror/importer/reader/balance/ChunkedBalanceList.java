@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.balance;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.hiero.mirror.common.domain.balance.AccountBalance;
+
+/**
+ * An immutable list of account balances that are parsed from line or message aligned chunks of a balance file each
+ * time they're iterated instead of being held in memory as objects. The chunks keep a reference to the decompressed
+ * file bytes, which are much smaller than the parsed balances. Iteration parses up to {@code parallelism} chunks ahead
+ * in parallel, so only those chunks are on the heap as objects at once.
+ */
+final class ChunkedBalanceList extends AbstractList<AccountBalance> {
+
+    private final List<Chunk> chunks;
+    private final int parallelism;
+    private final int[] starts;
+    private final int size;
+
+    private int cachedChunk = -1;
+    private List<AccountBalance> cachedItems = List.of();
+
+    ChunkedBalanceList(List<Chunk> chunks, int parallelism) {
+        this.chunks = chunks;
+        this.parallelism = parallelism;
+        this.starts = new int[chunks.size()];
+
+        int count = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            starts[i] = count;
+            count += chunks.get(i).size();
+        }
+
+        this.size = count;
+    }
+
+    @Override
+    public synchronized AccountBalance get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+
+        int chunk = Arrays.binarySearch(starts, index);
+
+        if (chunk < 0) {
+            chunk = -chunk - 2;
+        }
+
+        // Skip over empty chunks that start at the same index
+        while (chunks.get(chunk).size() == 0 || starts[chunk] + chunks.get(chunk).size() <= index) {
+            chunk++;
+        }
+
+        if (chunk != cachedChunk) {
+            cachedItems = chunks.get(chunk).parse();
+            cachedChunk = chunk;
+        }
+
+        return cachedItems.get(index - starts[chunk]);
+    }
+
+    @Override
+    public Iterator<AccountBalance> iterator() {
+        return new ChunkIterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A section of the balance file that can be parsed independently of the others.
+     *
+     * @param size   the number of account balances in the chunk
+     * @param parser parses the account balances in the chunk
+     */
+    record Chunk(int size, Supplier<List<AccountBalance>> parser) {
+
+        /**
+         * Creates a chunk that returns the account balances it was already parsed into the first time it's parsed, then
+         * releases them and parses the chunk again on later calls.
+         *
+         * @param items  the account balances already parsed from the chunk
+         * @param parser parses the account balances in the chunk
+         * @return the chunk
+         */
+        static Chunk parsed(List<AccountBalance> items, Supplier<List<AccountBalance>> parser) {
+            var pending = new AtomicReference<>(items);
+            return new Chunk(items.size(), () -> {
+                var parsed = pending.getAndSet(null);
+                return parsed != null ? parsed : parser.get();
+            });
+        }
+
+        List<AccountBalance> parse() {
+            return parser.get();
+        }
+    }
+
+    private class ChunkIterator implements Iterator<AccountBalance> {
+
+        private final Deque<CompletableFuture<List<AccountBalance>>> pending = new ArrayDeque<>(parallelism);
+        private Iterator<AccountBalance> current = Collections.emptyIterator();
+        private int next;
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                while (pending.size() < parallelism && next < chunks.size()) {
+                    pending.add(CompletableFuture.supplyAsync(chunks.get(next++)::parse));
+                }
+
+                if (pending.isEmpty()) {
+                    return false;
+                }
+
+                current = join(pending.poll()).iterator();
+            }
+
+            return true;
+        }
+
+        @Override
+        public AccountBalance next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return current.next();
+        }
+
+        private List<AccountBalance> join(CompletableFuture<List<AccountBalance>> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+    }
+}
@@ -3,18 +3,19 @@
 package org.hiero.mirror.importer.reader.balance;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.LineNumberReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.digest.DigestUtils;
@@ -25,6 +26,7 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidDatasetException;
 import org.hiero.mirror.importer.parser.balance.BalanceParserProperties;
+import org.hiero.mirror.importer.reader.balance.ChunkedBalanceList.Chunk;
 import org.hiero.mirror.importer.reader.balance.line.AccountBalanceLineParser;
 
 @CustomLog
@@ -66,38 +68,39 @@ public abstract class CsvBalanceFileReader implements BalanceFileReader {
 
     @Override
     public AccountBalanceFile read(StreamFileData streamFileData) {
-        MessageDigest messageDigest = DigestUtils.getSha384Digest();
+        byte[] bytes = streamFileData.getDecompressedBytes();
         int bufferSize = balanceParserProperties.getFileBufferSize();
 
-        try (InputStream inputStream = new DigestInputStream(streamFileData.getInputStream(), messageDigest);
-                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, CHARSET), bufferSize)) {
+        try (var reader = new LineNumberReader(
+                new InputStreamReader(new ByteArrayInputStream(bytes), CHARSET), bufferSize)) {
             long consensusTimestamp = parseConsensusTimestamp(reader);
-            AtomicLong count = new AtomicLong(0L);
-            List<AccountBalance> items = new ArrayList<>();
+            int offset = skipLines(bytes, reader.getLineNumber());
+
+            // Validate and count the lines of each chunk without building their account balances. Only the
+            // decompressed bytes are kept and the chunks are parsed when the items are iterated, so the file is never
+            // held in memory as objects. The first chunks to be iterated are parsed now and keep their balances.
+            int parallelism = balanceParserProperties.getParallelism();
+            var ranges = split(bytes, offset);
+            var chunks = IntStream.range(0, ranges.size())
+                    .parallel()
+                    .mapToObj(i -> {
+                        var range = ranges.get(i);
+                        Supplier<List<AccountBalance>> parser = () -> parse(bytes, range, consensusTimestamp, false);
+                        return i < parallelism
+                                ? Chunk.parsed(parse(bytes, range, consensusTimestamp, true), parser)
+                                : new Chunk(validate(bytes, range), parser);
+                    })
+                    .toList();
+            var items = new ChunkedBalanceList(chunks, parallelism);
 
             AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
             accountBalanceFile.setBytes(streamFileData.getBytes());
             accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
+            accountBalanceFile.setCount((long) items.size());
+            accountBalanceFile.setFileHash(DigestUtils.sha384Hex(bytes));
+            accountBalanceFile.setItems(items);
             accountBalanceFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
             accountBalanceFile.setName(streamFileData.getFilename());
-
-            reader.lines()
-                    .map(line -> {
-                        try {
-                            AccountBalance accountBalance = parser.parse(line, consensusTimestamp);
-                            count.incrementAndGet();
-                            return accountBalance;
-                        } catch (InvalidDatasetException ex) {
-                            log.error("Error reading line", ex);
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .forEachOrdered(items::add);
-
-            accountBalanceFile.setCount(count.get());
-            accountBalanceFile.setFileHash(DomainUtils.bytesToHex(messageDigest.digest()));
-            accountBalanceFile.setItems(items);
             return accountBalanceFile;
         } catch (IOException ex) {
             throw new InvalidDatasetException("Error reading account balance file", ex);
@@ -110,4 +113,77 @@ public abstract class CsvBalanceFileReader implements BalanceFileReader {
         Instant instant = Instant.parse(timestamp);
         return DomainUtils.convertToNanosMax(instant);
     }
+
+    private List<AccountBalance> parse(byte[] bytes, Range range, long consensusTimestamp, boolean logErrors) {
+        List<AccountBalance> items = new ArrayList<>();
+
+        lines(bytes, range).forEach(line -> {
+            try {
+                items.add(parser.parse(line, consensusTimestamp));
+            } catch (InvalidDatasetException ex) {
+                if (logErrors) {
+                    log.error("Error reading line", ex);
+                }
+            }
+        });
+
+        return items;
+    }
+
+    /**
+     * Counts the lines in the range that parse without building their account balances.
+     */
+    private int validate(byte[] bytes, Range range) {
+        return (int) lines(bytes, range).filter(this::isValid).count();
+    }
+
+    private boolean isValid(String line) {
+        try {
+            parser.validate(line);
+            return true;
+        } catch (InvalidDatasetException ex) {
+            log.error("Error reading line", ex);
+            return false;
+        }
+    }
+
+    private Stream<String> lines(byte[] bytes, Range range) {
+        return new String(bytes, range.start(), range.end() - range.start(), CHARSET).lines();
+    }
+
+    /**
+     * Splits the body of the file into ranges of roughly the configured chunk size that end on a line boundary.
+     */
+    private List<Range> split(byte[] bytes, int offset) {
+        int chunkSize = balanceParserProperties.getChunkSize();
+        List<Range> ranges = new ArrayList<>();
+        int start = offset;
+
+        while (start < bytes.length) {
+            int end = (int) Math.min((long) start + chunkSize, bytes.length);
+
+            while (end < bytes.length && bytes[end - 1] != '\n') {
+                end++;
+            }
+
+            ranges.add(new Range(start, end));
+            start = end;
+        }
+
+        return ranges;
+    }
+
+    private int skipLines(byte[] bytes, int lines) {
+        int offset = 0;
+
+        while (lines > 0 && offset < bytes.length) {
+            if (bytes[offset++] == '\n') {
+                lines--;
+            }
+        }
+
+        return offset;
+    }
+
+    private record Range(int start, int end) {}
 }
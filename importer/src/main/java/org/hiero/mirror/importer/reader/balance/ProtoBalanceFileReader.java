@@ -2,12 +2,18 @@
 
 package org.hiero.mirror.importer.reader.balance;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
 import com.hedera.services.stream.proto.AllAccountBalances;
 import com.hedera.services.stream.proto.SingleAccountBalances;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import jakarta.inject.Named;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.hiero.mirror.common.domain.balance.AccountBalance;
 import org.hiero.mirror.common.domain.balance.AccountBalanceFile;
@@ -17,13 +23,19 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
 import org.hiero.mirror.importer.exception.StreamFileReaderException;
+import org.hiero.mirror.importer.parser.balance.BalanceParserProperties;
+import org.hiero.mirror.importer.reader.balance.ChunkedBalanceList.Chunk;
+import org.hiero.mirror.importer.util.Utility;
 
 @CustomLog
 @Named
+@RequiredArgsConstructor
 public class ProtoBalanceFileReader implements BalanceFileReader {
 
     private static final String FILE_EXTENSION = "pb";
 
+    private final BalanceParserProperties balanceParserProperties;
+
     @Override
     public boolean supports(StreamFileData streamFileData) {
         return FILE_EXTENSION.equals(
@@ -34,22 +46,45 @@ public class ProtoBalanceFileReader implements BalanceFileReader {
     public AccountBalanceFile read(StreamFileData streamFileData) {
         try {
             var bytes = streamFileData.getDecompressedBytes();
-            var allAccountBalances = AllAccountBalances.parseFrom(bytes);
+            var input = CodedInputStream.newInstance(bytes);
+            Timestamp timestamp = null;
+            List<Range> accounts = new ArrayList<>();
+
+            // Only validate and record where each account is so that the accounts can be parsed in parallel chunks
+            // later. The chunks keep the decompressed bytes, but not the parsed accounts, for as long as the items are
+            // in use. Validating here fails a malformed file when it's read instead of while it's being parsed.
+            while (!input.isAtEnd()) {
+                int tag = input.readTag();
+                int fieldNumber = WireFormat.getTagFieldNumber(tag);
+                boolean delimited = WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+                if (fieldNumber == AllAccountBalances.CONSENSUSTIMESTAMP_FIELD_NUMBER && delimited) {
+                    timestamp = Timestamp.parseFrom(input.readBytes());
+                } else if (fieldNumber == AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER && delimited) {
+                    int length = input.readRawVarint32();
+                    int limit = input.pushLimit(length);
+                    accounts.add(new Range(input.getTotalBytesRead(), length));
+                    Utility.validateMessage(input, SingleAccountBalances.getDescriptor());
+                    input.popLimit(limit);
+                } else if (!input.skipField(tag)) {
+                    break;
+                }
+            }
 
-            if (!allAccountBalances.hasConsensusTimestamp()) {
+            if (timestamp == null) {
                 throw new InvalidStreamFileException("Missing required consensusTimestamp field");
             }
 
-            long consensusTimestamp = DomainUtils.timestampInNanosMax(allAccountBalances.getConsensusTimestamp());
-            var items = allAccountBalances.getAllAccountsList().stream()
-                    .map(ab -> toAccountBalance(consensusTimestamp, ab))
+            long consensusTimestamp = DomainUtils.timestampInNanosMax(timestamp);
+            var chunks = split(accounts).stream()
+                    .map(chunk -> new Chunk(chunk.size(), () -> parse(bytes, chunk, consensusTimestamp)))
                     .toList();
 
             AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
             accountBalanceFile.setBytes(streamFileData.getBytes());
             accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
             accountBalanceFile.setFileHash(DigestUtils.sha384Hex(bytes));
-            accountBalanceFile.setItems(items);
+            accountBalanceFile.setItems(new ChunkedBalanceList(chunks, balanceParserProperties.getParallelism()));
             accountBalanceFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
             accountBalanceFile.setName(streamFileData.getFilename());
             return accountBalanceFile;
@@ -58,6 +93,44 @@ public class ProtoBalanceFileReader implements BalanceFileReader {
         }
     }
 
+    private List<AccountBalance> parse(byte[] bytes, List<Range> accounts, long consensusTimestamp) {
+        List<AccountBalance> items = new ArrayList<>(accounts.size());
+
+        try {
+            for (var account : accounts) {
+                var buffer = ByteBuffer.wrap(bytes, account.offset(), account.length());
+                var balances = SingleAccountBalances.parseFrom(buffer);
+                items.add(toAccountBalance(consensusTimestamp, balances));
+            }
+        } catch (IOException e) {
+            throw new StreamFileReaderException(e);
+        }
+
+        return items;
+    }
+
+    /**
+     * Groups consecutive accounts into chunks of roughly the configured chunk size.
+     */
+    private List<List<Range>> split(List<Range> accounts) {
+        int chunkSize = balanceParserProperties.getChunkSize();
+        List<List<Range>> chunks = new ArrayList<>();
+        int start = 0;
+        long bytes = 0L;
+
+        for (int i = 0; i < accounts.size(); i++) {
+            bytes += accounts.get(i).length();
+
+            if (bytes >= chunkSize || i == accounts.size() - 1) {
+                chunks.add(accounts.subList(start, i + 1));
+                start = i + 1;
+                bytes = 0L;
+            }
+        }
+
+        return chunks;
+    }
+
     private AccountBalance toAccountBalance(long consensusTimestamp, SingleAccountBalances balances) {
         EntityId accountId = EntityId.of(balances.getAccountID());
         List<TokenBalance> tokenBalances = balances.getTokenUnitBalancesList().stream()
@@ -70,4 +143,6 @@ public class ProtoBalanceFileReader implements BalanceFileReader {
         return new AccountBalance(
                 balances.getHbarBalance(), tokenBalances, new AccountBalance.Id(consensusTimestamp, accountId));
     }
+
+    private record Range(int offset, int length) {}
 }
@@ -3,9 +3,21 @@
 package org.hiero.mirror.importer.reader.balance.line;
 
 import org.hiero.mirror.common.domain.balance.AccountBalance;
+import org.hiero.mirror.importer.exception.InvalidDatasetException;
 
 public interface AccountBalanceLineParser {
     String INVALID_BALANCE = "Invalid account balance line: ";
 
     AccountBalance parse(String line, long consensusTimestamp);
+
+    /**
+     * Checks that an account balance line can be parsed, failing in the same cases as {@link #parse(String, long)}.
+     * Implementations should avoid building the account and token balances where that's cheaper than parsing.
+     *
+     * @param line The account balance line
+     * @throws InvalidDatasetException if the line is malformed
+     */
+    default void validate(String line) {
+        parse(line, 0L);
+    }
 }
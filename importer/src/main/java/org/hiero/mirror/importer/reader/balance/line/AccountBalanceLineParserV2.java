@@ -3,10 +3,12 @@
 package org.hiero.mirror.importer.reader.balance.line;
 
 import com.google.common.base.Splitter;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hederahashgraph.api.proto.java.TokenBalances;
 import com.hederahashgraph.api.proto.java.TokenID;
 import jakarta.inject.Named;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -16,6 +18,7 @@ import org.hiero.mirror.common.domain.balance.AccountBalance;
 import org.hiero.mirror.common.domain.balance.TokenBalance;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.importer.exception.InvalidDatasetException;
+import org.hiero.mirror.importer.util.Utility;
 
 @Named
 @RequiredArgsConstructor
@@ -36,43 +39,81 @@ public class AccountBalanceLineParserV2 implements AccountBalanceLineParser {
     @Override
     public AccountBalance parse(String line, long consensusTimestamp) {
         try {
-            if (line == null) {
-                throw new InvalidDatasetException("Null line cannot be parsed");
-            }
-            List<String> parts = SPLITTER.splitToList(line);
-            boolean hasTokenBalance;
+            List<String> parts = split(line);
+            EntityId accountId = parseAccountId(parts, line);
+            long balance = parseBalance(parts, line);
+
+            List<TokenBalance> tokenBalances = parts.size() == 5
+                    ? parseTokenBalanceList(parts.get(4), consensusTimestamp, accountId)
+                    : Collections.emptyList();
+
+            return new AccountBalance(balance, tokenBalances, new AccountBalance.Id(consensusTimestamp, accountId));
+        } catch (NumberFormatException | InvalidProtocolBufferException ex) {
+            throw new InvalidDatasetException(INVALID_BALANCE + line, ex);
+        }
+    }
+
+    /**
+     * Checks the account balance line like {@link #parse(String, long)} but only checks the wire format of the token
+     * balances instead of building them.
+     *
+     * @param line The account balance line
+     * @throws InvalidDatasetException if the line is malformed or the shard does not match {@code systemShardNum}
+     */
+    @Override
+    public void validate(String line) {
+        try {
+            List<String> parts = split(line);
+            parseAccountId(parts, line);
+            parseBalance(parts, line);
+
             if (parts.size() == 5) {
-                hasTokenBalance = true;
-            } else if (parts.size() == 4) {
-                hasTokenBalance = false;
-            } else {
-                throw new InvalidDatasetException(INVALID_BALANCE + line);
+                var input = CodedInputStream.newInstance(Base64.decodeBase64(parts.get(4)));
+                Utility.validateMessage(input, TokenBalances.getDescriptor());
             }
+        } catch (NumberFormatException | IOException ex) {
+            throw new InvalidDatasetException(INVALID_BALANCE + line, ex);
+        }
+    }
 
-            long shardNum = Long.parseLong(parts.get(0));
-            int realmNum = Integer.parseInt(parts.get(1));
-            int accountNum = Integer.parseInt(parts.get(2));
-            long balance = Long.parseLong(parts.get(3));
+    private List<String> split(String line) {
+        if (line == null) {
+            throw new InvalidDatasetException("Null line cannot be parsed");
+        }
 
-            if (shardNum < 0 || realmNum < 0 || accountNum < 0 || balance < 0) {
-                throw new InvalidDatasetException(INVALID_BALANCE + line);
-            }
+        List<String> parts = SPLITTER.splitToList(line);
+        if (parts.size() != 4 && parts.size() != 5) {
+            throw new InvalidDatasetException(INVALID_BALANCE + line);
+        }
 
-            if (shardNum != 0) {
-                throw new InvalidDatasetException(String.format(
-                        "Invalid account balance line: %s. Expect shard (0), got shard (%d)", line, shardNum));
-            }
+        return parts;
+    }
 
-            EntityId accountId = EntityId.of(shardNum, realmNum, accountNum);
+    private EntityId parseAccountId(List<String> parts, String line) {
+        long shardNum = Long.parseLong(parts.get(0));
+        int realmNum = Integer.parseInt(parts.get(1));
+        int accountNum = Integer.parseInt(parts.get(2));
 
-            List<TokenBalance> tokenBalances = hasTokenBalance
-                    ? parseTokenBalanceList(parts.get(4), consensusTimestamp, accountId)
-                    : Collections.emptyList();
+        if (shardNum < 0 || realmNum < 0 || accountNum < 0) {
+            throw new InvalidDatasetException(INVALID_BALANCE + line);
+        }
 
-            return new AccountBalance(balance, tokenBalances, new AccountBalance.Id(consensusTimestamp, accountId));
-        } catch (NumberFormatException | InvalidProtocolBufferException ex) {
-            throw new InvalidDatasetException(INVALID_BALANCE + line, ex);
+        if (shardNum != 0) {
+            throw new InvalidDatasetException(String.format(
+                    "Invalid account balance line: %s. Expect shard (0), got shard (%d)", line, shardNum));
         }
+
+        return EntityId.of(shardNum, realmNum, accountNum);
+    }
+
+    private long parseBalance(List<String> parts, String line) {
+        long balance = Long.parseLong(parts.get(3));
+
+        if (balance < 0) {
+            throw new InvalidDatasetException(INVALID_BALANCE + line);
+        }
+
+        return balance;
     }
 
     private List<TokenBalance> parseTokenBalanceList(
@@ -13,19 +13,25 @@ import static org.hiero.mirror.importer.reconciliation.ReconciliationProperties.
 import static org.hiero.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.FAIL;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
+import com.google.common.collect.PeekingIterator;
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Function;
+import java.util.stream.Stream;
 import lombok.Builder;
 import lombok.CustomLog;
 import lombok.Value;
@@ -39,8 +45,18 @@ import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.ReconciliationJobRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.scheduling.annotation.Scheduled;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reconciles consecutive balance files with the transfers between them. Both balance snapshots and the transfer sums
+ * are read as cursors sorted by account and compared with a merge join, so memory use doesn't depend on the number of
+ * accounts. Token balances are reconciled on a separate connection in parallel with HBAR balances. When accumulating
+ * errors, the differences of each pair are carried over and added to the expected balances of the next pair instead
+ * of being recomputed from the last snapshot that matched.
+ */
 @CustomLog
 @Named
 class BalanceReconciliationService {
@@ -48,24 +64,44 @@ class BalanceReconciliationService {
     static final long FIFTY_BILLION_HBARS = 50_000_000_000L * 100_000_000L;
     static final String METRIC = "hiero.mirror.importer.reconciliation";
 
+    // Limits the number of differences kept for the error message
+    private static final int MAX_DIFFERENCES = 100;
+
     // Due to the number of rows returned, it's considerably more performant to not use JPA
     private static final String BALANCE_QUERY =
-            "select account_id, balance from account_balance " + "where consensus_timestamp = ?";
+            """
+                    select account_id, balance from account_balance
+                    where consensus_timestamp = ?
+                    order by account_id""";
+
+    private static final String BALANCE_TOTAL_QUERY =
+            "select coalesce(sum(balance), 0) from account_balance where consensus_timestamp = ?";
 
     private static final String CRYPTO_TRANSFER_QUERY =
             """
                     select entity_id, sum(amount) balance from crypto_transfer
                     where consensus_timestamp > ? and consensus_timestamp <= ? and (errata is null or errata <> 'DELETE')
-                    group by entity_id""";
+                    group by entity_id
+                    order by entity_id""";
 
     private static final String TOKEN_BALANCE_QUERY =
-            "select account_id, token_id, balance from token_balance " + "where consensus_timestamp = ?";
+            """
+                    select account_id, token_id, balance from token_balance
+                    where consensus_timestamp = ?
+                    order by account_id, token_id""";
 
     private static final String TOKEN_TRANSFER_QUERY =
             """
                     select account_id, token_id, sum(amount) as balance
                     from token_transfer where consensus_timestamp > ? and consensus_timestamp <= ?
-                    group by token_id, account_id""";
+                    group by account_id, token_id
+                    order by account_id, token_id""";
+
+    private static final RowMapper<Balance<Long>> CRYPTO_ROW_MAPPER =
+            (rs, rowNum) -> new Balance<>(rs.getLong(1), rs.getLong(2));
+
+    private static final RowMapper<Balance<TokenAccountId>> TOKEN_ROW_MAPPER =
+            (rs, rowNum) -> new Balance<>(new TokenAccountId(rs.getLong(1), rs.getLong(2)), rs.getLong(3));
 
     final AtomicReference<ReconciliationStatus> status;
 
@@ -74,11 +110,13 @@ class BalanceReconciliationService {
     private final RecordFileRepository recordFileRepository;
     private final ReconciliationProperties reconciliationProperties;
     private final ReconciliationJobRepository reconciliationJobRepository;
+    private final TransactionTemplate transactionTemplate;
 
     BalanceReconciliationService(
             AccountBalanceFileRepository accountBalanceFileRepository,
             JdbcOperations jdbcOperations,
             MeterRegistry meterRegistry,
+            PlatformTransactionManager platformTransactionManager,
             RecordFileRepository recordFileRepository,
             ReconciliationProperties reconciliationProperties,
             ReconciliationJobRepository reconciliationJobRepository) {
@@ -89,6 +127,9 @@ class BalanceReconciliationService {
         this.reconciliationJobRepository = reconciliationJobRepository;
         this.status = meterRegistry.gauge(
                 METRIC, new AtomicReference<>(UNKNOWN), s -> s.get().ordinal());
+        // Cursors are only used by the PostgreSQL driver when auto-commit is disabled
+        this.transactionTemplate = new TransactionTemplate(platformTransactionManager);
+        this.transactionTemplate.setReadOnly(true);
     }
 
     @Scheduled(cron = "${hiero.mirror.importer.reconciliation.cron:0 0 0 * * *}")
@@ -101,7 +142,7 @@ class BalanceReconciliationService {
         var stopwatch = Stopwatch.createStarted();
         var reconciliationJob = getLatestJob();
 
-        try {
+        try (var executor = Executors.newSingleThreadExecutor()) {
             log.info(
                     "Reconciling balance files between {} and {} with {} remediation strategy",
                     Instant.ofEpochSecond(0, reconciliationJob.getConsensusTimestamp()),
@@ -115,15 +156,22 @@ class BalanceReconciliationService {
                 return;
             }
 
+            var first = previous.get().getAccountBalanceFile();
+            long total = jdbcOperations.queryForObject(BALANCE_TOTAL_QUERY, Long.class, first.getConsensusTimestamp());
+            validateTotal(first, total);
+
+            // The expected minus the actual balances of the previous pair, which are only kept when accumulating
+            Map<Long, Long> cryptoCarried = Map.of();
+            Map<TokenAccountId, Long> tokenCarried = Map.of();
             var current = getNextBalanceSnapshot(reconciliationJob, previous);
 
             while (current.isPresent()) {
-                reconcile(previous.get(), current.get());
+                var snapshot = current.get();
+                var result = reconcile(executor, previous.get(), snapshot, cryptoCarried, tokenCarried);
                 reconciliationJob.increment();
 
                 if (!reconciliationJob.hasErrors()) {
-                    var consensusTimestamp =
-                            current.get().getAccountBalanceFile().getConsensusTimestamp();
+                    var consensusTimestamp = snapshot.getAccountBalanceFile().getConsensusTimestamp();
                     reconciliationJob.setConsensusTimestamp(consensusTimestamp);
 
                     // Periodically update progress
@@ -132,16 +180,10 @@ class BalanceReconciliationService {
                     }
                 }
 
-                if (reconciliationProperties.getRemediationStrategy() == ACCUMULATE) {
-                    previous = Optional.of(current.get().toBuilder()
-                            .balances(previous.get().getBalances())
-                            .tokenBalances(previous.get().getTokenBalances())
-                            .build());
-                } else {
-                    previous = current;
-                }
-
-                current = getNextBalanceSnapshot(reconciliationJob, previous);
+                cryptoCarried = result.crypto().carried();
+                tokenCarried = result.token().carried();
+                previous = current;
+                current = getNextBalanceSnapshot(reconciliationJob, current);
             }
 
             if (reconciliationJob.hasErrors()) {
@@ -186,102 +228,202 @@ class BalanceReconciliationService {
         return reconciliationJobRepository.save(reconciliationJob);
     }
 
-    private void reconcile(BalanceSnapshot previous, BalanceSnapshot current) {
-        reconcileCryptoTransfers(previous, current);
-        reconcileTokenTransfers(previous, current);
+    private SnapshotResult reconcile(
+            ExecutorService executor,
+            BalanceSnapshot previous,
+            BalanceSnapshot current,
+            Map<Long, Long> cryptoCarried,
+            Map<TokenAccountId, Long> tokenCarried) {
+        var tokenFuture = CompletableFuture.supplyAsync(
+                () -> reconcileTokenTransfers(previous, current, tokenCarried), executor);
+        MergeResult<Long> crypto;
+
+        try {
+            crypto = reconcileCryptoTransfers(previous, current, cryptoCarried);
+        } catch (RuntimeException e) {
+            tokenFuture.cancel(true);
+            throw e;
+        }
+
+        MergeResult<TokenAccountId> token;
+
+        try {
+            token = tokenFuture.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+
+        var reconciliationJob = current.getReconciliationJob();
+        validateTotal(current.getAccountBalanceFile(), crypto.total());
+        handleDifferences(FAILURE_CRYPTO_TRANSFERS, reconciliationJob, previous, current, crypto);
+        handleDifferences(FAILURE_TOKEN_TRANSFERS, reconciliationJob, previous, current, token);
 
         long elapsed = System.currentTimeMillis() - current.getStartTime();
         String name = current.getAccountBalanceFile().getName();
         log.info(
                 "Reconciled balance file {} with {} balances and {} token balances in {} ms",
                 name,
-                current.getBalances().size(),
-                current.getTokenBalances().size(),
+                crypto.count(),
+                token.count(),
                 elapsed);
 
         if (Duration.ZERO.compareTo(reconciliationProperties.getDelay()) < 0) {
             Uninterruptibles.sleepUninterruptibly(reconciliationProperties.getDelay());
         }
-    }
-
-    private void reconcileCryptoTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
-        var transfersBalance = previous.getBalances();
 
-        jdbcOperations.query(
-                CRYPTO_TRANSFER_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long balance = rs.getLong(2);
-                    transfersBalance.merge(accountId, balance, Math::addExact);
-                },
-                previous.getTimestamp(),
-                current.getTimestamp());
+        return new SnapshotResult(crypto, token);
+    }
 
-        reconcileTransfers(FAILURE_CRYPTO_TRANSFERS, BalanceSnapshot::getBalances, previous, current);
+    private MergeResult<Long> reconcileCryptoTransfers(
+            BalanceSnapshot base, BalanceSnapshot current, Map<Long, Long> carried) {
+        return transactionTemplate.execute(t -> {
+            try (var previous = query(BALANCE_QUERY, CRYPTO_ROW_MAPPER, base.getConsensusTimestamp());
+                    var transfers = query(
+                            CRYPTO_TRANSFER_QUERY, CRYPTO_ROW_MAPPER, base.getTimestamp(), current.getTimestamp());
+                    var balances = query(BALANCE_QUERY, CRYPTO_ROW_MAPPER, current.getConsensusTimestamp())) {
+                return merge(previous.iterator(), transfers.iterator(), balances.iterator(), carried);
+            }
+        });
     }
 
-    private void reconcileTokenTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
+    private MergeResult<TokenAccountId> reconcileTokenTransfers(
+            BalanceSnapshot base, BalanceSnapshot current, Map<TokenAccountId, Long> carried) {
         if (!reconciliationProperties.isToken()) {
-            return;
+            return MergeResult.empty();
         }
 
-        var tokenBalances = previous.getTokenBalances();
+        return transactionTemplate.execute(t -> {
+            try (var previous = query(TOKEN_BALANCE_QUERY, TOKEN_ROW_MAPPER, base.getConsensusTimestamp());
+                    var transfers = query(
+                            TOKEN_TRANSFER_QUERY, TOKEN_ROW_MAPPER, base.getTimestamp(), current.getTimestamp());
+                    var balances = query(TOKEN_BALANCE_QUERY, TOKEN_ROW_MAPPER, current.getConsensusTimestamp())) {
+                return merge(previous.iterator(), transfers.iterator(), balances.iterator(), carried);
+            }
+        });
+    }
 
-        jdbcOperations.query(
-                TOKEN_TRANSFER_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long tokenId = rs.getLong(2);
-                    long balance = rs.getLong(3);
-                    var tokenAccountId = new TokenAccountId(accountId, tokenId);
-                    tokenBalances.merge(tokenAccountId, balance, Math::addExact);
+    private <K> Stream<Balance<K>> query(String sql, RowMapper<Balance<K>> rowMapper, Object... args) {
+        int fetchSize = reconciliationProperties.getFetchSize();
+        return jdbcOperations.queryForStream(
+                con -> {
+                    var preparedStatement = con.prepareStatement(sql);
+                    preparedStatement.setFetchSize(fetchSize);
+                    for (int i = 0; i < args.length; i++) {
+                        preparedStatement.setObject(i + 1, args[i]);
+                    }
+                    return preparedStatement;
                 },
-                previous.getTimestamp(),
-                current.getTimestamp());
-
-        reconcileTransfers(FAILURE_TOKEN_TRANSFERS, BalanceSnapshot::getTokenBalances, previous, current);
+                rowMapper);
     }
 
-    private <K> void reconcileTransfers(
-            ReconciliationStatus failureStatus,
-            Function<BalanceSnapshot, Map<K, Long>> mapper,
-            BalanceSnapshot previous,
-            BalanceSnapshot current) {
-        var transfersBalance = mapper.apply(previous);
-        var currentBalances = mapper.apply(current);
+    /**
+     * Merges three cursors sorted by the same key and compares the previous balance plus the transfers and the
+     * difference carried over from the previous pair with the current balance. A missing row is treated as a zero
+     * balance. When accumulating, the differences of this pair are returned to be carried over to the next one.
+     */
+    private <K extends Comparable<K>> MergeResult<K> merge(
+            Iterator<Balance<K>> previousIterator,
+            Iterator<Balance<K>> transfersIterator,
+            Iterator<Balance<K>> currentIterator,
+            Map<K, Long> carriedDifferences) {
+        var previous = Iterators.peekingIterator(previousIterator);
+        var transfers = Iterators.peekingIterator(transfersIterator);
+        var current = Iterators.peekingIterator(currentIterator);
+        var carried = Iterators.peekingIterator(carriedDifferences.entrySet().stream()
+                .map(e -> new Balance<>(e.getKey(), e.getValue()))
+                .iterator());
+        boolean accumulate = reconciliationProperties.getRemediationStrategy() == ACCUMULATE;
+        int maxCarriedDifferences = reconciliationProperties.getMaxCarriedDifferences();
+        var carry = new TreeMap<K, Long>();
+        var expectedDifferences = new TreeMap<K, Long>();
+        var actualDifferences = new TreeMap<K, Long>();
+        long count = 0L;
+        long differences = 0L;
+        long total = 0L;
+
+        while (previous.hasNext() || transfers.hasNext() || current.hasNext() || carried.hasNext()) {
+            var key = min(min(min(peekKey(previous), peekKey(transfers)), peekKey(current)), peekKey(carried));
+            var previousBalance = next(previous, key);
+            var transferBalance = next(transfers, key);
+            var currentBalance = next(current, key);
+            var carriedBalance = next(carried, key);
+
+            Long expected = null;
+            if (previousBalance != null || transferBalance != null || carriedBalance != null) {
+                expected = Math.addExact(
+                        Math.addExact(
+                                Objects.requireNonNullElse(previousBalance, 0L),
+                                Objects.requireNonNullElse(transferBalance, 0L)),
+                        Objects.requireNonNullElse(carriedBalance, 0L));
+            }
 
-        if (!equals(transfersBalance, currentBalances)) {
-            long fromTimestamp = previous.getTimestamp();
-            long toTimestamp = current.getTimestamp();
-            var difference = Maps.difference(transfersBalance, currentBalances);
+            long actual = Objects.requireNonNullElse(currentBalance, 0L);
+            total += actual;
 
-            if (reconciliationProperties.getRemediationStrategy() == FAIL) {
-                throw new ReconciliationException(failureStatus, fromTimestamp, toTimestamp, difference);
+            if (currentBalance != null) {
+                ++count;
             }
 
-            var error = String.format(failureStatus.getMessage(), fromTimestamp, toTimestamp, difference);
-            log.warn(error);
+            long expectedBalance = Objects.requireNonNullElse(expected, 0L);
+            if (expectedBalance == actual) {
+                continue;
+            }
 
-            var reconciliationJob = previous.getReconciliationJob();
-            reconciliationJob.setError(StringUtils.joinWith("\n", reconciliationJob.getError(), error));
-            reconciliationJob.setStatus(failureStatus);
+            if (accumulate && differences < maxCarriedDifferences) {
+                carry.put(key, Math.subtractExact(expectedBalance, actual));
+            }
+
+            if (++differences <= MAX_DIFFERENCES) {
+                if (expected != null) {
+                    expectedDifferences.put(key, expected);
+                }
+                if (currentBalance != null) {
+                    actualDifferences.put(key, currentBalance);
+                }
+            }
         }
+
+        if (accumulate && differences > maxCarriedDifferences) {
+            log.warn(
+                    "Not carrying over {} differences since they exceed the maximum of {}, the next balance file is "
+                            + "reconciled against this one",
+                    differences,
+                    maxCarriedDifferences);
+            carry.clear();
+        }
+
+        return new MergeResult<>(count, differences, expectedDifferences, actualDifferences, carry, total);
     }
 
-    private <T> boolean equals(Map<T, Long> previous, Map<T, Long> current) {
-        for (var previousEntry : previous.entrySet()) {
-            long currentValue = current.getOrDefault(previousEntry.getKey(), 0L);
-            if (previousEntry.getValue() != currentValue) {
-                return false;
-            }
+    private <K> void handleDifferences(
+            ReconciliationStatus failureStatus,
+            ReconciliationJob reconciliationJob,
+            BalanceSnapshot previous,
+            BalanceSnapshot current,
+            MergeResult<K> result) {
+        if (result.matches()) {
+            return;
         }
-        for (var currentEntry : current.entrySet()) {
-            long previousValue = previous.getOrDefault(currentEntry.getKey(), 0L);
-            if (currentEntry.getValue() != previousValue) {
-                return false;
-            }
+
+        long fromTimestamp = previous.getTimestamp();
+        long toTimestamp = current.getTimestamp();
+        var difference = Maps.difference(result.expected(), result.actual());
+
+        if (reconciliationProperties.getRemediationStrategy() == FAIL) {
+            throw new ReconciliationException(failureStatus, fromTimestamp, toTimestamp, difference);
+        }
+
+        var error = String.format(failureStatus.getMessage(), fromTimestamp, toTimestamp, difference);
+        log.warn(error);
+        reconciliationJob.setError(StringUtils.joinWith("\n", reconciliationJob.getError(), error));
+        reconciliationJob.setStatus(failureStatus);
+    }
+
+    private void validateTotal(AccountBalanceFile accountBalanceFile, long total) {
+        if (total != FIFTY_BILLION_HBARS) {
+            String name = accountBalanceFile.getName();
+            throw new ReconciliationException(FAILURE_FIFTY_BILLION, name, total);
         }
-        return true;
     }
 
     private Optional<BalanceSnapshot> getNextBalanceSnapshot(
@@ -298,63 +440,41 @@ class BalanceReconciliationService {
                 .findNextInRange(fromTimestamp, toTimestamp)
                 .map(accountBalanceFile -> {
                     var timestamp = accountBalanceFile.getConsensusTimestamp();
-                    var balances = getAccountBalances(accountBalanceFile);
                     var recordFile = recordFileRepository.findNextBetween(timestamp - 1L, Long.MAX_VALUE);
-                    var tokenBalances = getTokenBalances(accountBalanceFile);
-                    return new BalanceSnapshot(
-                            accountBalanceFile, balances, recordFile, reconciliationJob, startTime, tokenBalances);
+                    return new BalanceSnapshot(accountBalanceFile, recordFile, reconciliationJob, startTime);
                 });
     }
 
-    private Map<Long, Long> getAccountBalances(AccountBalanceFile accountBalanceFile) {
-        Map<Long, Long> balances = new HashMap<>();
-        AtomicLong total = new AtomicLong(0L);
-        long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
-
-        jdbcOperations.query(
-                BALANCE_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long balance = rs.getLong(2);
-                    balances.put(accountId, balance);
-                    total.addAndGet(balance);
-                },
-                consensusTimestamp);
+    private static <K> K peekKey(PeekingIterator<Balance<K>> iterator) {
+        return iterator.hasNext() ? iterator.peek().id() : null;
+    }
 
-        if (total.get() != FIFTY_BILLION_HBARS) {
-            String name = accountBalanceFile.getName();
-            throw new ReconciliationException(FAILURE_FIFTY_BILLION, name, total.get());
+    private static <K> Long next(PeekingIterator<Balance<K>> iterator, K key) {
+        if (iterator.hasNext() && iterator.peek().id().equals(key)) {
+            return iterator.next().balance();
         }
-
-        return balances;
+        return null;
     }
 
-    private Map<TokenAccountId, Long> getTokenBalances(AccountBalanceFile accountBalanceFile) {
-        if (!reconciliationProperties.isToken()) {
-            return Collections.emptyMap();
+    private static <K extends Comparable<K>> K min(K first, K second) {
+        if (first == null) {
+            return second;
+        } else if (second == null) {
+            return first;
         }
-
-        Map<TokenAccountId, Long> balances = new HashMap<>();
-        long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
-
-        jdbcOperations.query(
-                TOKEN_BALANCE_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long tokenId = rs.getLong(2);
-                    long balance = rs.getLong(3);
-                    var tokenAccountId = new TokenAccountId(accountId, tokenId);
-                    balances.put(tokenAccountId, balance);
-                },
-                consensusTimestamp);
-
-        return balances;
+        return first.compareTo(second) <= 0 ? first : second;
     }
 
     @Value
-    static class TokenAccountId {
+    static class TokenAccountId implements Comparable<TokenAccountId> {
         private final long accountId;
         private final long tokenId;
+
+        @Override
+        public int compareTo(TokenAccountId other) {
+            int result = Long.compare(accountId, other.accountId);
+            return result != 0 ? result : Long.compare(tokenId, other.tokenId);
+        }
     }
 
     @Builder(toBuilder = true)
@@ -362,14 +482,37 @@ class BalanceReconciliationService {
     private static class BalanceSnapshot {
 
         private final AccountBalanceFile accountBalanceFile;
-        private final Map<Long, Long> balances;
         private final Optional<RecordFile> recordFile;
         private final ReconciliationJob reconciliationJob;
         private final long startTime;
-        private final Map<TokenAccountId, Long> tokenBalances;
+
+        private long getConsensusTimestamp() {
+            return accountBalanceFile.getConsensusTimestamp();
+        }
 
         private long getTimestamp() {
             return accountBalanceFile.getConsensusTimestamp() + accountBalanceFile.getTimeOffset();
         }
     }
+
+    private record Balance<K>(K id, long balance) {}
+
+    private record MergeResult<K>(
+            long count,
+            long differences,
+            Map<K, Long> expected,
+            Map<K, Long> actual,
+            Map<K, Long> carried,
+            long total) {
+
+        private static <K> MergeResult<K> empty() {
+            return new MergeResult<>(0L, 0L, Map.of(), Map.of(), Map.of(), 0L);
+        }
+
+        private boolean matches() {
+            return differences == 0;
+        }
+    }
+
+    private record SnapshotResult(MergeResult<Long> crypto, MergeResult<TokenAccountId> token) {}
 }
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.reconciliation;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
@@ -28,6 +29,13 @@ class ReconciliationProperties {
     @NotNull
     private Instant endDate = Utility.MAX_INSTANT_LONG;
 
+    @Min(1)
+    private int fetchSize = 10_000;
+
+    // Bounds the differences kept in memory between balance files when accumulating errors
+    @Min(0)
+    private int maxCarriedDifferences = 100_000;
+
     private RemediationStrategy remediationStrategy = RemediationStrategy.FAIL;
 
     @NotNull
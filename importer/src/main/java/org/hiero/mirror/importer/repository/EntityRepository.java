@@ -5,6 +5,7 @@ package org.hiero.mirror.importer.repository;
 import java.util.List;
 import java.util.Optional;
 import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.importer.domain.AliasMapping;
 import org.hiero.mirror.importer.domain.EvmAddressMapping;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -19,6 +20,16 @@ public interface EntityRepository extends CrudRepository<Entity, Long> {
     @Query(value = "select id from entity where evm_address = ?1 and deleted <> true", nativeQuery = true)
     Optional<Long> findByEvmAddress(byte[] evmAddress);
 
+    @Query(
+            value =
+                    """
+            select alias, id from entity where alias = any(?1) and deleted <> true
+            union all
+            select evm_address, id from entity where evm_address = any(?2) and deleted <> true
+            """,
+            nativeQuery = true)
+    List<AliasMapping> findByAliasesAndEvmAddresses(byte[][] aliases, byte[][] evmAddresses);
+
     @Query(value = "select evm_address,id from entity where id in (?1) and length(evm_address) > 0", nativeQuery = true)
     List<EvmAddressMapping> findEvmAddressesByIds(Iterable<? extends Long> ids);
 
@@ -15,6 +15,7 @@ import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 @RequiredArgsConstructor
 public class GenericUpsertQueryGenerator implements UpsertQueryGenerator {
 
+    private static final String SOURCE_NAME = "source_rows";
     private static final String UPSERT_TEMPLATE = "/db/template/upsert.vm";
     private static final String UPSERT_HISTORY_TEMPLATE = "/db/template/upsert_history.vm";
 
@@ -25,14 +26,25 @@ public class GenericUpsertQueryGenerator implements UpsertQueryGenerator {
         return metadata.getTableName();
     }
 
+    @Override
+    public String getUpsertQuery() {
+        return getUpsertQuery(getTemporaryTableName(), "");
+    }
+
+    @Override
+    public String getUpsertQuery(String sourceQuery) {
+        return getUpsertQuery(SOURCE_NAME, String.format("%s as (%s), ", SOURCE_NAME, sourceQuery));
+    }
+
     /**
      * Constructs an upsert query using a velocity template with replacement variables for table and column names
      * constructed from the `EntityMetadata` metadata.
      *
+     * @param source    the relation to read the rows from, either the temporary table or a common table expression
+     * @param sourceCte the common table expression that defines the source, or blank for the temporary table
      * @return the upsert query
      */
-    @Override
-    public String getUpsertQuery() {
+    private String getUpsertQuery(String source, String sourceCte) {
         VelocityEngine velocityEngine = new VelocityEngine();
         velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADERS, RuntimeConstants.RESOURCE_LOADER_CLASS);
         velocityEngine.setProperty("resource.loader.class.class", ClasspathResourceLoader.class.getName());
@@ -44,7 +56,8 @@ public class GenericUpsertQueryGenerator implements UpsertQueryGenerator {
         VelocityContext velocityContext = new VelocityContext();
         velocityContext.put("finalTable", getFinalTableName());
         velocityContext.put("historyTable", getFinalTableName() + "_history");
-        velocityContext.put("tempTable", getTemporaryTableName());
+        velocityContext.put("sourceCte", sourceCte);
+        velocityContext.put("tempTable", source);
 
         // {0} is column name and {1} is column default. t or blank is the temporary table alias and e is the existing.
         velocityContext.put("coalesceColumns", metadata.columns("coalesce({0}, e_{0}, {1})"));
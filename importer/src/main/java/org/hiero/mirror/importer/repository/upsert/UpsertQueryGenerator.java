@@ -2,6 +2,8 @@
 
 package org.hiero.mirror.importer.repository.upsert;
 
+import org.jspecify.annotations.Nullable;
+
 public interface UpsertQueryGenerator {
 
     String TEMP_SUFFIX = "_temp";
@@ -13,4 +15,15 @@ public interface UpsertQueryGenerator {
     }
 
     String getUpsertQuery();
+
+    /**
+     * Gets the upsert query that reads the rows from a query instead of the temporary table. The query is defined once
+     * as a common table expression at the start of each statement of the upsert.
+     *
+     * @param sourceQuery the query to read the rows from
+     * @return the upsert query or null if the rows can only be read from the temporary table
+     */
+    default @Nullable String getUpsertQuery(String sourceQuery) {
+        return null;
+    }
 }
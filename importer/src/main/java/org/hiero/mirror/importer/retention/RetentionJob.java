@@ -4,22 +4,32 @@ package org.hiero.mirror.importer.retention;
 
 import com.google.common.base.Stopwatch;
 import jakarta.inject.Named;
+import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.TreeMap;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
 import lombok.CustomLog;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.Strings;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.config.Owner;
+import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.hiero.mirror.importer.repository.RetentionRepository;
+import org.hiero.mirror.importer.retention.RetentionProperties.PartitionAction;
 import org.hiero.mirror.importer.util.Utility;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.support.TransactionOperations;
 
@@ -28,9 +38,13 @@ import org.springframework.transaction.support.TransactionOperations;
 @RequiredArgsConstructor
 public class RetentionJob {
 
+    @Owner
+    private final JdbcTemplate jdbcTemplate;
+
     private final RecordFileRepository recordFileRepository;
     private final RetentionProperties retentionProperties;
     private final Collection<RetentionRepository> retentionRepositories;
+    private final TimePartitionService timePartitionService;
     private final TransactionOperations transactionOperations;
 
     @Scheduled(fixedDelayString = "#{@retentionProperties.getFrequency().toMillis()}", initialDelay = 120_000)
@@ -53,37 +67,127 @@ public class RetentionJob {
                 "Using retention period {} to prune entries on or before {}", retentionPeriod, toInstant(maxTimestamp));
 
         try {
+            // Batches are calculated upfront since the record files themselves may be pruned concurrently
+            var endTimestamps = new ArrayList<Long>();
             while (iterator.hasNext()) {
-                prune(iterator);
+                endTimestamps.add(iterator.next().getConsensusEnd());
+            }
+
+            var tasks = new ArrayList<Callable<Void>>();
+            for (var repository : retentionRepositories) {
+                String table = getTableName(repository);
+
+                if (retentionProperties.shouldPrune(table)) {
+                    tasks.add(() -> {
+                        prune(table, repository, endTimestamps, maxTimestamp, iterator.getCounters());
+                        return null;
+                    });
+                }
+            }
+
+            timePartitionService.evict();
+            try (var executor = Executors.newFixedThreadPool(retentionProperties.getParallelism())) {
+                for (var future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
             }
 
             log.info("Finished pruning tables in {}: {}", iterator.getStopwatch(), iterator.getCounters());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted pruning tables in {}: {}", iterator.getStopwatch(), iterator.getCounters());
         } catch (Exception e) {
             log.error("Error pruning tables in {}: {}", iterator.getStopwatch(), iterator.getCounters(), e);
+        } finally {
+            timePartitionService.evict();
         }
     }
 
-    private void prune(RecordFileIterator iterator) {
-        var counters = iterator.getCounters();
-        long countBefore = counters.values().stream().reduce(0L, Long::sum);
-        var stopwatch = iterator.getStopwatch();
-        var next = iterator.next();
-        long endTimestamp = next.getConsensusEnd();
+    private void prune(
+            String table,
+            RetentionRepository repository,
+            List<Long> endTimestamps,
+            long maxTimestamp,
+            Map<String, Long> counters) {
+        var stopwatch = Stopwatch.createStarted();
+        long removedEnd = removePartitions(table, maxTimestamp);
 
-        transactionOperations.executeWithoutResult(t -> retentionRepositories.forEach(repository -> {
-            String table = getTableName(repository);
+        for (long endTimestamp : endTimestamps) {
+            // Rows in this batch were removed along with their partitions
+            if (endTimestamp <= removedEnd) {
+                continue;
+            }
 
-            if (retentionProperties.shouldPrune(table)) {
+            transactionOperations.executeWithoutResult(t -> {
                 long count = repository.prune(endTimestamp);
                 counters.merge(table, count, Long::sum);
+                log.debug("Pruned {} {} entries on or before {}", count, table, toInstant(endTimestamp));
+            });
+        }
+
+        log.info("Pruned {} {} entries in {}", counters.getOrDefault(table, 0L), table, stopwatch);
+    }
+
+    /**
+     * Drops or detaches the time partitions of the table that lie entirely on or before the max timestamp, so that
+     * only the boundary partition needs row level deletes. Each removal takes an access exclusive lock on the table, so
+     * it gives up after the partition lock timeout and the remaining partitions are pruned with row level deletes
+     * instead of blocking the importer and the APIs behind the lock.
+     *
+     * @return the end timestamp of the last partition removed, or -1 if none were removed
+     */
+    private long removePartitions(String table, long maxTimestamp) {
+        var partitionAction = retentionProperties.getPartitionAction();
+        long removedEnd = -1L;
+
+        if (partitionAction == PartitionAction.NONE) {
+            return removedEnd;
+        }
+
+        for (var partition : timePartitionService.getTimePartitions(table)) {
+            if (partition.getEnd() > maxTimestamp) {
+                break;
+            }
+
+            var name = partition.getName();
+            var sql = partitionAction == PartitionAction.DETACH
+                    ? String.format("alter table %s detach partition %s", table, name)
+                    : String.format("drop table if exists %s", name);
+
+            try {
+                executeWithLockTimeout(sql);
+            } catch (DataAccessException e) {
+                log.warn("Unable to remove {} partition {} with {}: {}", table, name, partitionAction, e.getMessage());
+                break;
+            }
+
+            removedEnd = partition.getEnd();
+            log.info("Removed {} partition {} with {}", table, name, partitionAction);
+        }
+
+        return removedEnd;
+    }
+
+    private void executeWithLockTimeout(String sql) {
+        long lockTimeout = retentionProperties.getPartitionLockTimeout().toMillis();
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try (var statement = connection.createStatement()) {
+                statement.execute(String.format("set local lock_timeout = %d", lockTimeout));
+                statement.execute(sql);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
             }
-        }));
 
-        long countAfter = counters.values().stream().reduce(0L, Long::sum);
-        long count = countAfter - countBefore;
-        long elapsed = stopwatch.elapsed(TimeUnit.SECONDS);
-        long rate = elapsed > 0 ? countAfter / elapsed : 0L;
-        log.info("Pruned {} entries on or before {} in {} at {}/s", count, toInstant(endTimestamp), stopwatch, rate);
+            return null;
+        });
     }
 
     private String getTableName(RetentionRepository repository) {
@@ -99,7 +203,7 @@ public class RetentionJob {
     @Data
     private class RecordFileIterator implements Iterator<RecordFile> {
 
-        private final Map<String, Long> counters = new TreeMap<>();
+        private final Map<String, Long> counters = new ConcurrentSkipListMap<>();
         private final RecordFile max;
         private final Stopwatch stopwatch = Stopwatch.createStarted();
         private RecordFile current;
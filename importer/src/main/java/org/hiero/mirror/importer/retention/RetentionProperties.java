@@ -2,11 +2,13 @@
 
 package org.hiero.mirror.importer.retention;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -31,10 +33,26 @@ public class RetentionProperties {
     @NotNull
     private Set<String> include = Collections.emptySet();
 
+    @Min(1)
+    private int parallelism = 4;
+
+    @NotNull
+    private PartitionAction partitionAction = PartitionAction.NONE;
+
+    @DurationMin(millis = 1L)
+    @NotNull
+    private Duration partitionLockTimeout = Duration.ofSeconds(5L);
+
     @NotNull
     private Duration period = Duration.ofDays(90L);
 
     public boolean shouldPrune(String table) {
         return (include.isEmpty() || include.contains(table)) && (exclude.isEmpty() || !exclude.contains(table));
     }
+
+    public enum PartitionAction {
+        DETACH,
+        DROP,
+        NONE
+    }
 }
@@ -8,13 +8,19 @@ import static org.hyperledger.besu.nativelib.secp256k1.LibSecp256k1.SECP256K1_EC
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.Iterables;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
 import com.google.protobuf.GeneratedMessage;
 import com.google.protobuf.TextFormat;
+import com.google.protobuf.WireFormat;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractLoginfo;
 import com.hederahashgraph.api.proto.java.Key;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TransactionID;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -193,6 +199,35 @@ public class Utility {
         return CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, text);
     }
 
+    /**
+     * Checks that the input holds a well-formed protobuf message of the given type without building it. Nested messages
+     * are checked recursively and strings are checked for valid UTF-8, so it fails where parsing the message would.
+     *
+     * @param input      the serialized message, read until its end or the current limit
+     * @param descriptor the descriptor of the message type
+     * @throws IOException if the message is malformed
+     */
+    public static void validateMessage(CodedInputStream input, Descriptor descriptor) throws IOException {
+        int tag;
+
+        while ((tag = input.readTag()) != 0) {
+            var field = descriptor.findFieldByNumber(WireFormat.getTagFieldNumber(tag));
+            boolean delimited = WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+            if (field != null && delimited && field.getJavaType() == JavaType.MESSAGE) {
+                int limit = input.pushLimit(input.readRawVarint32());
+                validateMessage(input, field.getMessageType());
+                input.popLimit(limit);
+            } else if (field != null && delimited && field.getType() == FieldDescriptor.Type.STRING) {
+                input.readStringRequireUtf8();
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+
+        input.checkLastTagWas(0);
+    }
+
     /**
      * Handle a parser recoverable error. Depending on the value of the system property
      * HIERO_MIRROR_IMPORTER_PARSER_HALTONERROR, when false (default), the provided message and arguments are logged at
@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hiero.mirror.common.converter.TopicMessageCodec;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RedisConfigurationTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void serializeTopicMessage(boolean topicMessageCodec) {
+        // given
+        var redisSerializer = RedisConfiguration.redisSerializer(topicMessageCodec);
+        var topicMessage = domainBuilder.topicMessage().get();
+
+        // when
+        var bytes = redisSerializer.serialize(topicMessage);
+
+        // then
+        assertThat(TopicMessageCodec.canDecode(bytes)).isEqualTo(topicMessageCodec);
+        assertThat(redisSerializer.deserialize(bytes)).isEqualTo(topicMessage);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void deserializeEitherEncoding(boolean topicMessageCodec) {
+        // given
+        var topicMessage = domainBuilder.topicMessage().get();
+        var bytes = RedisConfiguration.redisSerializer(!topicMessageCodec).serialize(topicMessage);
+
+        // when
+        var deserialized = RedisConfiguration.redisSerializer(topicMessageCodec).deserialize(bytes);
+
+        // then
+        assertThat(deserialized).isEqualTo(topicMessage);
+    }
+}
@@ -85,6 +85,26 @@ class TimePartitionServiceTest extends ImporterIntegrationTest {
         assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(EVENT_TIME_PARTITIONS);
     }
 
+    @Test
+    void evict() {
+        // given
+        assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(EVENT_TIME_PARTITIONS);
+        ownerJdbcTemplate.execute("alter table event detach partition event_02");
+
+        try {
+            // when
+            timePartitionService.evict();
+
+            // then
+            assertThat(timePartitionService.getTimePartitions("event"))
+                    .containsExactlyElementsOf(EVENT_TIME_PARTITIONS.subList(0, 2));
+        } finally {
+            ownerJdbcTemplate.execute(
+                    "alter table event attach partition event_02 for values from ('3000000000') to ('4000000000')");
+            timePartitionService.evict();
+        }
+    }
+
     @Test
     void getTimePartitionsEmpty() {
         // Table location is partitioned but not partitioned on timestamp
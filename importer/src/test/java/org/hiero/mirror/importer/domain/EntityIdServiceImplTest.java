@@ -10,13 +10,18 @@ import static org.hiero.mirror.importer.util.UtilityTest.EVM_ADDRESS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.NftTransfer;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.parser.domain.RecordItemBuilder;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -60,6 +65,7 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
 
     private final EntityRepository entityRepository;
     private final EntityIdService entityIdService;
+    private final RecordItemBuilder recordItemBuilder;
 
     private static Stream<Arguments> shardAndRealmData() {
         return Stream.of(Arguments.of(0L, 0L), Arguments.of(1L, 0L), Arguments.of(0L, 1L), Arguments.of(1L, 2L));
@@ -429,6 +435,72 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
         assertThat(entityIdService.lookup(accountId)).isNotPresent();
     }
 
+    @Test
+    void warmUp() {
+        // given
+        var account = domainBuilder.entity().persist();
+        var evmAddressAccount = domainBuilder.entity().customize(e -> e.alias(null)).persist();
+        var contract = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .persist();
+        var accountId = getProtoAccountId(account);
+        var evmAddressAccountId = AccountID.newBuilder()
+                .setAlias(DomainUtils.fromBytes(evmAddressAccount.getEvmAddress()))
+                .build();
+        var contractId = getProtoContractId(contract);
+        var cryptoTransfer = recordItemBuilder
+                .cryptoTransfer()
+                .transactionBody(b -> b.addTokenTransfers(TokenTransferList.newBuilder()
+                        .setToken(recordItemBuilder.tokenId())
+                        .addTransfers(AccountAmount.newBuilder()
+                                .setAccountID(accountId)
+                                .setAmount(100L))
+                        .addNftTransfers(NftTransfer.newBuilder()
+                                .setReceiverAccountID(evmAddressAccountId)
+                                .setSenderAccountID(recordItemBuilder.accountId())
+                                .setSerialNumber(1L))))
+                .build();
+        var contractCall = recordItemBuilder.contractCall(contractId).build();
+
+        // when
+        entityIdService.warmUp(List.of(cryptoTransfer, contractCall));
+        entityRepository.deleteAll();
+
+        // then
+        assertThat(entityIdService.lookup(accountId)).hasValue(account.toEntityId());
+        assertThat(entityIdService.lookup(evmAddressAccountId)).hasValue(evmAddressAccount.toEntityId());
+        assertThat(entityIdService.lookup(contractId)).hasValue(contract.toEntityId());
+    }
+
+    @Test
+    void warmUpMiss() {
+        // given
+        var contract = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .get();
+        var contractId = getProtoContractId(contract);
+        var contractCall = recordItemBuilder.contractCall(contractId).build();
+
+        // when
+        entityIdService.warmUp(List.of(contractCall));
+        entityRepository.save(contract);
+
+        // then
+        assertThat(entityIdService.lookup(contractId)).hasValue(contract.toEntityId());
+    }
+
+    @Test
+    void warmUpNoAliases() {
+        // given
+        var cryptoTransfer = recordItemBuilder.cryptoTransfer().build();
+        var contractCall = recordItemBuilder.contractCall().build();
+
+        // when, then
+        assertDoesNotThrow(() -> entityIdService.warmUp(List.of(cryptoTransfer, contractCall)));
+    }
+
     private AccountID getProtoAccountId(Entity account) {
         var accountId = AccountID.newBuilder().setShardNum(account.getShard()).setRealmNum(account.getRealm());
         if (account.getAlias() == null) {
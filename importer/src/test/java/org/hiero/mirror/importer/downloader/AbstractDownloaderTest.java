@@ -76,6 +76,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
@@ -268,6 +269,32 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         assertThat(importerProperties.getDataPath()).isEmptyDirectory();
     }
 
+    @ParameterizedTest(name = "Download and verify files with prefetch: {0}")
+    @ValueSource(ints = {1, 2, 8})
+    void downloadPrefetch(int prefetch) {
+        commonDownloaderProperties.setPrefetch(prefetch);
+        fileCopier.copy();
+
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+    }
+
+    @Test
+    void singleNodeStreamFileCorruptedPrefetch() throws Exception {
+        commonDownloaderProperties.setPrefetch(2);
+        corruptedNodeAccountId = nodes.iterator().next().getNodeAccountId();
+        fileCopier.copy();
+        Files.walk(s3Path)
+                .filter(Predicate.not(this::isSigFile))
+                .filter(p -> p.toString().contains(corruptedNodeAccountId.toString()))
+                .forEach(AbstractDownloaderTest::corruptFile);
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+        verifyForSuccess();
+    }
+
     @Test
     @DisplayName("Non-unanimous consensus reached")
     void partialConsensus() throws IOException {
@@ -122,7 +122,7 @@ class AccountBalancesDownloaderTest extends AbstractDownloaderTest<AccountBalanc
         // for the mixed scenario, both .csv and .pb.gz files exist for the same timestamp; however, all .csv and
         // .csv_sig files are intentionally made empty so if two account balance files are processed, they must be
         // the .pb.gz files
-        ProtoBalanceFileReader protoBalanceFileReader = new ProtoBalanceFileReader();
+        ProtoBalanceFileReader protoBalanceFileReader = new ProtoBalanceFileReader(new BalanceParserProperties());
         var streamFileProvider = new S3StreamFileProvider(commonProperties, commonDownloaderProperties, s3AsyncClient);
         downloader = new AccountBalancesDownloader(
                 accountBalanceFileRepository,
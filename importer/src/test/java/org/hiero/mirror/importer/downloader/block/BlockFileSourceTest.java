@@ -12,7 +12,9 @@ import static org.hiero.mirror.importer.reader.block.BlockStreamReaderTest.TEST_
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -236,6 +238,38 @@ final class BlockFileSourceTest {
         verifyArchivedFile(blockFile(1).getName(), 2);
     }
 
+    @Test
+    void prefetch(CapturedOutput output) {
+        // given
+        properties.setPrefetch(2);
+        var previous = BlockFile.builder().index(blockNumber(0) - 1).build();
+        doReturn(Optional.of(previous)).when(blockStreamVerifier).getLastBlockFile();
+        doNothing().when(blockStreamVerifier).verify(any());
+        fileCopier.filterFiles(blockFile(0).getName()).to("0").copy();
+        fileCopier.filterFiles(blockFile(1).getName()).to("2").copy();
+
+        // when the first invocation grows the window
+        blockFileSource.get();
+        Mockito.clearInvocations(blockStreamVerifier);
+        blockFileSource.get();
+
+        // then the next block is prefetched and verified in order in the same invocation
+        var inOrder = inOrder(blockStreamVerifier);
+        inOrder.verify(blockStreamVerifier)
+                .verify(argThat(b -> b.getIndex() == blockNumber(0) && b.getNodeId() == 0L));
+        inOrder.verify(blockStreamVerifier)
+                .verify(argThat(b -> b.getIndex() == blockNumber(1) && b.getNodeId() == 2L));
+        verify(consensusNodeService, times(2)).getNodes();
+
+        var logs = output.getAll();
+        assertThat(findAllMatches(logs, "Downloaded block file .*\\.blk\\.gz from node \\d"))
+                .containsExactly(
+                        "Downloaded block file " + blockFile(0).getName() + " from node 0",
+                        "Downloaded block file " + blockFile(0).getName() + " from node 0",
+                        "Downloaded block file " + blockFile(1).getName() + " from node 2");
+        assertThat(countMatches(logs, "Failed to download block file ")).isZero();
+    }
+
     @Test
     void genesisNotFound(CapturedOutput output) {
         // given, when
@@ -7,16 +7,24 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.flywaydb.core.api.callback.Event;
 import org.flywaydb.core.api.configuration.FluentConfiguration;
 import org.flywaydb.core.internal.callback.SimpleContext;
+import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionOperations;
 
 @RequiredArgsConstructor
 @Tag("migration")
@@ -96,6 +104,59 @@ class AsyncJavaMigrationTest extends AsyncJavaMigrationBaseTest {
         assertThat(getAllMigrationHistory()).isEmpty();
     }
 
+    @Test
+    void migrateShards() throws Exception {
+        // given
+        addMigrationHistory(new MigrationHistory(-1, ELAPSED, 1000, SCRIPT));
+        var migrationProperties = new MigrationProperties();
+        migrationProperties.getParams().put(AsyncJavaMigration.PARALLELISM_KEY, "2");
+        var migration = new ShardedAsyncJavaMigration(migrationProperties, -1L, -1L);
+
+        // when
+        migrateSync(migration);
+
+        // then
+        assertThat(migration.getMigrated()).containsExactlyInAnyOrder(20L, 21L, 22L, 10L, 11L, 12L, 0L, 1L, 2L);
+        assertThat(migration.getMaxConcurrency()).hasValue(2);
+        assertThat(getAllMigrationHistory())
+                .extracting(MigrationHistory::checksum)
+                .containsExactly(1);
+    }
+
+    @Test
+    void migrateShardsError() throws Exception {
+        // given
+        addMigrationHistory(new MigrationHistory(-1, ELAPSED, 1000, SCRIPT));
+        var migrationProperties = new MigrationProperties();
+        migrationProperties.getParams().put(AsyncJavaMigration.PARALLELISM_KEY, "3");
+        var migration = new ShardedAsyncJavaMigration(migrationProperties, 11L, -1L);
+
+        // when
+        migrateSync(migration);
+
+        // then
+        assertThat(migration.getMigrated()).doesNotContain(10L);
+        assertThat(getAllMigrationHistory())
+                .extracting(MigrationHistory::checksum)
+                .containsExactly(-1);
+    }
+
+    @Test
+    void migrateShardInterrupted() throws Exception {
+        // given
+        addMigrationHistory(new MigrationHistory(-1, ELAPSED, 1000, SCRIPT));
+        var migration = new ShardedAsyncJavaMigration(new MigrationProperties(), -1L, 21L);
+
+        // when
+        migrateSync(migration);
+
+        // then
+        assertThat(migration.getMigrated()).containsExactly(22L, 21L);
+        assertThat(getAllMigrationHistory())
+                .extracting(MigrationHistory::checksum)
+                .containsExactly(-1);
+    }
+
     private void migrateSync(AsyncJavaMigration<?> migration) throws Exception {
         migration.doMigrate();
         migration.handle(Event.AFTER_MIGRATE_OPERATION_FINISH, new SimpleContext(new FluentConfiguration()));
@@ -104,4 +165,65 @@ class AsyncJavaMigrationTest extends AsyncJavaMigrationBaseTest {
             Uninterruptibles.sleepUninterruptibly(100L, TimeUnit.MILLISECONDS);
         }
     }
+
+    @Getter
+    private class ShardedAsyncJavaMigration extends AsyncJavaMigration<Long> {
+
+        private final AtomicInteger concurrency = new AtomicInteger();
+        private final long error;
+        private final long interrupt;
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        private final Collection<Long> migrated = new ConcurrentLinkedQueue<>();
+
+        private ShardedAsyncJavaMigration(MigrationProperties migrationProperties, long error, long interrupt) {
+            super(
+                    Map.of("shardedAsyncJavaMigration", migrationProperties),
+                    objectProvider(ownerJdbcTemplate),
+                    dbProperties.getSchema());
+            this.error = error;
+            this.interrupt = interrupt;
+        }
+
+        @Override
+        public String getDescription() {
+            return TEST_MIGRATION_DESCRIPTION;
+        }
+
+        @Override
+        protected Long getInitial() {
+            return 22L;
+        }
+
+        @Override
+        protected List<Long> getShards() {
+            return List.of(22L, 12L, 2L);
+        }
+
+        @Override
+        protected TransactionOperations getTransactionOperations() {
+            return transactionOperations;
+        }
+
+        @Override
+        protected @NonNull Optional<Long> migratePartial(final Long last) {
+            maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+
+            try {
+                Uninterruptibles.sleepUninterruptibly(50L, TimeUnit.MILLISECONDS);
+
+                if (last == error) {
+                    throw new IllegalStateException();
+                }
+
+                if (last == interrupt) {
+                    Thread.currentThread().interrupt();
+                }
+
+                migrated.add(last);
+                return last % 10 == 0 ? Optional.empty() : Optional.of(last - 1);
+            } finally {
+                concurrency.decrementAndGet();
+            }
+        }
+    }
 }
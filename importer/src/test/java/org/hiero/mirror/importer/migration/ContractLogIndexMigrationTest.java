@@ -3,10 +3,13 @@
 package org.hiero.mirror.importer.migration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.importer.migration.AsyncJavaMigration.PARALLELISM_KEY;
 import static org.hiero.mirror.importer.migration.ContractLogIndexMigration.INTERVAL;
+import static org.hiero.mirror.importer.migration.ContractLogIndexMigration.SHARD_SIZE;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.contract.ContractLog;
@@ -15,6 +18,7 @@ import org.hiero.mirror.importer.DisableRepeatableSqlMigration;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.hiero.mirror.importer.repository.ContractLogRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +35,11 @@ class ContractLogIndexMigrationTest extends AbstractAsyncJavaMigrationTest<Contr
     private final ContractLogRepository contractLogRepository;
     private final EntityProperties entityProperties;
 
+    @AfterEach
+    void cleanup() {
+        migration.migrationProperties.getParams().remove(PARALLELISM_KEY);
+    }
+
     @Test
     void migrationOnEmptyDB() {
         // given, when
@@ -109,6 +118,136 @@ class ContractLogIndexMigrationTest extends AbstractAsyncJavaMigrationTest<Contr
         assertThat(tableExists("processed_record_file_temp")).isFalse();
     }
 
+    @Test
+    void migrateShards() {
+        // given
+        migration.migrationProperties.getParams().put(PARALLELISM_KEY, "2");
+        // Keep the record files in the past where the partitions exist
+        final long timestamp = domainBuilder.timestamp() - 2 * SHARD_SIZE;
+        final var recordFiles = new ArrayList<RecordFile>();
+        for (int index = 0; index < 3; index++) {
+            final var recordFile = recordFilePersist(index, timestamp + index * SHARD_SIZE);
+            recordFiles.add(recordFile);
+            contractLogPersist(1, recordFile.getConsensusStart());
+            contractLogPersist(0, recordFile.getConsensusEnd());
+        }
+
+        // when
+        final var shards = migration.getShards();
+        runMigration();
+        waitForCompletion();
+
+        // then
+        assertThat(shards)
+                .containsExactly(
+                        new ContractLogIndexMigration.Shard(timestamp + SHARD_SIZE, timestamp + 2 * SHARD_SIZE),
+                        new ContractLogIndexMigration.Shard(timestamp, timestamp + SHARD_SIZE),
+                        new ContractLogIndexMigration.Shard(timestamp - 1, timestamp));
+        recordFiles.forEach(recordFile -> assertMigrated(recordFile, true));
+        assertThat(tableExists("contract_log_index_migration_shard")).isFalse();
+        assertThat(tableExists("processed_record_file_temp")).isFalse();
+    }
+
+    @Test
+    void migrateResumesShards() {
+        // given
+        final long timestamp = domainBuilder.timestamp();
+        final var first = recordFilePersist(0, timestamp);
+        final var second = recordFilePersist(2, timestamp + 2 * INTERVAL);
+        final var third = recordFilePersist(4, timestamp + 4 * INTERVAL);
+        for (final var recordFile : List.of(first, second, third)) {
+            contractLogPersist(1, recordFile.getConsensusStart());
+            contractLogPersist(0, recordFile.getConsensusEnd());
+        }
+
+        // The first shard was checkpointed after the second record file and the second shard is complete
+        createShards(
+                new ContractLogIndexMigration.Shard(timestamp - 1, timestamp + INTERVAL),
+                new ContractLogIndexMigration.Shard(timestamp + 3 * INTERVAL, timestamp + 3 * INTERVAL));
+
+        // when
+        runMigration();
+        waitForCompletion();
+
+        // then
+        assertMigrated(first, true);
+        assertMigrated(second, false);
+        assertMigrated(third, false);
+        assertThat(tableExists("contract_log_index_migration_shard")).isFalse();
+    }
+
+    @Test
+    void migrateAllShardsComplete() {
+        // given
+        final var recordFile = recordFilePersist(0, domainBuilder.timestamp());
+        contractLogPersist(1, recordFile.getConsensusStart());
+        contractLogPersist(0, recordFile.getConsensusEnd());
+        final long lowerBound = recordFile.getConsensusEnd() - 1;
+        createShards(new ContractLogIndexMigration.Shard(lowerBound, lowerBound));
+
+        // when
+        final var shards = migration.getShards();
+        runMigration();
+        waitForCompletion();
+
+        // then
+        assertThat(shards).isEmpty();
+        assertMigrated(recordFile, false);
+        assertThat(tableExists("contract_log_index_migration_shard")).isFalse();
+    }
+
+    @Test
+    void migrateResumesLegacyProgress() {
+        // given
+        final long timestamp = domainBuilder.timestamp();
+        final var first = recordFilePersist(0, timestamp);
+        final var second = recordFilePersist(2, timestamp + 2 * INTERVAL);
+        for (final var recordFile : List.of(first, second)) {
+            contractLogPersist(1, recordFile.getConsensusStart());
+            contractLogPersist(0, recordFile.getConsensusEnd());
+        }
+
+        // The previous version migrated the record files from the latest down to the second one
+        ownerJdbcTemplate.execute("create table processed_record_file_temp(consensus_end bigint not null)");
+        ownerJdbcTemplate.update(
+                "insert into processed_record_file_temp(consensus_end) values (?)", timestamp + INTERVAL);
+
+        // when
+        runMigration();
+        waitForCompletion();
+
+        // then
+        assertMigrated(first, true);
+        assertMigrated(second, false);
+        assertThat(tableExists("contract_log_index_migration_shard")).isFalse();
+        assertThat(tableExists("processed_record_file_temp")).isFalse();
+    }
+
+    /**
+     * Asserts whether the indexes of the two contract logs persisted at the start and end of the record file were
+     * recalculated, since they were persisted in reverse order.
+     */
+    private void assertMigrated(final RecordFile recordFile, final boolean migrated) {
+        assertThat(findIndex(recordFile.getConsensusStart())).isEqualTo(migrated ? 0 : 1);
+        assertThat(findIndex(recordFile.getConsensusEnd())).isEqualTo(migrated ? 1 : 0);
+    }
+
+    private void createShards(final ContractLogIndexMigration.Shard... shards) {
+        ownerJdbcTemplate.execute(
+                """
+                create table contract_log_index_migration_shard(
+                    lower_bound bigint primary key,
+                    upper_bound bigint not null
+                )
+                """);
+        for (final var shard : shards) {
+            ownerJdbcTemplate.update(
+                    "insert into contract_log_index_migration_shard(lower_bound, upper_bound) values (?, ?)",
+                    shard.lowerBound(),
+                    shard.upperBound());
+        }
+    }
+
     private Integer findIndex(final long consensusTimestamp) {
         var query = "select index from contract_log where consensus_timestamp = ?";
         return jdbcOperations.queryForObject(query, Integer.class, consensusTimestamp);
@@ -131,7 +270,10 @@ class ContractLogIndexMigrationTest extends AbstractAsyncJavaMigrationTest<Contr
     }
 
     private RecordFile recordFilePersist(final long index) {
-        final var timestamp = domainBuilder.timestamp() + index * INTERVAL;
+        return recordFilePersist(index, domainBuilder.timestamp() + index * INTERVAL);
+    }
+
+    private RecordFile recordFilePersist(final long index, final long timestamp) {
         return domainBuilder
                 .recordFile()
                 .customize(r -> r.index(index)
@@ -100,6 +100,8 @@ class TopicMessageLookupMigrationTest extends AbstractTopicMessageLookupIntegrat
 
         // then
         assertThat(topicMessageLookupRepository.count()).isZero();
+        assertThat(migration.getShards()).isEmpty();
+        assertThat(migration.getInitial()).isNull();
     }
 
     @Test
@@ -32,18 +32,26 @@ import org.hiero.mirror.importer.parser.CommonParserProperties;
 import org.hiero.mirror.importer.repository.CryptoTransferRepository;
 import org.hiero.mirror.importer.repository.TokenTransferRepository;
 import org.hiero.mirror.importer.repository.TopicMessageRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.postgresql.PGConnection;
 import org.postgresql.copy.CopyManager;
+import org.springframework.util.unit.DataSize;
 
 @RequiredArgsConstructor
 class BatchInserterTest extends ImporterIntegrationTest {
 
     private final BatchPersister batchInserter;
+    private final CommonParserProperties commonParserProperties;
     private final CryptoTransferRepository cryptoTransferRepository;
     private final TopicMessageRepository topicMessageRepository;
     private final TokenTransferRepository tokenTransferRepository;
 
+    @AfterEach
+    void cleanup() {
+        commonParserProperties.setPrepareMaxSize(DataSize.ofMegabytes(32));
+    }
+
     @Test
     void persist() {
         var cryptoTransfers = new ArrayList<CryptoTransfer>();
@@ -63,6 +71,45 @@ class BatchInserterTest extends ImporterIntegrationTest {
         assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
     }
 
+    @Test
+    void prepare() {
+        var cryptoTransfers = List.of(
+                domainBuilder.cryptoTransfer().get(),
+                domainBuilder.cryptoTransfer().get(),
+                domainBuilder.cryptoTransfer().get());
+
+        var prepared = batchInserter.prepare(cryptoTransfers);
+        assertThat(cryptoTransferRepository.count()).isZero();
+
+        prepared.run();
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+    }
+
+    @Test
+    void prepareExceedsMaxSize() {
+        // given
+        commonParserProperties.setPrepareMaxSize(DataSize.ofBytes(16));
+        var cryptoTransfers = List.of(
+                domainBuilder.cryptoTransfer().get(),
+                domainBuilder.cryptoTransfer().get(),
+                domainBuilder.cryptoTransfer().get());
+
+        // when
+        var prepared = batchInserter.prepare(cryptoTransfers);
+        assertThat(cryptoTransferRepository.count()).isZero();
+        prepared.run();
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+    }
+
+    @Test
+    void prepareEmpty() {
+        batchInserter.prepare(List.of()).run();
+        batchInserter.prepare(null).run();
+        assertThat(cryptoTransferRepository.count()).isZero();
+    }
+
     @Test
     void throwsParserException() throws SQLException, IOException {
         // given
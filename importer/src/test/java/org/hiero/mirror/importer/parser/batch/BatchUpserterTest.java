@@ -8,6 +8,7 @@ import static org.hiero.mirror.common.domain.entity.EntityType.ACCOUNT;
 import com.google.common.collect.Range;
 import com.google.protobuf.ByteString;
 import com.hederahashgraph.api.proto.java.Key;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -39,6 +40,7 @@ import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.token.TokenTypeEnum;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
 import org.hiero.mirror.importer.repository.CryptoAllowanceRepository;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.hiero.mirror.importer.repository.NftAllowanceRepository;
@@ -52,6 +54,7 @@ import org.hiero.mirror.importer.repository.TokenRepository;
 import org.hiero.mirror.importer.repository.TokenTransferRepository;
 import org.hiero.mirror.importer.repository.TopicMessageLookupRepository;
 import org.hiero.mirror.importer.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.transaction.support.TransactionOperations;
 
@@ -63,8 +66,10 @@ class BatchUpserterTest extends ImporterIntegrationTest {
             .build();
 
     private final BatchPersister batchPersister;
+    private final CommonParserProperties commonParserProperties;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
     private final EntityRepository entityRepository;
+    private final MeterRegistry meterRegistry;
     private final NftRepository nftRepository;
     private final NftAllowanceRepository nftAllowanceRepository;
     private final NodeRepository nodeRepository;
@@ -78,6 +83,11 @@ class BatchUpserterTest extends ImporterIntegrationTest {
     private final TransactionRepository transactionRepository;
     private final TransactionOperations transactionOperations;
 
+    @AfterEach
+    void cleanup() {
+        commonParserProperties.setInlineUpsertThreshold(0);
+    }
+
     @Test
     void cryptoAllowance() {
         CryptoAllowance cryptoAllowance1 = domainBuilder.cryptoAllowance().get();
@@ -88,6 +98,39 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(cryptoAllowanceRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoAllowances);
     }
 
+    @Test
+    void cryptoAllowancePrepare() {
+        var cryptoAllowances = List.of(
+                domainBuilder.cryptoAllowance().get(),
+                domainBuilder.cryptoAllowance().get());
+        var prepared = batchPersister.prepare(cryptoAllowances);
+        assertThat(cryptoAllowanceRepository.count()).isZero();
+
+        transactionOperations.executeWithoutResult(t -> prepared.run());
+        assertThat(cryptoAllowanceRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoAllowances);
+    }
+
+    @Test
+    void cryptoAllowancePrepareInline() {
+        // given
+        commonParserProperties.setInlineUpsertThreshold(2);
+        var cryptoAllowances = List.of(
+                domainBuilder.cryptoAllowance().get(),
+                domainBuilder.cryptoAllowance().get());
+        long copyCount = getUpsertCount("crypto_allowance", "copy");
+        long inlineCount = getUpsertCount("crypto_allowance", "inline");
+
+        // when
+        var prepared = batchPersister.prepare(cryptoAllowances);
+        assertThat(cryptoAllowanceRepository.count()).isZero();
+        transactionOperations.executeWithoutResult(t -> prepared.run());
+
+        // then
+        assertThat(cryptoAllowanceRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoAllowances);
+        assertThat(getUpsertCount("crypto_allowance", "copy")).isEqualTo(copyCount);
+        assertThat(getUpsertCount("crypto_allowance", "inline")).isEqualTo(inlineCount + 1);
+    }
+
     @Test
     void entityInsertOnly() {
         var entities = new ArrayList<Entity>();
@@ -141,6 +184,46 @@ class BatchUpserterTest extends ImporterIntegrationTest {
                 .containsExactlyInAnyOrder(2L, 3L, 4L);
     }
 
+    @Test
+    void entityInsertAndUpdateInline() {
+        // given
+        commonParserProperties.setInlineUpsertThreshold(4);
+        var entities = new ArrayList<Entity>();
+        long consensusTimestamp = 1;
+        entities.add(getEntity(1, consensusTimestamp, consensusTimestamp, "memo-1"));
+        entities.add(getEntity(2, consensusTimestamp, consensusTimestamp, null));
+        entities.add(getEntity(3, consensusTimestamp, consensusTimestamp, "memo-3"));
+        entities.add(getEntity(4, consensusTimestamp, consensusTimestamp, "memo-4"));
+
+        var updatedEntities = new ArrayList<Entity>();
+        long updateTimestamp = 5;
+        updatedEntities.add(getEntity(3, null, updateTimestamp, ""));
+        updatedEntities.add(getEntity(4, null, updateTimestamp, "updated-memo-4"));
+        updatedEntities.add(getEntity(5, null, updateTimestamp, "memo-5"));
+        updatedEntities.add(getEntity(6, null, updateTimestamp, "memo-6"));
+        updatedEntities.add(getEntity(7, null, updateTimestamp, "memo-7"));
+        long copyCount = getUpsertCount("entity", "copy");
+        long inlineCount = getUpsertCount("entity", "inline");
+
+        // when
+        persist(batchPersister, entities);
+        persist(batchPersister, updatedEntities);
+
+        // then
+        entities.get(1).setMemo("");
+        assertThat(entityRepository.findAll())
+                .hasSize(7)
+                .extracting(Entity::getMemo)
+                .containsExactlyInAnyOrder("memo-1", "", "", "updated-memo-4", "memo-5", "memo-6", "memo-7");
+        assertThat(entityRepository.findById(1L)).get().isEqualTo(entities.getFirst());
+        assertThat(findHistory(Entity.class))
+                .hasSize(2)
+                .extracting(Entity::getId)
+                .containsExactlyInAnyOrder(3L, 4L);
+        assertThat(getUpsertCount("entity", "copy")).isEqualTo(copyCount + 1);
+        assertThat(getUpsertCount("entity", "inline")).isEqualTo(inlineCount + 1);
+    }
+
     @Test
     void entityInsertAndUpdateBatched() {
         var entities = new ArrayList<Entity>();
@@ -690,6 +773,14 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.findAll()).containsExactly(transaction);
     }
 
+    private long getUpsertCount(String table, String path) {
+        var timer = meterRegistry
+                .find(BatchPersister.LATENCY_METRIC)
+                .tags("path", path, "table", table, "upsert", "true")
+                .timer();
+        return timer != null ? timer.count() : 0L;
+    }
+
     private void persist(BatchPersister batchPersister, Collection<?>... items) {
         transactionOperations.executeWithoutResult(t -> {
             for (Collection<?> batch : items) {
@@ -0,0 +1,149 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.token.TokenAccount;
+import org.hiero.mirror.common.domain.transaction.AssessedCustomFee;
+import org.hiero.mirror.common.domain.transaction.CryptoTransfer;
+import org.hiero.mirror.common.domain.transaction.Transaction;
+import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.parser.CommonParserProperties.CopyFormat;
+import org.hiero.mirror.importer.repository.CryptoTransferRepository;
+import org.hiero.mirror.importer.repository.EntityRepository;
+import org.hiero.mirror.importer.repository.TokenAccountRepository;
+import org.hiero.mirror.importer.repository.TransactionRepository;
+import org.hiero.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+@RequiredArgsConstructor
+class BinaryCopyWriterTest extends ImporterIntegrationTest {
+
+    private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
+    private final EntityRepository entityRepository;
+    private final TokenAccountRepository tokenAccountRepository;
+    private final TransactionOperations transactionOperations;
+    private final TransactionRepository transactionRepository;
+    private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
+
+    private CommonParserProperties properties;
+
+    @BeforeEach
+    void setup() {
+        properties = new CommonParserProperties();
+        properties.setCopyFormat(CopyFormat.BINARY);
+    }
+
+    @Test
+    void assessedCustomFee() {
+        var assessedCustomFee1 = domainBuilder.assessedCustomFee().get();
+        var assessedCustomFee2 = domainBuilder
+                .assessedCustomFee()
+                .customize(a -> a.effectivePayerAccountIds(List.of()))
+                .get();
+        var assessedCustomFees = List.of(assessedCustomFee1, assessedCustomFee2);
+
+        var inserter = inserter(AssessedCustomFee.class);
+
+        inserter.persist(assessedCustomFees);
+
+        assertBinary(inserter);
+        assertThat(jdbcOperations.query("select * from assessed_custom_fee", rowMapper(AssessedCustomFee.class)))
+                .containsExactlyInAnyOrderElementsOf(assessedCustomFees);
+    }
+
+    @Test
+    void cryptoTransfer() {
+        var cryptoTransfers = List.of(
+                domainBuilder.cryptoTransfer().get(),
+                domainBuilder.cryptoTransfer().customize(c -> c.errata(null)).get());
+
+        var inserter = inserter(CryptoTransfer.class);
+
+        inserter.persist(cryptoTransfers);
+
+        assertBinary(inserter);
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+    }
+
+    @Test
+    void entity() {
+        var entities = List.of(
+                domainBuilder.entity().get(),
+                domainBuilder.entity().customize(e -> e.alias(null).key(null)).get());
+        var upserter = new BatchUpserter(
+                Entity.class,
+                dataSource,
+                new SimpleMeterRegistry(),
+                properties,
+                upsertQueryGeneratorFactory.get(Entity.class));
+
+        transactionOperations.executeWithoutResult(t -> upserter.persist(entities));
+
+        assertBinary(upserter);
+        assertThat(entityRepository.findAll()).containsExactlyInAnyOrderElementsOf(entities);
+    }
+
+    @Test
+    void prepare() {
+        var transactions = List.of(domainBuilder.transaction().get());
+
+        var inserter = inserter(Transaction.class);
+
+        inserter.prepare(transactions).run();
+
+        assertBinary(inserter);
+        assertThat(transactionRepository.findAll()).containsExactlyInAnyOrderElementsOf(transactions);
+    }
+
+    @Test
+    void tokenAccount() {
+        var tokenAccounts = List.of(domainBuilder.tokenAccount().get());
+        var upserter = new BatchUpserter(
+                TokenAccount.class,
+                dataSource,
+                new SimpleMeterRegistry(),
+                properties,
+                upsertQueryGeneratorFactory.get(TokenAccount.class));
+
+        transactionOperations.executeWithoutResult(t -> upserter.persist(tokenAccounts));
+
+        assertBinary(upserter);
+        assertThat(tokenAccountRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenAccounts);
+    }
+
+    @Test
+    void transaction() {
+        var transactions = List.of(
+                domainBuilder.transaction().get(),
+                domainBuilder
+                        .transaction()
+                        .customize(t -> t.innerTransactions(List.of(1L, 2L)).nftTransfer(null))
+                        .get());
+
+        var inserter = inserter(Transaction.class);
+
+        inserter.persist(transactions);
+
+        assertBinary(inserter);
+        assertThat(transactionRepository.findAll()).containsExactlyInAnyOrderElementsOf(transactions);
+    }
+
+    private void assertBinary(BatchInserter inserter) {
+        assertThat(inserter.getCopySql()).endsWith("WITH (FORMAT binary)");
+    }
+
+    private BatchInserter inserter(Class<?> domainClass) {
+        return new BatchInserter(domainClass, dataSource, new SimpleMeterRegistry(), properties);
+    }
+}
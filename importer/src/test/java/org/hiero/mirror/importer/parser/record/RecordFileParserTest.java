@@ -40,6 +40,7 @@ import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.importer.config.DateRangeCalculator;
 import org.hiero.mirror.importer.config.DateRangeCalculator.DateRangeFilter;
+import org.hiero.mirror.importer.domain.EntityIdService;
 import org.hiero.mirror.importer.exception.HashMismatchException;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.AbstractStreamFileParserTest;
@@ -74,6 +75,9 @@ final class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile
     @Mock(strictness = LENIENT)
     private DateRangeCalculator dateRangeCalculator;
 
+    @Mock
+    private EntityIdService entityIdService;
+
     private long count = 0;
 
     private RecordItem recordItem;
@@ -85,6 +89,7 @@ final class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile
         if (parsed) {
             verify(recordItemListener).onItem(recordItem);
             verify(recordStreamFileListener).onEnd(recordFile);
+            verify(entityIdService).warmUp(List.of(recordItem));
         } else if (dbError) {
             verify(recordStreamFileListener, never()).onEnd(recordFile);
         }
@@ -111,6 +116,7 @@ final class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile
                 recordItemListener,
                 recordStreamFileListener,
                 dateRangeCalculator,
+                entityIdService,
                 new ParserContext());
     }
 
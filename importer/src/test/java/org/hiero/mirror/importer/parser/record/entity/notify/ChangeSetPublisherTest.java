@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.notify;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.common.domain.ChangeSet.CHANNEL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.hiero.mirror.common.domain.ChangeSet;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.token.Token;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeSetPublisherTest {
+
+    private static final DomainBuilder domainBuilder = new DomainBuilder();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ChangeSetPublisher changeSetPublisher;
+    private NotifyProperties notifyProperties;
+    private ParserContext parserContext;
+    private RecordFile recordFile;
+
+    @BeforeEach
+    void setup() {
+        notifyProperties = new NotifyProperties();
+        notifyProperties.setEnabled(true);
+        parserContext = new ParserContext();
+        changeSetPublisher = new ChangeSetPublisher(jdbcTemplate, notifyProperties, parserContext);
+        recordFile = domainBuilder.recordFile().get();
+    }
+
+    @Test
+    void onEnd() {
+        // given
+        var entity = domainBuilder.entity().get();
+        var contractState = domainBuilder.contractState().get();
+        var token = domainBuilder.token().get();
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        var tokenUpdate = new Token();
+        tokenUpdate.setTokenId(domainBuilder.id());
+        tokenUpdate.setTreasuryAccountId(EntityId.of(domainBuilder.id()));
+        parserContext.add(entity);
+        parserContext.add(contractState);
+        parserContext.add(token);
+        parserContext.add(tokenAccount);
+        parserContext.add(tokenUpdate);
+
+        // when
+        changeSetPublisher.onEnd(recordFile);
+
+        // then
+        var changeSet = ChangeSet.decode(notification());
+        assertThat(changeSet.isAll()).isFalse();
+        assertThat(changeSet.getEntities()).containsExactly(entity.getId());
+        assertThat(changeSet.getSlots()).containsExactly(contractState.getId());
+        assertThat(changeSet.getTokens()).containsExactlyInAnyOrder(token.getTokenId(), tokenUpdate.getTokenId());
+        assertThat(changeSet.getTokenAccounts()).containsExactly(tokenAccount.getId());
+        assertThat(changeSet.getTokensWithAccounts()).containsExactly(tokenUpdate.getTokenId());
+    }
+
+    @Test
+    void onEndMaxChanges() {
+        // given
+        notifyProperties.setMaxChanges(1);
+        parserContext.add(domainBuilder.entity().get());
+        parserContext.add(domainBuilder.token().get());
+
+        // when
+        changeSetPublisher.onEnd(recordFile);
+
+        // then
+        assertThat(ChangeSet.decode(notification()).isAll()).isTrue();
+    }
+
+    @Test
+    void onEndDisabled() {
+        // given
+        notifyProperties.setEnabled(false);
+        parserContext.add(domainBuilder.entity().get());
+
+        // when
+        changeSetPublisher.onEnd(recordFile);
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void onEndNoChanges() {
+        // given
+        parserContext.add(domainBuilder.topicMessage().get());
+
+        // when
+        changeSetPublisher.onEnd(recordFile);
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private String notification() {
+        var payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(1))
+                .query(anyString(), any(RowCallbackHandler.class), eq(CHANNEL), payload.capture());
+        return payload.getValue();
+    }
+}
@@ -3,14 +3,19 @@
 package org.hiero.mirror.importer.parser.record.entity.redis;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.ArrayList;
 import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.StreamMessage;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
@@ -93,10 +98,46 @@ class RedisPublisherTest {
         verify(redisOperations, timeout(TIMEOUT.toMillis()).times(2)).executePipelined(any(SessionCallback.class));
     }
 
+    @Test
+    void partitionsByTopic() {
+        // given
+        var topicId1 = EntityId.of(1L);
+        var topicId2 = EntityId.of(2L);
+        var topic1Messages = new ArrayList<TopicMessage>();
+        var topic2Messages = new ArrayList<TopicMessage>();
+
+        for (int i = 0; i < 3; i++) {
+            topic1Messages.add(topicMessage(topicId1));
+            topic2Messages.add(topicMessage(topicId2));
+            parserContext.add(topic1Messages.getLast());
+            parserContext.add(topic2Messages.getLast());
+        }
+
+        when(redisOperations.executePipelined(any(SessionCallback.class))).then(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            return callback.execute(redisOperations);
+        });
+
+        // when
+        entityListener.onEnd(null);
+
+        // then
+        verify(redisOperations, timeout(TIMEOUT.toMillis()).times(6)).convertAndSend(anyString(), any());
+        verify(redisOperations, times(2)).executePipelined(any(SessionCallback.class));
+        var topic1Order = inOrder(redisOperations);
+        topic1Messages.forEach(m -> topic1Order.verify(redisOperations).convertAndSend("topic.1", m));
+        var topic2Order = inOrder(redisOperations);
+        topic2Messages.forEach(m -> topic2Order.verify(redisOperations).convertAndSend("topic.2", m));
+    }
+
     protected TopicMessage topicMessage() {
         return domainBuilder.topicMessage().get();
     }
 
+    private TopicMessage topicMessage(EntityId topicId) {
+        return domainBuilder.topicMessage().customize(t -> t.topicId(topicId)).get();
+    }
+
     private void submitAndSave(TopicMessage topicMessage) {
         parserContext.add(topicMessage);
         entityListener.onEnd(null);
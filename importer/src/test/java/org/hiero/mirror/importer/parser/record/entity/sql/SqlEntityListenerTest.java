@@ -183,6 +183,7 @@ final class SqlEntityListenerTest extends ImporterIntegrationTest {
         entityProperties.getPersist().setTransactionHashTypes(defaultTransactionHashTypes);
         entityProperties.getPersist().setTransactionHash(true);
         entityProperties.getPersist().setTrackBalance(true);
+        sqlProperties.setParallelism(1);
     }
 
     @Test
@@ -201,6 +202,32 @@ final class SqlEntityListenerTest extends ImporterIntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
+    @Test
+    void executeBatchParallel() {
+        // given
+        sqlProperties.setParallelism(4);
+        entityProperties.getPersist().setTrackBalance(false);
+        var entity = domainBuilder.entity().get();
+        var cryptoTransfer1 = domainBuilder.cryptoTransfer().get();
+        var cryptoTransfer2 = domainBuilder.cryptoTransfer().get();
+        var token = domainBuilder.token().get();
+        var transaction = domainBuilder.transaction().get();
+
+        // when
+        sqlEntityListener.onEntity(entity);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer1);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer2);
+        sqlEntityListener.onToken(token);
+        sqlEntityListener.onTransaction(transaction);
+        completeFileAndCommit();
+
+        // then
+        assertThat(entityRepository.findAll()).containsExactly(entity);
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrder(cryptoTransfer1, cryptoTransfer2);
+        assertThat(tokenRepository.findAll()).containsExactly(token);
+        assertThat(transactionRepository.findAll()).containsExactly(transaction);
+    }
+
     @Test
     void isEnabled() {
         sqlProperties.setEnabled(false);
@@ -0,0 +1,155 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.historicalbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.token.NftTransfer;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BalanceChangeTrackerTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final ParserContext parserContext = new ParserContext();
+    private final RecordFile recordFile = new RecordFile();
+
+    private HistoricalBalanceProperties properties;
+    private BalanceChangeTracker tracker;
+
+    @BeforeEach
+    void setup() {
+        properties = new HistoricalBalanceProperties(null);
+        properties.setIncremental(true);
+        tracker = new BalanceChangeTracker(parserContext, properties);
+    }
+
+    @Test
+    void onEnd() {
+        // given
+        var entity1 = domainBuilder.entity().customize(e -> e.balanceTimestamp(100L)).get();
+        var entity2 = domainBuilder.entity().customize(e -> e.balanceTimestamp(null)).get();
+        var tokenAccount1 = domainBuilder
+                .tokenAccount()
+                .customize(t -> t.balanceTimestamp(101L))
+                .get();
+        var tokenAccount2 = domainBuilder
+                .tokenAccount()
+                .customize(t -> t.balanceTimestamp(null))
+                .get();
+        parserContext.addAll(List.of(entity1, entity2));
+        parserContext.addAll(List.of(tokenAccount1, tokenAccount2));
+
+        // when
+        tracker.onEnd(recordFile);
+
+        // then
+        var changes = tracker.getChanges();
+        assertThat(changes.accounts()).containsExactlyEntriesOf(Map.of(entity1.getId(), 100L));
+        assertThat(changes.tokenAccounts()).containsOnlyKeys(tokenAccount1.getId());
+        assertThat(tracker.isInitialized()).isFalse();
+    }
+
+    @Test
+    void onEndDisabled() {
+        // given
+        properties.setIncremental(false);
+        parserContext.add(domainBuilder.entity().customize(e -> e.balanceTimestamp(100L)).get());
+
+        // when
+        tracker.onEnd(recordFile);
+
+        // then
+        assertThat(tracker.getChanges().accounts()).isEmpty();
+    }
+
+    @Test
+    void onSnapshot() {
+        // given
+        var entity1 = domainBuilder.entity().customize(e -> e.balanceTimestamp(100L)).get();
+        var entity2 = domainBuilder.entity().customize(e -> e.balanceTimestamp(120L)).get();
+        var entity3 = domainBuilder.entity().customize(e -> e.balanceTimestamp(200L)).get();
+        parserContext.addAll(List.of(entity1, entity2, entity3));
+        tracker.onEnd(recordFile);
+        var changes = tracker.getChanges();
+
+        // Changed again while the snapshot was being generated
+        parserContext.clear();
+        parserContext.add(entity1.toBuilder().balanceTimestamp(300L).build());
+        tracker.onEnd(recordFile);
+
+        // when
+        tracker.onSnapshot(changes, 150L);
+
+        // then
+        assertThat(tracker.getChanges().accounts())
+                .containsExactlyInAnyOrderEntriesOf(Map.of(entity1.getId(), 300L, entity3.getId(), 200L));
+        assertThat(tracker.isInitialized()).isTrue();
+    }
+
+    @Test
+    void nftTreasuryChange() {
+        // given
+        tracker.onSnapshot(tracker.getChanges(), 100L);
+        var nftTransfer = domainBuilder
+                .nftTransfer()
+                .customize(n -> n.serialNumber(NftTransfer.WILDCARD_SERIAL_NUMBER))
+                .get();
+        var transaction = domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(200L).nftTransfer(List.of(nftTransfer)))
+                .get();
+
+        // when
+        tracker.onTransaction(transaction);
+
+        // then
+        assertThat(tracker.isInitialized()).isFalse();
+
+        // when a snapshot before the treasury change is committed
+        tracker.onSnapshot(tracker.getChanges(), 150L);
+
+        // then
+        assertThat(tracker.isInitialized()).isFalse();
+
+        // when a snapshot after the treasury change is committed
+        tracker.onSnapshot(tracker.getChanges(), 200L);
+
+        // then
+        assertThat(tracker.isInitialized()).isTrue();
+    }
+
+    @Test
+    void reset() {
+        // given
+        parserContext.add(domainBuilder.entity().customize(e -> e.balanceTimestamp(100L)).get());
+        tracker.onEnd(recordFile);
+        tracker.onSnapshot(new BalanceChangeTracker.Changes(Map.of(), Map.of()), 100L);
+        var nftTransfer = domainBuilder
+                .nftTransfer()
+                .customize(n -> n.serialNumber(NftTransfer.WILDCARD_SERIAL_NUMBER))
+                .get();
+        tracker.onTransaction(domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(200L).nftTransfer(List.of(nftTransfer)))
+                .get());
+
+        // when
+        tracker.reset();
+
+        // then
+        assertThat(tracker.getChanges().accounts()).isEmpty();
+        assertThat(tracker.isInitialized()).isFalse();
+
+        // when a snapshot before the forgotten treasury change is committed
+        tracker.onSnapshot(tracker.getChanges(), 150L);
+
+        // then
+        assertThat(tracker.isInitialized()).isTrue();
+    }
+}
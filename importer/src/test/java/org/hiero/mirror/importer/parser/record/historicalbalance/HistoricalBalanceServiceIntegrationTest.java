@@ -17,6 +17,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.awaitility.Durations;
@@ -26,6 +27,7 @@ import org.hiero.mirror.common.domain.balance.AccountBalanceFile;
 import org.hiero.mirror.common.domain.balance.TokenBalance;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.token.NftTransfer;
 import org.hiero.mirror.common.domain.token.TokenAccount;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.util.DomainUtils;
@@ -59,6 +61,7 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final BalanceChangeTracker balanceChangeTracker;
     private final EntityRepository entityRepository;
     private final FlywayProperties flywayProperties;
     private final HistoricalBalanceProperties properties;
@@ -148,6 +151,7 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
 
     @AfterEach
     void resetProperties() {
+        properties.setIncremental(false);
         properties.setTokenBalances(true);
     }
 
@@ -218,6 +222,57 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
         verifyGeneratedBalances(balanceTimestamp, updatedEntities, updatedTokenAccounts);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void generateIncremental(boolean tokenBalances, CapturedOutput output) {
+        // given
+        properties.setTokenBalances(tokenBalances);
+        long balanceTimestamp = generateFirstIncremental();
+        var updatedEntities = updateBalances(balanceTimestamp);
+        var updatedTokenAccounts = updateTokenBalances(balanceTimestamp);
+
+        // when, then
+        // the incremental snapshot has the same rows as the deduplicated snapshot in the generate test
+        balanceTimestamp += properties.getMinFrequency().plusSeconds(1).toNanos();
+        verifyGeneratedBalances(balanceTimestamp, updatedEntities, updatedTokenAccounts);
+        assertThat(output.getOut()).contains("Generated incremental historical account balance file");
+
+        // the tracked changes are only forgotten once the snapshot is committed
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.FIVE_SECONDS)
+                .untilAsserted(() -> assertThat(balanceChangeTracker.getChanges())
+                        .returns(Map.of(), BalanceChangeTracker.Changes::accounts)
+                        .returns(Map.of(), BalanceChangeTracker.Changes::tokenAccounts));
+    }
+
+    @Test
+    void generateIncrementalAfterNftTreasuryChange(CapturedOutput output) {
+        // given
+        long balanceTimestamp = generateFirstIncremental();
+        var updatedEntities = updateBalances(balanceTimestamp);
+        var updatedTokenAccounts = updateTokenBalances(balanceTimestamp);
+        var nftTransfer = domainBuilder
+                .nftTransfer()
+                .customize(n -> n.serialNumber(NftTransfer.WILDCARD_SERIAL_NUMBER))
+                .get();
+        balanceChangeTracker.onTransaction(domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(balanceTimestamp + 2).nftTransfer(List.of(nftTransfer)))
+                .get());
+
+        // when, then
+        // falls back to the deduplicated snapshot since the treasury change rewrote token accounts in the database
+        long nextBalanceTimestamp =
+                balanceTimestamp + properties.getMinFrequency().plusSeconds(1).toNanos();
+        verifyGeneratedBalances(nextBalanceTimestamp, updatedEntities, updatedTokenAccounts);
+        assertThat(output.getOut())
+                .contains("Generated deduped historical account balance file")
+                .doesNotContain("Generated incremental historical account balance file");
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.FIVE_SECONDS)
+                .until(balanceChangeTracker::isInitialized);
+    }
+
     @Test
     void generateWhenTreasuryAccountDoesntExist() {
         // given
@@ -387,6 +442,79 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
         deleteRecordFilePartitions(oldPartitionEnd);
     }
 
+    /**
+     * Generates the full first snapshot in the partition with incremental snapshots enabled, and waits until the
+     * tracker can be relied on for the next one.
+     *
+     * @return the timestamp of the first snapshot
+     */
+    private long generateFirstIncremental() {
+        setup();
+        properties.setIncremental(true);
+        // Forget the changes and treasury changes tracked by earlier tests
+        balanceChangeTracker.reset();
+        domainBuilder
+                .accountBalanceFile()
+                .customize(abf -> abf.consensusTimestamp(prevPartitionBalanceTimestamp))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.id(new Id(prevPartitionBalanceTimestamp, treasuryAccount.toEntityId())))
+                .persist();
+
+        long balanceTimestamp =
+                prevPartitionBalanceTimestamp + properties.getMinFrequency().toNanos();
+        var updatedEntities = entities.stream()
+                .filter(e ->
+                        !Boolean.TRUE.equals(e.getDeleted()) || e.getBalanceTimestamp() > prevPartitionBalanceTimestamp)
+                .toList();
+        verifyGeneratedBalances(balanceTimestamp, updatedEntities, tokenAccounts);
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.FIVE_SECONDS)
+                .until(balanceChangeTracker::isInitialized);
+        return balanceTimestamp;
+    }
+
+    /**
+     * Changes the balance of an account and creates a new account, tracking both the way the parser would.
+     *
+     * @return the entities expected in the next snapshot
+     */
+    private List<Entity> updateBalances(long balanceTimestamp) {
+        account.setBalance(account.getBalance() + 5);
+        account.setBalanceTimestamp(balanceTimestamp + 1);
+        entityRepository.save(account);
+        var newAccount = domainBuilder
+                .entity()
+                .customize(e -> e.balanceTimestamp(account.getBalanceTimestamp()))
+                .persist();
+        track(List.of(account, newAccount));
+        return List.of(treasuryAccount, account, newAccount);
+    }
+
+    /**
+     * Changes the balance of a token account and creates a new token account, tracking both the way the parser would.
+     *
+     * @return the token accounts expected in the next snapshot
+     */
+    private List<TokenAccount> updateTokenBalances(long balanceTimestamp) {
+        tokenAccount.setBalance(tokenAccount.getBalance() + 5);
+        tokenAccount.setBalanceTimestamp(balanceTimestamp + 1);
+        tokenAccountRepository.save(tokenAccount);
+        var newTokenAccount = domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.accountId(account.getId()).balanceTimestamp(balanceTimestamp + 1))
+                .persist();
+        track(List.of(tokenAccount, newTokenAccount));
+        return List.of(tokenAccount, newTokenAccount);
+    }
+
+    private <T> void track(Collection<T> changed) {
+        parserContext.addAll(changed);
+        balanceChangeTracker.onEnd(domainBuilder.recordFile().get());
+        parserContext.clear();
+    }
+
     /**
      * Create record file partitions when the table is partitioned, to avoid the failure when test cases try to insert
      * a row out of the partition range otherwise.
@@ -27,7 +27,9 @@ import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.importer.db.TimePartition;
 import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.downloader.balance.BalanceDownloaderProperties;
+import org.hiero.mirror.importer.parser.batch.BatchPersister;
 import org.hiero.mirror.importer.parser.record.RecordFileParsedEvent;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
 import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.AccountBalanceRepository;
 import org.hiero.mirror.importer.repository.EntityRepository;
@@ -39,6 +41,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,6 +76,9 @@ class HistoricalBalanceServiceTest {
         service = new HistoricalBalanceService(
                 accountBalanceFileRepository,
                 accountBalanceRepository,
+                new BalanceChangeTracker(mock(ParserContext.class), properties),
+                mock(BatchPersister.class),
+                mock(JdbcOperations.class),
                 new SimpleMeterRegistry(),
                 platformTransactionManager,
                 properties,
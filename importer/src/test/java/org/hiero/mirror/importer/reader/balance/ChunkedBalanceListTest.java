@@ -0,0 +1,107 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.balance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.balance.AccountBalance;
+import org.hiero.mirror.importer.exception.InvalidDatasetException;
+import org.hiero.mirror.importer.reader.balance.ChunkedBalanceList.Chunk;
+import org.junit.jupiter.api.Test;
+
+class ChunkedBalanceListTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    @Test
+    void iterate() {
+        // given
+        var first = accountBalances(3);
+        var second = accountBalances(2);
+        var list = new ChunkedBalanceList(List.of(chunk(first), chunk(List.of()), chunk(second)), 2);
+
+        // when
+        var actual = new ArrayList<AccountBalance>();
+        list.forEach(actual::add);
+
+        // then
+        assertThat(list).hasSize(5);
+        assertThat(actual).containsExactlyElementsOf(Stream.concat(first.stream(), second.stream()).toList());
+        assertThat(parsed).hasValue(3);
+    }
+
+    @Test
+    void get() {
+        // given
+        var first = accountBalances(3);
+        var second = accountBalances(2);
+        var list = new ChunkedBalanceList(List.of(chunk(first), chunk(List.of()), chunk(second)), 2);
+
+        // when/then
+        assertThat(list.get(0)).isEqualTo(first.get(0));
+        assertThat(list.get(2)).isEqualTo(first.get(2));
+        assertThat(list.get(3)).isEqualTo(second.get(0));
+        assertThat(list.get(4)).isEqualTo(second.get(1));
+        assertThat(parsed).hasValue(2);
+        assertThatThrownBy(() -> list.get(5)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void parsed() {
+        // given
+        var first = accountBalances(3);
+        var chunk = Chunk.parsed(first, chunk(first).parser());
+        var list = new ChunkedBalanceList(List.of(chunk), 2);
+
+        // when
+        var actual = new ArrayList<AccountBalance>();
+        list.forEach(actual::add);
+        list.forEach(actual::add);
+
+        // then
+        assertThat(list).hasSize(3);
+        assertThat(actual).containsExactlyElementsOf(Stream.concat(first.stream(), first.stream()).toList());
+        assertThat(parsed).hasValue(1);
+    }
+
+    @Test
+    void empty() {
+        var list = new ChunkedBalanceList(List.of(), 2);
+        assertThat(list).isEmpty();
+        assertThat(list.iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    void parseError() {
+        // given
+        var chunk = new Chunk(1, () -> {
+            throw new InvalidDatasetException("error");
+        });
+        var list = new ChunkedBalanceList(List.of(chunk), 2);
+
+        // when/then
+        assertThatThrownBy(() -> list.iterator().hasNext())
+                .isInstanceOf(InvalidDatasetException.class)
+                .hasMessage("error");
+    }
+
+    private List<AccountBalance> accountBalances(int count) {
+        return Stream.generate(() -> domainBuilder.accountBalance().get())
+                .limit(count)
+                .toList();
+    }
+
+    private Chunk chunk(List<AccountBalance> accountBalances) {
+        return new Chunk(accountBalances.size(), () -> {
+            parsed.incrementAndGet();
+            return accountBalances;
+        });
+    }
+}
@@ -87,6 +87,18 @@ abstract class CsvBalanceFileReaderTest {
         verifySuccess(balanceFile, accountBalanceFile, 2);
     }
 
+    @Test
+    void readValidWithChunks() throws Exception {
+        balanceParserProperties.setChunkSize(16);
+        balanceParserProperties.setParallelism(2);
+        StreamFileData streamFileData = StreamFileData.from(balanceFile);
+        AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
+        assertAccountBalanceFile(accountBalanceFile);
+        assertFileHash(balanceFile, accountBalanceFile);
+        verifySuccess(balanceFile, accountBalanceFile, 2);
+        assertThat(accountBalanceFile.getItems()).hasSize((int) expectedCount).doesNotContainNull();
+    }
+
     @Test
     void readInvalidWhenFileHasNoTimestampHeader() throws IOException {
         List<String> lines = FileUtils.readLines(balanceFile, CsvBalanceFileReader.CHARSET);
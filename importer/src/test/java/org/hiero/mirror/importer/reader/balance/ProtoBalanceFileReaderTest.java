@@ -5,7 +5,9 @@ package org.hiero.mirror.importer.reader.balance;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.google.common.primitives.Bytes;
 import com.google.protobuf.UnknownFieldSet;
+import com.google.protobuf.WireFormat;
 import com.hedera.services.stream.proto.AllAccountBalances;
 import com.hedera.services.stream.proto.SingleAccountBalances;
 import com.hederahashgraph.api.proto.java.Timestamp;
@@ -22,6 +24,8 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.TestUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.hiero.mirror.importer.exception.StreamFileReaderException;
+import org.hiero.mirror.importer.parser.balance.BalanceParserProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -34,6 +38,7 @@ class ProtoBalanceFileReaderTest {
             .toString();
 
     private AccountBalanceFile expected;
+    private BalanceParserProperties balanceParserProperties;
     private ProtoBalanceFileReader protoBalanceFileReader;
     private StreamFileData streamFileData;
 
@@ -43,7 +48,8 @@ class ProtoBalanceFileReaderTest {
         streamFileData = StreamFileData.from(file);
         expected = getExpectedAccountBalanceFile(streamFileData);
 
-        protoBalanceFileReader = new ProtoBalanceFileReader();
+        balanceParserProperties = new BalanceParserProperties();
+        protoBalanceFileReader = new ProtoBalanceFileReader(balanceParserProperties);
     }
 
     @Test
@@ -56,6 +62,18 @@ class ProtoBalanceFileReaderTest {
         assertThat(actual.getLoadStart()).isNotNull().isPositive();
     }
 
+    @Test
+    void readChunks() {
+        balanceParserProperties.setChunkSize(100);
+        balanceParserProperties.setParallelism(2);
+        AccountBalanceFile actual = protoBalanceFileReader.read(streamFileData);
+        assertThat(actual)
+                .usingRecursiveComparison()
+                .ignoringFields("loadStart", "nodeAccountId")
+                .isEqualTo(expected);
+        assertThat(actual.getItems()).hasSize(10).element(9).isEqualTo(expected.getItems().get(9));
+    }
+
     @Test
     void emptyProtobuf() {
         AllAccountBalances allAccountBalances = AllAccountBalances.newBuilder().build();
@@ -93,6 +111,21 @@ class ProtoBalanceFileReaderTest {
         assertThat(accountBalanceFile.getItems()).hasSize(1);
     }
 
+    @Test
+    void readMalformedAccount() {
+        var allAccountBalances = AllAccountBalances.newBuilder()
+                .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1L).build())
+                .build();
+        // An account whose balance varint is cut off by the end of the account
+        var account = new byte[] {(byte) (SingleAccountBalances.HBARBALANCE_FIELD_NUMBER << 3), (byte) 0x80};
+        var tag = (byte) (AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        var bytes = Bytes.concat(allAccountBalances.toByteArray(), new byte[] {tag, (byte) account.length}, account);
+        var allAccountBalancesStreamFileData = StreamFileData.from(TIMESTAMP + "_Balances.pb", bytes);
+
+        assertThrows(
+                StreamFileReaderException.class, () -> protoBalanceFileReader.read(allAccountBalancesStreamFileData));
+    }
+
     @Test
     void readCorruptedBytes() {
         corrupt(streamFileData.getBytes());
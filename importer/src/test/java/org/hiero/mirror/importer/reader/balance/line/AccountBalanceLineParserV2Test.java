@@ -3,6 +3,7 @@
 package org.hiero.mirror.importer.reader.balance.line;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.common.base.Splitter;
@@ -107,10 +108,13 @@ class AccountBalanceLineParserV2Test {
             } else {
                 assertThat(actualTokenBalanceList).isEmpty();
             }
+
+            assertDoesNotThrow(() -> parser.validate(line));
         } else {
             assertThrows(InvalidDatasetException.class, () -> {
                 parser.parse(line, TIMESTAMP);
             });
+            assertThrows(InvalidDatasetException.class, () -> parser.validate(line));
         }
     }
 
@@ -119,5 +123,6 @@ class AccountBalanceLineParserV2Test {
         assertThrows(InvalidDatasetException.class, () -> {
             parser.parse(null, TIMESTAMP);
         });
+        assertThrows(InvalidDatasetException.class, () -> parser.validate(null));
     }
 }
@@ -57,6 +57,7 @@ class BalanceReconciliationServiceTest extends ImporterIntegrationTest {
         reconciliationProperties.setDelay(Duration.ZERO);
         reconciliationProperties.setEnabled(true);
         reconciliationProperties.setEndDate(Utility.MAX_INSTANT_LONG);
+        reconciliationProperties.setMaxCarriedDifferences(100_000);
         reconciliationProperties.setRemediationStrategy(FAIL);
         reconciliationProperties.setStartDate(Instant.EPOCH);
         reconciliationProperties.setToken(true);
@@ -116,7 +117,27 @@ class BalanceReconciliationServiceTest extends ImporterIntegrationTest {
         // then
         assertReconciliationJob(FAILURE_CRYPTO_TRANSFERS, balance2)
                 .returns(3L, ReconciliationJob::getCount)
-                .satisfies(r -> assertThat(r.getError()).contains(""));
+                .satisfies(r -> assertThat(r.getError().lines().filter(l -> !l.isEmpty())).hasSize(2));
+    }
+
+    @Test
+    void cryptoTransfersAccumulateStrategyMaxCarriedDifferences() {
+        // given
+        reconciliationProperties.setMaxCarriedDifferences(1);
+        reconciliationProperties.setRemediationStrategy(ACCUMULATE);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        var balance2 = balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1000L, 3L, 1000L)); // Two differences exceed the maximum
+        transfer(3, 4, 1);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1000L, 3L, 999L, 4L, 1L));
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(FAILURE_CRYPTO_TRANSFERS, balance2)
+                .returns(3L, ReconciliationJob::getCount)
+                .satisfies(r -> assertThat(r.getError().lines().filter(l -> !l.isEmpty())).hasSize(1));
     }
 
     @Test
@@ -214,6 +235,49 @@ class BalanceReconciliationServiceTest extends ImporterIntegrationTest {
         assertReconciliationJob(FAILURE_TOKEN_TRANSFERS, balance2).returns(3L, ReconciliationJob::getCount);
     }
 
+    @Test
+    void tokenTransfersAccumulateStrategy() {
+        // given
+        reconciliationProperties.setRemediationStrategy(ACCUMULATE);
+        tokenBalance(Map.of(new TokenAccountId(2, 100), 100L));
+        var balance2 = tokenBalance(Map.of(new TokenAccountId(2, 100), 100L));
+        tokenBalance(Map.of(new TokenAccountId(2, 100), 101L)); // Missing transfer
+        tokenTransfer(2, 100, -10);
+        tokenTransfer(3, 100, 10);
+        tokenBalance(Map.of(new TokenAccountId(2, 100), 91L, new TokenAccountId(3, 100), 10L));
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(FAILURE_TOKEN_TRANSFERS, balance2)
+                .returns(3L, ReconciliationJob::getCount)
+                .extracting(ReconciliationJob::getError)
+                .asInstanceOf(InstanceOfAssertFactories.STRING)
+                .contains("TokenAccountId(accountId=2, tokenId=100)=(100, 101)")
+                .contains("TokenAccountId(accountId=2, tokenId=100)=(90, 91)");
+    }
+
+    @Test
+    void cryptoAndTokenTransfersResetStrategy() {
+        // given
+        reconciliationProperties.setRemediationStrategy(RESET);
+        tokenBalance(Map.of(new TokenAccountId(2, 100), 100L));
+        transfer(2, 3, 10); // Missing from balance file
+        tokenBalance(Map.of(new TokenAccountId(2, 100), 101L)); // Missing transfer
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(FAILURE_TOKEN_TRANSFERS, null)
+                .returns(1L, ReconciliationJob::getCount)
+                .extracting(ReconciliationJob::getError)
+                .asInstanceOf(InstanceOfAssertFactories.STRING)
+                .contains("only on left={3=10}")
+                .contains("TokenAccountId(accountId=2, tokenId=100)=(100, 101)");
+    }
+
     @Test
     void tokensNotEnabled() {
         // given
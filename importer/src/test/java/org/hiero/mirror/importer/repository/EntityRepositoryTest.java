@@ -12,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.domain.AliasMapping;
 import org.junit.jupiter.api.Test;
 import org.springframework.jdbc.core.RowMapper;
 
@@ -107,6 +108,29 @@ class EntityRepositoryTest extends ImporterIntegrationTest {
         assertThat(entityRepository.findByEvmAddress(new byte[] {1, 2, 3})).isEmpty();
     }
 
+    @Test
+    void findByAliasesAndEvmAddresses() {
+        var entity1 = domainBuilder.entity().persist();
+        var entity2 = domainBuilder.entity().persist();
+        var entityDeleted =
+                domainBuilder.entity().customize(e -> e.deleted(true)).persist();
+        domainBuilder.entity().persist();
+
+        var aliases = new byte[][] {entity1.getAlias(), entityDeleted.getAlias(), new byte[] {1, 2, 3}};
+        var evmAddresses = new byte[][] {entity2.getEvmAddress(), entity1.getAlias()};
+
+        assertThat(entityRepository.findByAliasesAndEvmAddresses(aliases, evmAddresses))
+                .hasSize(2)
+                .anySatisfy(m -> assertThat(m)
+                        .returns(entity1.getAlias(), AliasMapping::getAlias)
+                        .returns(entity1.getId(), AliasMapping::getId))
+                .anySatisfy(m -> assertThat(m)
+                        .returns(entity2.getEvmAddress(), AliasMapping::getAlias)
+                        .returns(entity2.getId(), AliasMapping::getId));
+        assertThat(entityRepository.findByAliasesAndEvmAddresses(new byte[0][], new byte[0][]))
+                .isEmpty();
+    }
+
     @Test
     void findById() {
         var entity = domainBuilder.entity(-2, domainBuilder.timestamp()).persist();
@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.github.vertical_blank.sqlformatter.SqlFormatter;
 import com.github.vertical_blank.sqlformatter.languages.Dialect;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.schedule.Schedule;
 import org.hiero.mirror.common.domain.token.CustomFee;
@@ -677,6 +678,15 @@ class GenericUpsertQueryGeneratorTest extends ImporterIntegrationTest {
         assertThat(format(generator.getUpsertQuery())).isEqualTo(format(sql));
     }
 
+    @Test
+    void getUpsertQuerySource() {
+        var sourceQuery = "select * from entity where memo = '?'";
+        var generator = factory.get(Entity.class);
+        var sql = generator.getUpsertQuery(sourceQuery);
+        assertThat(sql).isNotNull().doesNotContain("entity_temp").contains("join source_rows t");
+        assertThat(StringUtils.countMatches(sql, "with source_rows as (" + sourceQuery + "), ")).isEqualTo(2);
+    }
+
     @Test
     void skipPartialUpdate() {
         var generator = factory.get(Token.class);
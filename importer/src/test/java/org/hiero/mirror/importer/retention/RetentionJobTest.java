@@ -3,18 +3,31 @@
 package org.hiero.mirror.importer.retention;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.google.common.collect.Range;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.common.domain.transaction.Transaction;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.db.TimePartition;
+import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
+import org.hiero.mirror.importer.repository.RetentionRepository;
 import org.hiero.mirror.importer.repository.TransactionRepository;
+import org.hiero.mirror.importer.retention.RetentionProperties.PartitionAction;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
 
 @RequiredArgsConstructor
 class RetentionJobTest extends ImporterIntegrationTest {
@@ -22,6 +35,8 @@ class RetentionJobTest extends ImporterIntegrationTest {
     private final RecordFileRepository recordFileRepository;
     private final RetentionJob retentionJob;
     private final RetentionProperties retentionProperties;
+    private final Collection<RetentionRepository> retentionRepositories;
+    private final TransactionOperations transactionOperations;
     private final TransactionRepository transactionRepository;
 
     @BeforeEach
@@ -29,6 +44,7 @@ class RetentionJobTest extends ImporterIntegrationTest {
         retentionProperties.setBatchPeriod(Duration.ofSeconds(1L));
         retentionProperties.setExclude(Collections.emptySet());
         retentionProperties.setInclude(Collections.emptySet());
+        retentionProperties.setPartitionAction(PartitionAction.NONE);
         retentionProperties.setPeriod(Duration.ofDays(-1L));
         retentionProperties.setEnabled(true);
     }
@@ -168,6 +184,96 @@ class RetentionJobTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.count()).isZero();
     }
 
+    @Test
+    void removePartitions() {
+        // given
+        retentionProperties.setInclude(Set.of("transaction"));
+        retentionProperties.setPartitionAction(PartitionAction.DROP);
+        var recordFile1 = recordFile();
+        var recordFile2 = recordFile();
+        var recordFile3 = recordFile();
+        var period = recordFile3.getConsensusEnd() - recordFile2.getConsensusEnd() - 1;
+        retentionProperties.setPeriod(Duration.ofSeconds(0, period));
+        ownerJdbcTemplate.execute("create table transaction_retention_test (consensus_timestamp bigint)");
+        var partition = TimePartition.builder()
+                .name("transaction_retention_test")
+                .parent("transaction")
+                .timestampRange(Range.closedOpen(0L, recordFile1.getConsensusEnd() + 1))
+                .build();
+        var timePartitionService = mock(TimePartitionService.class);
+        when(timePartitionService.getTimePartitions("transaction")).thenReturn(List.of(partition));
+        var job = new RetentionJob(
+                ownerJdbcTemplate,
+                recordFileRepository,
+                retentionProperties,
+                retentionRepositories,
+                timePartitionService,
+                transactionOperations);
+
+        // when
+        job.prune();
+
+        // then
+        var exists = jdbcOperations.queryForObject(
+                "select to_regclass('transaction_retention_test') is not null", Boolean.class);
+        assertThat(exists).isFalse();
+        assertThat(recordFileRepository.count()).isEqualTo(3);
+        assertThat(transactionRepository.findAll())
+                .extracting(Transaction::getConsensusTimestamp)
+                .containsExactly(recordFile3.getConsensusEnd());
+        verify(timePartitionService, times(2)).evict();
+    }
+
+    @Test
+    void removePartitionsLockTimeout() throws Exception {
+        // given
+        retentionProperties.setInclude(Set.of("transaction"));
+        retentionProperties.setPartitionAction(PartitionAction.DROP);
+        retentionProperties.setPartitionLockTimeout(Duration.ofMillis(100L));
+        var recordFile1 = recordFile();
+        var recordFile2 = recordFile();
+        var recordFile3 = recordFile();
+        var period = recordFile3.getConsensusEnd() - recordFile2.getConsensusEnd() - 1;
+        retentionProperties.setPeriod(Duration.ofSeconds(0, period));
+        ownerJdbcTemplate.execute("create table transaction_retention_test (consensus_timestamp bigint)");
+        var partition = TimePartition.builder()
+                .name("transaction_retention_test")
+                .parent("transaction")
+                .timestampRange(Range.closedOpen(0L, recordFile1.getConsensusEnd() + 1))
+                .build();
+        var timePartitionService = mock(TimePartitionService.class);
+        when(timePartitionService.getTimePartitions("transaction")).thenReturn(List.of(partition));
+        var job = new RetentionJob(
+                ownerJdbcTemplate,
+                recordFileRepository,
+                retentionProperties,
+                retentionRepositories,
+                timePartitionService,
+                transactionOperations);
+
+        try (var connection = ownerJdbcTemplate.getDataSource().getConnection();
+                var statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            statement.execute("lock table transaction_retention_test in access share mode");
+
+            // when
+            job.prune();
+
+            connection.rollback();
+        } finally {
+            retentionProperties.setPartitionLockTimeout(Duration.ofSeconds(5L));
+        }
+
+        // then
+        var exists = jdbcOperations.queryForObject(
+                "select to_regclass('transaction_retention_test') is not null", Boolean.class);
+        assertThat(exists).isTrue();
+        assertThat(transactionRepository.findAll())
+                .extracting(Transaction::getConsensusTimestamp)
+                .containsExactly(recordFile3.getConsensusEnd());
+        ownerJdbcTemplate.execute("drop table transaction_retention_test");
+    }
+
     private RecordFile recordFile() {
         var recordFile = domainBuilder.recordFile().persist();
         domainBuilder
@@ -9,6 +9,7 @@ import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.monitor.publish.OpenLoopPublisher;
 import org.hiero.mirror.monitor.publish.PublishException;
 import org.hiero.mirror.monitor.publish.PublishMetrics;
 import org.hiero.mirror.monitor.publish.PublishProperties;
@@ -42,6 +43,7 @@ class MonitorConfiguration {
     }
 
     private final MirrorSubscriber mirrorSubscriber;
+    private final OpenLoopPublisher openLoopPublisher;
     private final PublishMetrics publishMetrics;
     private final PublishProperties publishProperties;
     private final SubscribeMetrics subscribeMetrics;
@@ -59,13 +61,18 @@ class MonitorConfiguration {
      * generate transactions as fast as possible. Next, a parallel Flux will concurrently publish those transactions to
      * the main nodes. Once the response is received, it will be sent to subscribers in case they need to sample them to
      * validate whether that transaction was received by the mirror node APIs. Finally, metrics will be collected for
-     * every published transaction.
+     * every published transaction. If open-loop publishing is enabled, the {@link OpenLoopPublisher} flow is used
+     * instead.
      *
      * @return the publishing flow's Disposable
      */
     @Bean(destroyMethod = "dispose")
     @ConditionalOnProperty(value = "hiero.mirror.monitor.publish.enabled", havingValue = "true", matchIfMissing = true)
     Disposable publish() {
+        if (publishProperties.getOpenLoop().isEnabled()) {
+            return openLoopPublisher.publish();
+        }
+
         return Flux.<List<PublishRequest>>generate(sink -> sink.next(transactionGenerator.next(0)))
                 .flatMapIterable(Function.identity())
                 .retry()
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.monitor.publish;
+
+import jakarta.inject.Named;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.monitor.publish.generator.TransactionGenerator;
+import org.hiero.mirror.monitor.subscribe.MirrorSubscriber;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Publishes transactions at the rate of the transaction generator regardless of how long the network takes to respond.
+ * Each transaction is generated and signed {@code lead} ahead of its scheduled send time and then sent at that time
+ * without waiting on any earlier transaction. Its request timestamp is the scheduled time, so the publish latency
+ * includes any time spent waiting to be sent and isn't hidden by coordinated omission when the network is overloaded.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class OpenLoopPublisher {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final MirrorSubscriber mirrorSubscriber;
+    private final PublishMetrics publishMetrics;
+    private final PublishProperties publishProperties;
+    private final TransactionGenerator transactionGenerator;
+    private final TransactionPublisher transactionPublisher;
+
+    public Disposable publish() {
+        var dispatcher = Schedulers.newSingle("dispatcher");
+        var publisher = Schedulers.newParallel("publisher", publishProperties.getClients());
+        var lead = publishProperties.getOpenLoop().getLead();
+
+        var generator = Flux.<List<PublishRequest>>generate(sink -> sink.next(transactionGenerator.next(0)))
+                .flatMapIterable(Function.identity())
+                .retry()
+                .name("generate")
+                .map(request -> request.toBuilder()
+                        .timestamp(Instant.now().plus(lead))
+                        .build())
+                .concatMap(transactionPublisher::prepare)
+                .onErrorContinue(PublishException.class, (t, r) -> publishMetrics.onError((PublishException) t))
+                .onErrorContinue((t, r) -> log.error("Unexpected error during open-loop publish flow: ", t))
+                .doFinally(s -> log.warn("Stopped open-loop publisher after {} signal", s))
+                .doOnSubscribe(s -> log.info("Starting open-loop publisher flow with a lead of {}", lead))
+                .subscribeOn(Schedulers.single())
+                .subscribe(request -> schedule(dispatcher, publisher, request));
+
+        return Disposables.composite(generator, dispatcher, publisher);
+    }
+
+    private void schedule(Scheduler dispatcher, Scheduler publisher, PublishRequest request) {
+        long delay = Duration.between(Instant.now(), request.getTimestamp()).toNanos();
+
+        if (delay > 0) {
+            dispatcher.schedule(() -> send(publisher, request), delay, TimeUnit.NANOSECONDS);
+        } else {
+            send(publisher, request);
+        }
+    }
+
+    private void send(Scheduler publisher, PublishRequest request) {
+        if (inFlight.incrementAndGet() > publishProperties.getOpenLoop().getMaxInFlight()) {
+            inFlight.decrementAndGet();
+            var exception = new PublishException(request, new MaxInFlightException());
+            request.getScenario().onError(exception);
+            publishMetrics.onError(exception);
+            return;
+        }
+
+        transactionPublisher
+                .publish(request)
+                .subscribeOn(publisher)
+                .doFinally(s -> inFlight.decrementAndGet())
+                .subscribe(
+                        response -> {
+                            mirrorSubscriber.onPublish(response);
+                            publishMetrics.onSuccess(response);
+                        },
+                        t -> {
+                            if (t instanceof PublishException publishException) {
+                                publishMetrics.onError(publishException);
+                            } else {
+                                log.error("Unexpected error during open-loop publish: ", t);
+                            }
+                        });
+    }
+
+    /**
+     * Signals that a transaction was dropped instead of being sent at its scheduled time since too many transactions
+     * are still awaiting a response.
+     */
+    static class MaxInFlightException extends RuntimeException {
+
+        private static final long serialVersionUID = -4305426183466307318L;
+
+        MaxInFlightException() {
+            super("Too many transactions awaiting a response", null, false, false);
+        }
+    }
+}
@@ -28,11 +28,13 @@ public class PublishMetrics {
 
     static final String METRIC_DURATION = "hiero.mirror.monitor.publish.duration";
     static final String METRIC_HANDLE = "hiero.mirror.monitor.publish.handle";
+    static final String METRIC_LATENCY = "hiero.mirror.monitor.publish.latency";
     static final String METRIC_SUBMIT = "hiero.mirror.monitor.publish.submit";
     static final String SUCCESS = "SUCCESS";
 
     private final Map<Tags, TimeGauge> durationGauges = new ConcurrentHashMap<>();
     private final Map<Tags, Timer> handleTimers = new ConcurrentHashMap<>();
+    private final Map<Tags, Timer> latencyTimers = new ConcurrentHashMap<>();
     private final Map<Tags, Timer> submitTimers = new ConcurrentHashMap<>();
     private final MeterRegistry meterRegistry;
     private final PublishProperties publishProperties;
@@ -59,6 +61,11 @@ public class PublishMetrics {
 
             durationGauges.computeIfAbsent(tags, this::newDurationMetric);
 
+            // Node isn't a tag so the histogram buckets are only kept per scenario and status
+            var latencyTags = new Tags(null, request.getScenario(), status);
+            Timer latencyTimer = latencyTimers.computeIfAbsent(latencyTags, this::newLatencyMetric);
+            latencyTimer.record(endTime - startTime, TimeUnit.MILLISECONDS);
+
             if (response != null && response.getReceipt() != null) {
                 long elapsed = System.currentTimeMillis() - startTime;
                 Timer handleTimer = handleTimers.computeIfAbsent(tags, this::newHandleMetric);
@@ -86,6 +93,15 @@ public class PublishMetrics {
                 .register(meterRegistry);
     }
 
+    private Timer newLatencyMetric(Tags tags) {
+        return Timer.builder(METRIC_LATENCY)
+                .description("The time from when a transaction was scheduled to be sent until its response")
+                .publishPercentileHistogram()
+                .tags(tags.common())
+                .tag(Tags.TAG_STATUS, tags.getStatus())
+                .register(meterRegistry);
+    }
+
     private Timer newSubmitMetric(Tags tags) {
         return Timer.builder(METRIC_SUBMIT)
                 .description("The time it takes to submit a transaction")
@@ -33,6 +33,10 @@ public class PublishProperties {
     @NotNull
     private Duration nodeMaxBackoff = Duration.ofMinutes(1L);
 
+    @NotNull
+    @Valid
+    private OpenLoopProperties openLoop = new OpenLoopProperties();
+
     @NotNull
     @Valid
     private Map<String, PublishScenarioProperties> scenarios = new LinkedHashMap<>();
@@ -60,4 +64,23 @@ public class PublishProperties {
 
         scenarios.forEach((name, property) -> property.setName(name));
     }
+
+    /*
+     * Open-loop publishing sends transactions at their scheduled time regardless of how many are still awaiting a
+     * response, so a slow network shows up as latency instead of as a lower transaction rate.
+     */
+    @Data
+    @Validated
+    public static class OpenLoopProperties {
+
+        private boolean enabled = false;
+
+        // How far ahead of its scheduled send time each transaction is generated and signed
+        @DurationMin(millis = 0)
+        @NotNull
+        private Duration lead = Duration.ofSeconds(1L);
+
+        @Min(1)
+        private int maxInFlight = 10_000;
+    }
 }
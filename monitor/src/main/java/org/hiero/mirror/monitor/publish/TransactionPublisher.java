@@ -78,7 +78,29 @@ public class TransactionPublisher implements AutoCloseable {
                 .doOnError(scenario::onError);
     }
 
-    private Mono<TransactionResponse> getTransactionResponse(PublishRequest request, Client client) {
+    /**
+     * Assigns a node to the request's transaction, then freezes and signs it so that publishing it later only has to
+     * send it. The transaction ID's valid start is set when it's frozen, so it should be published shortly after.
+     *
+     * @param request the request to prepare
+     * @return the prepared request
+     */
+    public Mono<PublishRequest> prepare(PublishRequest request) {
+        if (!publishProperties.isEnabled()) {
+            return Mono.empty();
+        }
+
+        int clientIndex = secureRandom.nextInt(publishProperties.getClients());
+        return clients.elementAt(clientIndex)
+                .map(client -> {
+                    var transaction = assignNode(request);
+                    transaction.freezeWith(client).signWithOperator(client);
+                    return request;
+                })
+                .onErrorMap(t -> !(t instanceof PublishException), t -> new PublishException(request, t));
+    }
+
+    private Transaction<?> assignNode(PublishRequest request) {
         var transaction = request.getTransaction();
 
         if (request.getNode() == null) {
@@ -87,7 +109,11 @@ public class TransactionPublisher implements AutoCloseable {
             request.setNode(node);
         }
 
-        return execute(client, transaction);
+        return transaction;
+    }
+
+    private Mono<TransactionResponse> getTransactionResponse(PublishRequest request, Client client) {
+        return execute(client, assignNode(request));
     }
 
     private Mono<PublishResponse.PublishResponseBuilder> processTransactionResponse(
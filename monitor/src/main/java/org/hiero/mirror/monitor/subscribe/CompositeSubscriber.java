@@ -15,10 +15,12 @@ import reactor.core.publisher.Flux;
 @SuppressWarnings("unchecked")
 public class CompositeSubscriber implements MirrorSubscriber {
 
+    private final PublishTracker publishTracker;
     private final Collection<MirrorSubscriber> subscribers;
 
     @Override
     public void onPublish(PublishResponse response) {
+        publishTracker.onPublish(response);
         subscribers.forEach(s -> s.onPublish(response));
     }
 
@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.monitor.subscribe;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
+import jakarta.inject.Named;
+import java.time.Instant;
+import org.hiero.mirror.monitor.publish.PublishResponse;
+import org.hiero.mirror.monitor.util.Utility;
+
+/**
+ * Tracks the published topic messages by their correlation ID so the subscribers that receive them from the mirror node
+ * can attribute their latency to the publish side. Only the request and response timestamps are kept and entries are
+ * evicted once they expire or the tracker is full, so messages that are never received don't accumulate.
+ */
+@Named
+public class PublishTracker {
+
+    private final Cache<String, Published> published;
+    private final SubscribeProperties.LatencyProperties properties;
+
+    public PublishTracker(SubscribeProperties subscribeProperties) {
+        this.properties = subscribeProperties.getLatency();
+        this.published = CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getExpiry())
+                .maximumSize(properties.getMaxTracked())
+                .build();
+    }
+
+    public static String getCorrelationId(PublishResponse response) {
+        var request = response.getRequest();
+
+        if (request != null && request.getTransaction() instanceof TopicMessageSubmitTransaction transaction) {
+            return Utility.getCorrelationId(transaction.getMessage().toByteArray());
+        }
+
+        return null;
+    }
+
+    public Published get(String correlationId) {
+        return correlationId != null ? published.getIfPresent(correlationId) : null;
+    }
+
+    public void onPublish(PublishResponse response) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        var correlationId = getCorrelationId(response);
+
+        if (correlationId != null) {
+            published.put(correlationId, new Published(response.getRequest().getTimestamp(), response.getTimestamp()));
+        }
+    }
+
+    /**
+     * @param requestTimestamp  when the transaction was scheduled to be published
+     * @param responseTimestamp when the consensus node's response was received
+     */
+    public record Published(Instant requestTimestamp, Instant responseTimestamp) {}
+}
@@ -24,13 +24,17 @@ public class SubscribeMetrics {
 
     static final String METRIC_DURATION = "hiero.mirror.monitor.subscribe.duration";
     static final String METRIC_E2E = "hiero.mirror.monitor.subscribe.e2e";
+    static final String METRIC_LATENCY = "hiero.mirror.monitor.subscribe.latency";
     static final String TAG_PROTOCOL = "protocol";
     static final String TAG_SCENARIO = "scenario";
+    static final String TAG_STAGE = "stage";
     static final String TAG_SUBSCRIBER = "subscriber";
 
     private final Map<Scenario<?, ?>, TimeGauge> durationMetrics = new ConcurrentHashMap<>();
     private final Map<Scenario<?, ?>, Timer> latencyMetrics = new ConcurrentHashMap<>();
+    private final Map<StageKey, Timer> stageMetrics = new ConcurrentHashMap<>();
     private final MeterRegistry meterRegistry;
+    private final PublishTracker publishTracker;
     private final SubscribeProperties subscribeProperties;
 
     public void onNext(SubscribeResponse response) {
@@ -43,6 +47,35 @@ public class SubscribeMetrics {
             Duration latency = Duration.between(publishedTimestamp, response.getReceivedTimestamp());
             latencyMetrics.computeIfAbsent(scenario, this::newLatencyTimer).record(latency);
         }
+
+        recordStages(response);
+    }
+
+    /*
+     * Breaks down the end to end latency into the time it took the message to reach consensus and the time it took the
+     * mirror node to deliver it after consensus. The latter includes the time for the record file to be closed,
+     * downloaded and committed by the importer. When the message was published by this monitor, its scheduled publish
+     * time and the time it took the consensus node to respond are used instead of the timestamp in the message.
+     */
+    private void recordStages(SubscribeResponse response) {
+        var consensusTimestamp = response.getConsensusTimestamp();
+        var published = publishTracker.get(response.getCorrelationId());
+        var publishedTimestamp = response.getPublishedTimestamp();
+
+        if (published != null) {
+            publishedTimestamp = published.requestTimestamp();
+            record(response, Stage.SUBMIT, publishedTimestamp, published.responseTimestamp());
+        }
+
+        record(response, Stage.CONSENSUS, publishedTimestamp, consensusTimestamp);
+        record(response, Stage.DELIVERY, consensusTimestamp, response.getReceivedTimestamp());
+    }
+
+    private void record(SubscribeResponse response, Stage stage, Instant start, Instant end) {
+        if (start != null && end != null && !end.isBefore(start)) {
+            var key = new StageKey(response.getScenario(), stage);
+            stageMetrics.computeIfAbsent(key, this::newStageTimer).record(Duration.between(start, end));
+        }
     }
 
     private TimeGauge newDurationGauge(Scenario<?, ?> scenario) {
@@ -64,6 +97,18 @@ public class SubscribeMetrics {
                 .register(meterRegistry);
     }
 
+    private Timer newStageTimer(StageKey key) {
+        var scenario = key.scenario();
+        return Timer.builder(METRIC_LATENCY)
+                .description("The latency of each stage of a message from publish to receive")
+                .publishPercentileHistogram()
+                .tag(TAG_PROTOCOL, scenario.getProtocol().toString())
+                .tag(TAG_SCENARIO, scenario.getName())
+                .tag(TAG_STAGE, key.stage().name().toLowerCase())
+                .tag(TAG_SUBSCRIBER, String.valueOf(scenario.getId()))
+                .register(meterRegistry);
+    }
+
     @Scheduled(fixedDelayString = "${hiero.mirror.monitor.subscribe.statusFrequency:10000}")
     @SuppressWarnings("java:S3864") // Call to peek here is fine
     public void status() {
@@ -91,4 +136,12 @@ public class SubscribeMetrics {
                 s.getRate(),
                 s.getErrors());
     }
+
+    enum Stage {
+        SUBMIT,
+        CONSENSUS,
+        DELIVERY
+    }
+
+    private record StageKey(Scenario<?, ?> scenario, Stage stage) {}
 }
@@ -35,6 +35,10 @@ public class SubscribeProperties {
     @Valid
     private Map<String, GrpcSubscriberProperties> grpc = new LinkedHashMap<>();
 
+    @NotNull
+    @Valid
+    private LatencyProperties latency = new LatencyProperties();
+
     @NotNull
     @Valid
     private Map<String, RestSubscriberProperties> rest = new LinkedHashMap<>();
@@ -61,4 +65,22 @@ public class SubscribeProperties {
         grpc.forEach((name, property) -> property.setName(name));
         rest.forEach((name, property) -> property.setName(name));
     }
+
+    /*
+     * Controls how published topic messages are tracked so that the subscribers can break down their latency by stage.
+     */
+    @Data
+    @Validated
+    public static class LatencyProperties {
+
+        private boolean enabled = true;
+
+        // How long to wait for a published message to be received before it's no longer tracked
+        @DurationMin(seconds = 1L)
+        @NotNull
+        private Duration expiry = Duration.ofMinutes(2L);
+
+        @Min(1)
+        private long maxTracked = 100_000L;
+    }
 }
@@ -10,6 +10,7 @@ import lombok.Value;
 @Value
 public class SubscribeResponse {
     private final Instant consensusTimestamp;
+    private final String correlationId;
     private final Instant publishedTimestamp;
     private final Instant receivedTimestamp;
     private final Scenario<?, ?> scenario;
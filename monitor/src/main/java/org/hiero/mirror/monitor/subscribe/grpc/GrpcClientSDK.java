@@ -80,6 +80,7 @@ class GrpcClientSDK implements GrpcClient {
 
         return SubscribeResponse.builder()
                 .consensusTimestamp(topicMessage.consensusTimestamp)
+                .correlationId(Utility.getCorrelationId(topicMessage.contents))
                 .publishedTimestamp(publishedTimestamp)
                 .receivedTimestamp(receivedTimestamp)
                 .scenario(subscription)
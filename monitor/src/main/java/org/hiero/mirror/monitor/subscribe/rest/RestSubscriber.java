@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.hiero.mirror.monitor.publish.PublishResponse;
 import org.hiero.mirror.monitor.subscribe.MirrorSubscriber;
+import org.hiero.mirror.monitor.subscribe.PublishTracker;
 import org.hiero.mirror.monitor.subscribe.SubscribeProperties;
 import org.hiero.mirror.monitor.subscribe.SubscribeResponse;
 import org.hiero.mirror.rest.model.TransactionByIdResponse;
@@ -137,6 +138,7 @@ class RestSubscriber implements MirrorSubscriber {
 
         return SubscribeResponse.builder()
                 .consensusTimestamp(consensusTimestamp)
+                .correlationId(PublishTracker.getCorrelationId(publishResponse))
                 .publishedTimestamp(publishResponse.getRequest().getTimestamp())
                 .receivedTimestamp(receivedTimestamp)
                 .scenario(subscription)
@@ -15,6 +15,8 @@ import org.apache.commons.lang3.StringUtils;
 @UtilityClass
 public class Utility {
 
+    public static final int CORRELATION_ID_LENGTH = 8;
+
     private static final long MILLIS_OFFSET = Duration.ofMinutes(5L).toMillis();
     private static final SecureRandom RANDOM = new SecureRandom();
 
@@ -52,6 +54,31 @@ public class Utility {
         }
     }
 
+    /**
+     * Parses the correlation ID from a message generated by {@link #generateMessage(int)}. The correlation ID is the
+     * first {@value #CORRELATION_ID_LENGTH} random characters after the published timestamp, so only messages that were
+     * generated large enough to contain them can be correlated.
+     *
+     * @param bytes containing a timestamp and random characters encoded as a String
+     * @return the correlation ID or null if the message doesn't have one
+     */
+    public static String getCorrelationId(byte[] bytes) {
+        if (getTimestamp(bytes) == null) {
+            return null;
+        }
+
+        String message = new String(bytes, StandardCharsets.US_ASCII);
+        int start = message.indexOf(' ') + 1;
+        int end = start + CORRELATION_ID_LENGTH;
+
+        if (message.length() < end) {
+            return null;
+        }
+
+        String correlationId = message.substring(start, end);
+        return StringUtils.isAlphanumeric(correlationId) ? correlationId : null;
+    }
+
     public static byte[] generateMessage(int requestedMessageSize) {
         String message = System.currentTimeMillis() + " ";
 
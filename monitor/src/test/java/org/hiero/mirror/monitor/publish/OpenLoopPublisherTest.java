@@ -0,0 +1,142 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.monitor.publish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.TransferTransaction;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.mirror.monitor.publish.OpenLoopPublisher.MaxInFlightException;
+import org.hiero.mirror.monitor.publish.generator.TransactionGenerator;
+import org.hiero.mirror.monitor.publish.transaction.TransactionType;
+import org.hiero.mirror.monitor.subscribe.MirrorSubscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OpenLoopPublisherTest {
+
+    private static final int COUNT = 3;
+    private static final Duration WAIT = Duration.ofSeconds(2L);
+
+    private final AtomicInteger generated = new AtomicInteger();
+
+    @Mock
+    private MirrorSubscriber mirrorSubscriber;
+
+    @Mock
+    private PublishMetrics publishMetrics;
+
+    @Mock
+    private TransactionGenerator transactionGenerator;
+
+    @Mock
+    private TransactionPublisher transactionPublisher;
+
+    private Disposable disposable;
+    private OpenLoopPublisher openLoopPublisher;
+    private PublishProperties publishProperties;
+    private PublishScenario scenario;
+
+    @BeforeEach
+    void setup() {
+        var scenarioProperties = new PublishScenarioProperties();
+        scenarioProperties.setName("test");
+        scenarioProperties.setType(TransactionType.CRYPTO_TRANSFER);
+        scenario = new PublishScenario(scenarioProperties);
+        publishProperties = new PublishProperties();
+        publishProperties.getOpenLoop().setEnabled(true);
+        publishProperties.getOpenLoop().setLead(Duration.ofMillis(100L));
+        openLoopPublisher = new OpenLoopPublisher(
+                mirrorSubscriber, publishMetrics, publishProperties, transactionGenerator, transactionPublisher);
+
+        when(transactionGenerator.next(anyInt())).thenAnswer(invocation -> {
+            if (generated.incrementAndGet() > COUNT) {
+                Thread.sleep(10L);
+                return List.of();
+            }
+
+            return List.of(request());
+        });
+        when(transactionPublisher.prepare(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void teardown() {
+        if (disposable != null) {
+            disposable.dispose();
+        }
+    }
+
+    @Test
+    void publish() {
+        // given
+        var start = Instant.now();
+        when(transactionPublisher.publish(any())).thenAnswer(invocation -> {
+            PublishRequest request = invocation.getArgument(0);
+            return Mono.just(PublishResponse.builder()
+                    .request(request)
+                    .timestamp(Instant.now())
+                    .build());
+        });
+
+        // when
+        disposable = openLoopPublisher.publish();
+
+        // then
+        var captor = ArgumentCaptor.forClass(PublishResponse.class);
+        verify(publishMetrics, timeout(WAIT.toMillis()).times(COUNT)).onSuccess(captor.capture());
+        verify(mirrorSubscriber, times(COUNT)).onPublish(any());
+        assertThat(captor.getAllValues()).allSatisfy(response -> {
+            var scheduled = response.getRequest().getTimestamp();
+            assertThat(scheduled).isAfterOrEqualTo(start.plus(publishProperties.getOpenLoop().getLead()));
+            assertThat(response.getTimestamp()).isAfterOrEqualTo(scheduled);
+        });
+    }
+
+    @Test
+    void maxInFlight() {
+        // given
+        publishProperties.getOpenLoop().setMaxInFlight(1);
+        when(transactionPublisher.publish(any())).thenReturn(Mono.never());
+
+        // when
+        disposable = openLoopPublisher.publish();
+
+        // then
+        var captor = ArgumentCaptor.forClass(PublishException.class);
+        verify(publishMetrics, timeout(WAIT.toMillis()).times(COUNT - 1)).onError(captor.capture());
+        verify(transactionPublisher, times(1)).publish(any());
+        assertThat(captor.getAllValues()).allSatisfy(e -> assertThat(e)
+                .hasCauseInstanceOf(MaxInFlightException.class)
+                .returns(MaxInFlightException.class.getSimpleName(), PublishException::getStatus));
+        assertThat(scenario.getErrors()).containsEntry(MaxInFlightException.class.getSimpleName(), 2);
+    }
+
+    private PublishRequest request() {
+        return PublishRequest.builder()
+                .scenario(scenario)
+                .timestamp(Instant.now())
+                .transaction(new TransferTransaction())
+                .build();
+    }
+}
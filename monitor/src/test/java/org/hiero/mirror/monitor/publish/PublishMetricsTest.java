@@ -17,6 +17,7 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.lang.reflect.Constructor;
 import java.time.Instant;
@@ -84,6 +85,13 @@ class PublishMetricsTest {
                 .extracting(t -> t.mean(TimeUnit.SECONDS))
                 .asInstanceOf(InstanceOfAssertFactories.DOUBLE)
                 .isGreaterThanOrEqualTo(3.0);
+
+        assertThat(meterRegistry.find(PublishMetrics.METRIC_LATENCY).timers())
+                .singleElement()
+                .returns(PublishMetrics.SUCCESS, t -> t.getId().getTag(PublishMetrics.Tags.TAG_STATUS))
+                .returns(SCENARIO_NAME, t -> t.getId().getTag(PublishMetrics.Tags.TAG_SCENARIO))
+                .returns(null, t -> t.getId().getTag(PublishMetrics.Tags.TAG_NODE))
+                .returns(2L, Timer::count);
     }
 
     @Test
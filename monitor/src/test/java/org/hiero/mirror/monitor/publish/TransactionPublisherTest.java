@@ -128,6 +128,38 @@ class TransactionPublisherTest {
                 .verify(Duration.ofSeconds(1L));
     }
 
+    @Test
+    @Timeout(3)
+    void prepare() {
+        var request = request().build();
+        cryptoServiceStub.addTransaction(Mono.just(response(OK)));
+
+        transactionPublisher
+                .prepare(request)
+                .flatMap(transactionPublisher::publish)
+                .as(StepVerifier::create)
+                .expectNextMatches(r -> {
+                    assertThat(request.getNode()).isNotNull();
+                    assertThat(request.getTransaction().isFrozen()).isTrue();
+                    assertThat(r)
+                            .returns(request.getTransaction().getTransactionId(), PublishResponse::getTransactionId);
+                    return true;
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(1L));
+    }
+
+    @Test
+    @Timeout(3)
+    void prepareWhenDisabled() {
+        publishProperties.setEnabled(false);
+        transactionPublisher
+                .prepare(request().build())
+                .as(StepVerifier::create)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1L));
+    }
+
     @Test
     @Timeout(3)
     void publishWithLogResponse() {
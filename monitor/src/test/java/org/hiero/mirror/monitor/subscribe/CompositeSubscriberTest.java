@@ -27,17 +27,22 @@ class CompositeSubscriberTest {
     @Mock
     private MirrorSubscriber mirrorSubscriber2;
 
+    @Mock
+    private PublishTracker publishTracker;
+
     private CompositeSubscriber compositeSubscriber;
 
     @BeforeEach
     void setup() {
-        compositeSubscriber = new CompositeSubscriber(Arrays.asList(mirrorSubscriber1, mirrorSubscriber2));
+        compositeSubscriber =
+                new CompositeSubscriber(publishTracker, Arrays.asList(mirrorSubscriber1, mirrorSubscriber2));
     }
 
     @Test
     void onPublish() {
         PublishResponse publishResponse = PublishResponse.builder().build();
         compositeSubscriber.onPublish(publishResponse);
+        verify(publishTracker).onPublish(publishResponse);
         verify(mirrorSubscriber1).onPublish(publishResponse);
         verify(mirrorSubscriber2).onPublish(publishResponse);
     }
@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.monitor.subscribe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransferTransaction;
+import java.time.Instant;
+import org.hiero.mirror.monitor.publish.PublishRequest;
+import org.hiero.mirror.monitor.publish.PublishResponse;
+import org.hiero.mirror.monitor.subscribe.PublishTracker.Published;
+import org.hiero.mirror.monitor.util.Utility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PublishTrackerTest {
+
+    private final SubscribeProperties subscribeProperties = new SubscribeProperties();
+    private final byte[] message = Utility.generateMessage(64);
+    private PublishTracker publishTracker;
+
+    @BeforeEach
+    void setup() {
+        publishTracker = new PublishTracker(subscribeProperties);
+    }
+
+    @Test
+    void onPublish() {
+        // given
+        var response = response(new TopicMessageSubmitTransaction().setMessage(message));
+        var correlationId = Utility.getCorrelationId(message);
+
+        // when
+        publishTracker.onPublish(response);
+
+        // then
+        assertThat(PublishTracker.getCorrelationId(response)).isNotNull().isEqualTo(correlationId);
+        assertThat(publishTracker.get(correlationId))
+                .isEqualTo(new Published(response.getRequest().getTimestamp(), response.getTimestamp()));
+    }
+
+    @Test
+    void onPublishDisabled() {
+        // given
+        subscribeProperties.getLatency().setEnabled(false);
+        var response = response(new TopicMessageSubmitTransaction().setMessage(message));
+
+        // when
+        publishTracker.onPublish(response);
+
+        // then
+        assertThat(publishTracker.get(Utility.getCorrelationId(message))).isNull();
+    }
+
+    @Test
+    void onPublishNotTopicMessage() {
+        // given
+        var response = response(new TransferTransaction());
+
+        // when
+        publishTracker.onPublish(response);
+
+        // then
+        assertThat(PublishTracker.getCorrelationId(response)).isNull();
+        assertThat(publishTracker.get(Utility.getCorrelationId(message))).isNull();
+    }
+
+    @Test
+    void onPublishNoCorrelationId() {
+        // given
+        var fixedMessage = new TopicMessageSubmitTransaction().setMessage("fixed message");
+        var response = response(fixedMessage);
+
+        // when
+        publishTracker.onPublish(response);
+
+        // then
+        assertThat(PublishTracker.getCorrelationId(response)).isNull();
+    }
+
+    @Test
+    void getNull() {
+        assertThat(publishTracker.get(null)).isNull();
+    }
+
+    private PublishResponse response(Transaction<?> transaction) {
+        var timestamp = Instant.now();
+        var request = PublishRequest.builder()
+                .timestamp(timestamp.minusSeconds(1L))
+                .transaction(transaction)
+                .build();
+        return PublishResponse.builder().request(request).timestamp(timestamp).build();
+    }
+}
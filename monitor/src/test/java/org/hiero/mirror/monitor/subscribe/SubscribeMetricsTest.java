@@ -5,17 +5,23 @@ package org.hiero.mirror.monitor.subscribe;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hiero.mirror.monitor.subscribe.SubscribeMetrics.METRIC_DURATION;
 import static org.hiero.mirror.monitor.subscribe.SubscribeMetrics.METRIC_E2E;
+import static org.hiero.mirror.monitor.subscribe.SubscribeMetrics.METRIC_LATENCY;
 import static org.hiero.mirror.monitor.subscribe.SubscribeMetrics.TAG_PROTOCOL;
 import static org.hiero.mirror.monitor.subscribe.SubscribeMetrics.TAG_SCENARIO;
+import static org.hiero.mirror.monitor.subscribe.SubscribeMetrics.TAG_STAGE;
 import static org.hiero.mirror.monitor.subscribe.SubscribeMetrics.TAG_SUBSCRIBER;
 
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 import org.hiero.mirror.monitor.ScenarioStatus;
+import org.hiero.mirror.monitor.publish.PublishRequest;
+import org.hiero.mirror.monitor.publish.PublishResponse;
 import org.hiero.mirror.monitor.subscribe.grpc.GrpcSubscriberProperties;
+import org.hiero.mirror.monitor.util.Utility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +32,7 @@ import org.springframework.boot.test.system.OutputCaptureExtension;
 class SubscribeMetricsTest {
 
     private MeterRegistry meterRegistry;
+    private PublishTracker publishTracker;
     private SubscribeProperties subscribeProperties;
     private SubscribeMetrics subscribeMetrics;
     private AbstractSubscriberProperties properties;
@@ -36,7 +43,8 @@ class SubscribeMetricsTest {
         properties.setName("Test");
         meterRegistry = new SimpleMeterRegistry();
         subscribeProperties = new SubscribeProperties();
-        subscribeMetrics = new SubscribeMetrics(meterRegistry, subscribeProperties);
+        publishTracker = new PublishTracker(subscribeProperties);
+        subscribeMetrics = new SubscribeMetrics(meterRegistry, publishTracker, subscribeProperties);
     }
 
     @Test
@@ -87,6 +95,79 @@ class SubscribeMetricsTest {
                 .returns(String.valueOf(subscription.getId()), t -> t.getId().getTag(TAG_SUBSCRIBER));
     }
 
+    @Test
+    void recordStages() {
+        // given
+        var subscription = new TestScenario();
+        var response = response(subscription);
+
+        // when
+        subscribeMetrics.onNext(response);
+
+        // then
+        assertThat(stageTimer(subscription, "submit")).isNull();
+        assertThat(stageTimer(subscription, "consensus"))
+                .returns(1L, Timer::count)
+                .returns(1.0, t -> t.max(TimeUnit.SECONDS));
+        assertThat(stageTimer(subscription, "delivery"))
+                .returns(1L, Timer::count)
+                .returns(1.0, t -> t.max(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void recordStagesPublished() {
+        // given
+        var subscription = new TestScenario();
+        var requestTimestamp = Instant.now().minusSeconds(10L);
+        var message = Utility.generateMessage(64);
+        var transaction = new TopicMessageSubmitTransaction().setMessage(message);
+        var request = PublishRequest.builder()
+                .timestamp(requestTimestamp)
+                .transaction(transaction)
+                .build();
+        publishTracker.onPublish(PublishResponse.builder()
+                .request(request)
+                .timestamp(requestTimestamp.plusSeconds(2L))
+                .build());
+        var response = response(subscription, Utility.getCorrelationId(message));
+
+        // when
+        subscribeMetrics.onNext(response);
+
+        // then
+        assertThat(stageTimer(subscription, "submit"))
+                .returns(1L, Timer::count)
+                .returns(2.0, t -> t.max(TimeUnit.SECONDS))
+                .returns(subscription.getProtocol().toString(), t -> t.getId().getTag(TAG_PROTOCOL))
+                .returns(subscription.getName(), t -> t.getId().getTag(TAG_SCENARIO))
+                .returns(String.valueOf(subscription.getId()), t -> t.getId().getTag(TAG_SUBSCRIBER));
+        assertThat(stageTimer(subscription, "consensus"))
+                .returns(1L, Timer::count)
+                .returns(6.0, t -> t.max(TimeUnit.SECONDS));
+        assertThat(stageTimer(subscription, "delivery"))
+                .returns(1L, Timer::count)
+                .returns(1.0, t -> t.max(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void recordStagesOutOfOrder() {
+        // given
+        var subscription = new TestScenario();
+        var response = SubscribeResponse.builder()
+                .consensusTimestamp(Instant.now().plusSeconds(60L))
+                .publishedTimestamp(Instant.now().minusSeconds(1L))
+                .receivedTimestamp(Instant.now())
+                .scenario(subscription)
+                .build();
+
+        // when
+        subscribeMetrics.onNext(response);
+
+        // then
+        assertThat(stageTimer(subscription, "consensus")).returns(1L, Timer::count);
+        assertThat(stageTimer(subscription, "delivery")).isNull();
+    }
+
     @Test
     void status(CapturedOutput logOutput) {
         TestScenario testSubscription1 = new TestScenario();
@@ -125,9 +206,22 @@ class SubscribeMetricsTest {
         assertThat(logOutput).asString().hasLineCount(1).contains("No subscribers");
     }
 
+    private Timer stageTimer(Scenario<?, ?> scenario, String stage) {
+        return meterRegistry
+                .find(METRIC_LATENCY)
+                .tag(TAG_SCENARIO, scenario.getName())
+                .tag(TAG_STAGE, stage)
+                .timer();
+    }
+
     private SubscribeResponse response(Scenario<?, ?> scenario) {
+        return response(scenario, null);
+    }
+
+    private SubscribeResponse response(Scenario<?, ?> scenario, String correlationId) {
         Instant timestamp = Instant.now().minusSeconds(5L);
         return SubscribeResponse.builder()
+                .correlationId(correlationId)
                 .publishedTimestamp(timestamp)
                 .consensusTimestamp(timestamp.plusSeconds(scenario.getCount()))
                 .receivedTimestamp(timestamp.plusSeconds(2L * scenario.getCount()))
@@ -13,6 +13,32 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 class UtilityTest {
 
+    @Test
+    void getCorrelationId() {
+        byte[] message = Utility.generateMessage(50);
+        String contents = new String(message, StandardCharsets.US_ASCII);
+        assertThat(Utility.getCorrelationId(message))
+                .hasSize(Utility.CORRELATION_ID_LENGTH)
+                .isEqualTo(contents.substring(contents.indexOf(' ') + 1, contents.indexOf(' ') + 9));
+    }
+
+    @Test
+    void getCorrelationIdTooShort() {
+        assertThat(Utility.getCorrelationId(Utility.generateMessage(16))).isNull();
+    }
+
+    @DisplayName("Parse correlation ID from bytes")
+    @ParameterizedTest(name = "with {0}")
+    @ValueSource(strings = {"", "1 abcdefgh", "foo abcdefgh", "abcdefgh"})
+    void getCorrelationIdInvalid(String input) {
+        assertThat(Utility.getCorrelationId(input.getBytes(StandardCharsets.US_ASCII))).isNull();
+    }
+
+    @Test
+    void getCorrelationIdNull() {
+        assertThat(Utility.getCorrelationId(null)).isNull();
+    }
+
     @Test
     void getMemo() {
         assertThat(Utility.getMemo("foo")).isNotBlank().matches("^\\d+ foo$");
@@ -4,7 +4,9 @@ package org.hiero.mirror.restjava;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -12,6 +14,7 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -46,11 +49,32 @@ public class RestJavaProperties {
     @Data
     @Validated
     public static class ResponseConfig {
+        @NotNull
+        @Valid
+        private ResponseCacheConfig cache = new ResponseCacheConfig();
+
         @NotNull
         @Valid
         private ResponseHeadersConfig headers = new ResponseHeadersConfig();
     }
 
+    @Data
+    @Validated
+    public static class ResponseCacheConfig {
+        /*
+         * How long the latest record file consensus end is reused before querying it again. Cached responses are only
+         * served while it's unchanged, so this bounds how stale a response can be after a new record file is imported.
+         */
+        @DurationMin(millis = 100)
+        @NotNull
+        private Duration consensusRefresh = Duration.ofMillis(500);
+
+        private boolean enabled = true;
+
+        @NotBlank
+        private String spec = "expireAfterWrite=1m,maximumSize=1000,recordStats";
+    }
+
     @Data
     @Validated
     public static class ResponseHeadersConfig {
@@ -19,11 +19,13 @@ import java.io.IOException;
 import lombok.CustomLog;
 import org.apache.catalina.connector.ResponseFacade;
 import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.core.annotation.Order;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.WebUtils;
 
 @CustomLog
 @Named
+@Order(RestJavaConfiguration.ORDER_OBSERVABILITY)
 class MetricsFilter extends OncePerRequestFilter {
 
     static final String REQUEST_BYTES = "hiero.mirror.restjava.request.bytes";
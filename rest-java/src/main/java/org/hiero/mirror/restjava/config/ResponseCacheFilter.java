@@ -0,0 +1,185 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.restjava.config;
+
+import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.VARY;
+import static org.springframework.web.servlet.HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Suppliers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+import org.hiero.mirror.restjava.RestJavaProperties.ResponseCacheConfig;
+import org.hiero.mirror.restjava.repository.RecordFileRepository;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Caches successful GET responses in memory until the next record file is imported. Every table the API reads from is
+ * populated by the importer a record file at a time, so a response can't change while the latest record file's
+ * consensus end stays the same. Conditional requests for a cached response are answered with 304 Not Modified, and no
+ * request that's served from the cache touches the database other than for the periodic consensus end lookup. A
+ * response is only served to requests with the same values for the request headers its {@code Vary} header lists, and
+ * a response that varies on every header isn't cached.
+ */
+class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String CACHE_NAME = "response";
+    private static final String VARY_ALL = "*";
+
+    private final Cache<String, CachedResponse> cache;
+    private final Supplier<Optional<Long>> consensusEnd;
+
+    ResponseCacheFilter(
+            ResponseCacheConfig properties, MeterRegistry meterRegistry, RecordFileRepository recordFileRepository) {
+        this.cache = Caffeine.from(properties.getSpec()).build();
+        this.consensusEnd = Suppliers.memoizeWithExpiration(
+                recordFileRepository::findLatestConsensusEnd, properties.getConsensusRefresh());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Read before executing the request so a response that raced with the importer is tagged with the older value
+        var latest = consensusEnd.get();
+        if (latest.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long current = latest.get();
+        var key = getKey(request);
+        var cached = cache.getIfPresent(key);
+
+        if (cached != null && cached.consensusEnd() == current && cached.matches(request)) {
+            write(cached, request, response);
+            return;
+        }
+
+        var wrapper = new ContentCachingResponseWrapper(response);
+
+        try {
+            filterChain.doFilter(request, wrapper);
+
+            if (wrapper.getStatus() == HttpStatus.OK.value()) {
+                var cachedResponse = toCachedResponse(current, request, wrapper);
+                if (cachedResponse != null) {
+                    cache.put(key, cachedResponse);
+                }
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /*
+     * Normalizes the query parameters so requests that only differ in the order of distinct parameters share an entry.
+     * The order of a repeated parameter's values is kept as is.
+     */
+    private String getKey(HttpServletRequest request) {
+        var key = new StringJoiner("&", request.getRequestURI() + "?", "");
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            for (var value : values) {
+                key.add(name + "=" + value);
+            }
+        });
+        return key.toString();
+    }
+
+    private @Nullable CachedResponse toCachedResponse(
+            long consensusEnd, HttpServletRequest request, ContentCachingResponseWrapper response) {
+        var varied = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+        for (var vary : response.getHeaders(VARY)) {
+            for (var name : StringUtils.split(vary, ", ")) {
+                if (VARY_ALL.equals(name)) {
+                    return null;
+                }
+
+                varied.put(name, request.getHeader(name));
+            }
+        }
+
+        var headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+        for (var name : response.getHeaderNames()) {
+            if (!CONTENT_LENGTH.equalsIgnoreCase(name) && !CONTENT_TYPE.equalsIgnoreCase(name)) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+
+        return new CachedResponse(
+                consensusEnd,
+                response.getContentType(),
+                response.getContentAsByteArray(),
+                response.getHeader(ETAG),
+                headers,
+                request.getAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE),
+                varied);
+    }
+
+    private void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        // Lets the metrics filter tag a cached response with the same pattern as the original
+        if (cached.pattern() != null) {
+            request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, cached.pattern());
+        }
+
+        cached.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+
+        if (cached.etag() != null && new ServletWebRequest(request, response).checkNotModified(cached.etag())) {
+            return;
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.contentType());
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private record CachedResponse(
+            long consensusEnd,
+            String contentType,
+            byte[] body,
+            String etag,
+            Map<String, List<String>> headers,
+            @Nullable Object pattern,
+            Map<String, String> varied) {
+
+        private boolean matches(HttpServletRequest request) {
+            for (var entry : varied.entrySet()) {
+                if (!Objects.equals(entry.getValue(), request.getHeader(entry.getKey()))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -2,18 +2,26 @@
 
 package org.hiero.mirror.restjava.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.restjava.RestJavaProperties;
 import org.hiero.mirror.restjava.jooq.DomainRecordMapperProvider;
+import org.hiero.mirror.restjava.repository.RecordFileRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jooq.DefaultConfigurationCustomizer;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 @Configuration
 @RequiredArgsConstructor
 class RestJavaConfiguration {
 
+    // Logging and metrics wrap the response cache so cached responses are still logged and measured
+    static final int ORDER_OBSERVABILITY = Ordered.LOWEST_PRECEDENCE - 2;
+
     @Bean
     DefaultConfigurationCustomizer configurationCustomizer(DomainRecordMapperProvider domainRecordMapperProvider) {
         return c -> c.set(domainRecordMapperProvider).settings().withRenderSchema(false);
@@ -23,6 +31,23 @@ class RestJavaConfiguration {
     FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter() {
         final var filterRegistrationBean = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
         filterRegistrationBean.addUrlPatterns("/api/*");
+        filterRegistrationBean.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return filterRegistrationBean;
+    }
+
+    // Runs after logging and metrics but before the ETag filter so cached responses skip hashing the body again
+    @Bean
+    @ConditionalOnProperty(
+            name = "hiero.mirror.rest-java.response.cache.enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            MeterRegistry meterRegistry, RestJavaProperties properties, RecordFileRepository recordFileRepository) {
+        final var filter =
+                new ResponseCacheFilter(properties.getResponse().getCache(), meterRegistry, recordFileRepository);
+        final var filterRegistrationBean = new FilterRegistrationBean<>(filter);
+        filterRegistrationBean.addUrlPatterns("/api/*");
+        filterRegistrationBean.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
         return filterRegistrationBean;
     }
 }
@@ -0,0 +1,14 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.restjava.repository;
+
+import java.util.Optional;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+public interface RecordFileRepository extends CrudRepository<RecordFile, Long> {
+
+    @Query(value = "select max(consensus_end) from record_file", nativeQuery = true)
+    Optional<Long> findLatestConsensusEnd();
+}
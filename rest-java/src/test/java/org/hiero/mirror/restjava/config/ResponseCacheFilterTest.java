@@ -0,0 +1,246 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.restjava.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.ORIGIN;
+import static org.springframework.http.HttpHeaders.VARY;
+import static org.springframework.web.servlet.HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.hiero.mirror.restjava.RestJavaProperties.ResponseCacheConfig;
+import org.hiero.mirror.restjava.repository.RecordFileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseCacheFilterTest {
+
+    private static final String PATH = "/api/v1/network/supply";
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final ResponseCacheConfig properties = new ResponseCacheConfig();
+
+    @Mock
+    private RecordFileRepository recordFileRepository;
+
+    private ResponseCacheFilter responseCacheFilter;
+    private int status = HttpStatus.OK.value();
+    private String vary;
+
+    @BeforeEach
+    void setup() {
+        properties.setConsensusRefresh(Duration.ofMillis(100));
+        responseCacheFilter = new ResponseCacheFilter(properties, new SimpleMeterRegistry(), recordFileRepository);
+    }
+
+    @Test
+    void cached() {
+        // given
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L));
+        var first = execute(request("a=1", "b=2"));
+
+        // when
+        var second = execute(request("b=2", "a=1"));
+
+        // then
+        assertThat(invocations).hasValue(1);
+        assertThat(second.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(second.getContentType()).isEqualTo(first.getContentType());
+        assertThat(second.getHeader(CACHE_CONTROL)).isEqualTo("public, max-age=60");
+        assertThat(second.getHeader(ETAG)).isNotBlank().isEqualTo(first.getHeader(ETAG));
+    }
+
+    @Test
+    void notModified() {
+        // given
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L));
+        var first = execute(request());
+        var request = request();
+        request.addHeader(IF_NONE_MATCH, first.getHeader(ETAG));
+
+        // when
+        var second = execute(request);
+
+        // then
+        assertThat(invocations).hasValue(1);
+        assertThat(second.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(second.getContentAsByteArray()).isEmpty();
+        assertThat(second.getHeader(ETAG)).isEqualTo(first.getHeader(ETAG));
+    }
+
+    @Test
+    @SneakyThrows
+    void newRecordFile() {
+        // given
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L), Optional.of(2L));
+        execute(request());
+        Thread.sleep(properties.getConsensusRefresh().multipliedBy(2));
+
+        // when
+        var response = execute(request());
+
+        // then
+        assertThat(invocations).hasValue(2);
+        assertThat(response.getContentAsString()).isEqualTo("2");
+    }
+
+    @Test
+    void differentParameters() {
+        // given
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L));
+        execute(request("a=1"));
+
+        // when
+        execute(request("a=2"));
+
+        // then
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void pattern() {
+        // given
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L));
+        execute(request());
+        var request = request();
+
+        // when
+        execute(request);
+
+        // then
+        assertThat(invocations).hasValue(1);
+        assertThat(request.getAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE)).isEqualTo(PATH);
+    }
+
+    @Test
+    void vary() {
+        // given
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L));
+        vary = "Accept, Origin";
+        var first = request();
+        first.addHeader(ORIGIN, "http://a.com");
+        execute(first);
+        var same = request();
+        same.addHeader(ORIGIN, "http://a.com");
+        var other = request();
+        other.addHeader(ORIGIN, "http://b.com");
+
+        // when
+        execute(same);
+        var response = execute(other);
+
+        // then
+        assertThat(invocations).hasValue(2);
+        assertThat(response.getContentAsString()).isEqualTo("2");
+    }
+
+    @Test
+    void varyAll() {
+        // given
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L));
+        vary = "*";
+        execute(request());
+
+        // when
+        execute(request());
+
+        // then
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void notSuccessful() {
+        // given
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L));
+        status = HttpStatus.BAD_REQUEST.value();
+        execute(request());
+
+        // when
+        var response = execute(request());
+
+        // then
+        assertThat(invocations).hasValue(2);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void noRecordFile() {
+        // given
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.empty());
+        execute(request());
+
+        // when
+        var response = execute(request());
+
+        // then
+        assertThat(invocations).hasValue(2);
+        assertThat(response.getContentAsByteArray()).isNotEmpty();
+    }
+
+    @Test
+    void notGet() {
+        // given
+        var request = request();
+        request.setMethod("POST");
+        execute(request);
+
+        // when
+        execute(request);
+
+        // then
+        assertThat(invocations).hasValue(2);
+    }
+
+    private MockHttpServletRequest request(String... parameters) {
+        var request = new MockHttpServletRequest("GET", PATH);
+        for (var parameter : parameters) {
+            var nameValue = parameter.split("=");
+            request.addParameter(nameValue[0], nameValue[1]);
+        }
+        return request;
+    }
+
+    @SneakyThrows
+    private MockHttpServletResponse execute(MockHttpServletRequest request) {
+        var response = new MockHttpServletResponse();
+        var servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                int invocation = invocations.incrementAndGet();
+                resp.setStatus(status);
+                resp.setContentType("application/json");
+                resp.setHeader(CACHE_CONTROL, "public, max-age=60");
+                if (vary != null) {
+                    resp.setHeader(VARY, vary);
+                }
+                req.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, PATH);
+                resp.getWriter().write(String.valueOf(invocation));
+            }
+        };
+        var chain = new MockFilterChain(servlet, new ShallowEtagHeaderFilter());
+        responseCacheFilter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,138 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.restjava.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient.RequestHeadersSpec;
+import org.springframework.web.client.RestClient.RequestHeadersUriSpec;
+
+@RequiredArgsConstructor
+// Keeps the consensus end from being refreshed between the requests of a test, since every test has new record files
+@TestPropertySource(
+        properties = {
+            "hiero.mirror.restJava.response.cache.consensusRefresh=1h",
+            "hiero.mirror.restJava.response.cache.enabled=true"
+        })
+class ResponseCacheControllerTest extends ControllerTest {
+
+    private static final String RESPONSE_BYTES = "hiero.mirror.restjava.response.bytes";
+
+    private final JdbcOperations jdbcOperations;
+
+    @DisplayName("/api/v1/topics/{id} with the response cache")
+    @Nested
+    class TopicIdEndpointTest extends EndpointTest {
+
+        @Override
+        protected String getUrl() {
+            return "topics/{id}";
+        }
+
+        @Override
+        protected RequestHeadersSpec<?> defaultRequest(RequestHeadersUriSpec<?> uriSpec) {
+            return uriSpec.uri("", persistTopic(domainBuilder.entityId()));
+        }
+
+        @BeforeEach
+        void recordFile() {
+            domainBuilder.recordFile().persist();
+        }
+
+        @Test
+        void cached() {
+            // given
+            var id = persistTopic(domainBuilder.entityId());
+            var expected = restClient.get().uri("", id).retrieve().toEntity(String.class);
+            deleteTopics();
+
+            // when
+            var actual = restClient.get().uri("", id).retrieve().toEntity(String.class);
+
+            // then
+            assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(actual.getBody()).isNotBlank().isEqualTo(expected.getBody());
+            assertThat(actual.getHeaders().getETag()).isEqualTo(expected.getHeaders().getETag());
+            assertThat(meterRegistry
+                            .find(RESPONSE_BYTES)
+                            .tag("uri", "/api/v1/topics/{id}")
+                            .summary())
+                    .isNotNull()
+                    .returns(2L, s -> s.count());
+        }
+
+        @Test
+        void notModified() {
+            // given
+            var id = persistTopic(domainBuilder.entityId());
+            var etag = restClient.get().uri("", id).retrieve().toBodilessEntity().getHeaders().getETag();
+            deleteTopics();
+
+            // when
+            var actual = restClient
+                    .get()
+                    .uri("", id)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag)
+                    .retrieve()
+                    .toBodilessEntity();
+
+            // then
+            assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(actual.getHeaders().getETag()).isEqualTo(etag);
+        }
+
+        @Test
+        void notFoundNotCached() {
+            // given
+            var entityId = domainBuilder.entityId();
+            var id = entityId.toString();
+            assertThatThrownBy(() -> restClient.get().uri("", id).retrieve().toBodilessEntity())
+                    .isInstanceOf(HttpClientErrorException.NotFound.class);
+            persistTopic(entityId);
+
+            // when
+            var actual = restClient.get().uri("", id).retrieve().toEntity(String.class);
+
+            // then
+            assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(actual.getBody()).contains(id);
+        }
+
+        private void deleteTopics() {
+            jdbcOperations.execute("truncate custom_fee, entity, topic");
+        }
+
+        private String persistTopic(EntityId entityId) {
+            var entity = domainBuilder
+                    .topicEntity()
+                    .customize(e -> e.id(entityId.getId()))
+                    .persist();
+            domainBuilder
+                    .customFee()
+                    .customize(c -> c.entityId(entity.getId())
+                            .fractionalFees(null)
+                            .royaltyFees(null)
+                            .timestampRange(entity.getTimestampRange()))
+                    .persist();
+            domainBuilder
+                    .topic()
+                    .customize(t -> t.createdTimestamp(entity.getCreatedTimestamp())
+                            .id(entity.getId())
+                            .timestampRange(entity.getTimestampRange()))
+                    .persist();
+            return entityId.toString();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.restjava.repository;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.restjava.RestJavaIntegrationTest;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+final class RecordFileRepositoryTest extends RestJavaIntegrationTest {
+
+    private final RecordFileRepository recordFileRepository;
+
+    @Test
+    void findLatestConsensusEnd() {
+        // given
+        domainBuilder.recordFile().persist();
+        final var latest = domainBuilder.recordFile().persist();
+
+        // when
+        final var result = recordFileRepository.findLatestConsensusEnd();
+
+        // then
+        assertThat(result).get().isEqualTo(latest.getConsensusEnd());
+    }
+
+    @Test
+    void findLatestConsensusEndEmpty() {
+        assertThat(recordFileRepository.findLatestConsensusEnd()).isEmpty();
+    }
+}
@@ -4,6 +4,8 @@ plugins { id("com.gradle.develocity") version ("3.17") }
 
 rootProject.name = "hiero-mirror-node"
 
+include(":benchmark")
+
 include(":common")
 
 include(":graphql")
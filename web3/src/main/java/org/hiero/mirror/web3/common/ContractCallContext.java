@@ -17,6 +17,7 @@ import org.hiero.mirror.common.domain.contract.ContractAction;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.Opcode;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
+import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeWriter;
 import org.hiero.mirror.web3.evm.store.CachingStateFrame;
 import org.hiero.mirror.web3.evm.store.StackedStateFrames;
 import org.hiero.mirror.web3.service.model.CallServiceParameters;
@@ -47,6 +48,12 @@ public class ContractCallContext {
     @Setter
     private List<Opcode> opcodes = new ArrayList<>();
 
+    /**
+     * Writes each opcode to the response as it's traced instead of adding it to the opcodes, if set.
+     */
+    @Setter
+    private OpcodeWriter opcodeWriter;
+
     @Setter
     private CallServiceParameters callServiceParameters;
 
@@ -98,6 +105,21 @@ public class ContractCallContext {
         return ScopedValue.getWhere(SCOPED_VALUE, new ContractCallContext(), () -> function.apply(SCOPED_VALUE.get()));
     }
 
+    /**
+     * Runs the function in a new context for the same block as this one. It executes against this context's record file
+     * and starts with a copy of everything this context has read so far, so that concurrent executions neither share a
+     * read cache nor repeat the reads this context already made. State that wasn't read yet is read the same way as in
+     * this context, so the latest block still reads the current state instead of reconstructing it historically.
+     */
+    public <T> T runSnapshot(final Function<ContractCallContext, T> function) {
+        final var snapshot = new ContractCallContext();
+        snapshot.callServiceParameters = callServiceParameters;
+        snapshot.recordFile = recordFile;
+        snapshot.timestamp = getTimestampOrDefaultFromRecordFile();
+        readCache.forEach((stateId, state) -> snapshot.readCache.put(stateId, new HashMap<>(state)));
+        return ScopedValue.getWhere(SCOPED_VALUE, snapshot, () -> function.apply(snapshot));
+    }
+
     public void reset() {
         stack = stackBase;
         writeCache.clear();
@@ -17,12 +17,15 @@ import org.hiero.mirror.web3.exception.ThrottleException;
 import org.hiero.mirror.web3.service.OpcodeService;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @CustomLog
 @RestController
@@ -71,4 +74,33 @@ class OpcodesController {
         final var options = new OpcodeTracerOptions(stack, memory, storage, true);
         return opcodeService.processOpcodeCall(transactionIdOrHash, options);
     }
+
+    /**
+     * Returns the same result as {@link #getContractOpcodes}, but writes each opcode to the response as it's executed
+     * instead of holding the entire trace in memory until the replay completes. Since the response is committed before
+     * the replay completes, an error during the replay leaves the JSON incomplete instead of returning an error status.
+     *
+     * @param transactionIdOrHash The transaction ID or hash
+     * @param stack               Include stack information
+     * @param memory              Include memory information
+     * @param storage             Include storage information
+     * @return {@link StreamingResponseBody} writing the result of the transaction execution
+     */
+    @GetMapping(value = "/{transactionIdOrHash}/opcodes", params = "stream=true")
+    ResponseEntity<StreamingResponseBody> streamContractOpcodes(
+            @PathVariable TransactionIdOrHashParameter transactionIdOrHash,
+            @RequestParam(required = false, defaultValue = "true") boolean stack,
+            @RequestParam(required = false, defaultValue = "false") boolean memory,
+            @RequestParam(required = false, defaultValue = "false") boolean storage) {
+        if (!rateLimitBucket.tryConsume(1)) {
+            throw new ThrottleException("Requests per second rate limit exceeded.");
+        }
+
+        final var options = new OpcodeTracerOptions(stack, memory, storage, true);
+        final var body = opcodeService.streamOpcodeCall(transactionIdOrHash, options);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(MODULARIZED_HEADER, String.valueOf(true))
+                .body(body);
+    }
 }
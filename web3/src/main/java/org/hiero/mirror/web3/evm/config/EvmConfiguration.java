@@ -48,6 +48,7 @@ import org.hiero.mirror.web3.evm.contracts.operations.HederaCustomCallOperation;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hiero.mirror.web3.evm.store.contract.EntityAddressSequencer;
 import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.hiero.mirror.web3.service.VersionedCaffeineCache;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.evm.EVM;
 import org.hyperledger.besu.evm.EvmSpecVersion;
@@ -79,6 +80,7 @@ public class EvmConfiguration {
     public static final String CACHE_MANAGER_CONTRACT_SLOTS = "contractSlots";
     public static final String CACHE_MANAGER_CONTRACT_STATE = "contractState";
     public static final String CACHE_MANAGER_ENTITY = "entity";
+    public static final String CACHE_MANAGER_HISTORICAL = "historical";
     public static final String CACHE_MANAGER_RECORD_FILE_LATEST = "recordFileLatest";
     public static final String CACHE_MANAGER_RECORD_FILE_EARLIEST = "recordFileEarliest";
     public static final String CACHE_MANAGER_RECORD_FILE_INDEX = "recordFileIndex";
@@ -90,7 +92,9 @@ public class EvmConfiguration {
     public static final String CACHE_MANAGER_TOKEN = "token";
     public static final String CACHE_MANAGER_TOKEN_TYPE = "tokenType";
     public static final String CACHE_NAME = "default";
+    public static final String CACHE_NAME_ACCOUNT_BALANCE = "accountBalance";
     public static final String CACHE_NAME_CONTRACT = "contract";
+    public static final String CACHE_NAME_CONTRACT_STATE = "contractState";
     public static final String CACHE_NAME_EVM_ADDRESS = "evmAddress";
     public static final String CACHE_NAME_ALIAS = "alias";
     public static final String CACHE_NAME_EXCHANGE_RATE = "exchangeRate";
@@ -142,7 +146,7 @@ public class EvmConfiguration {
 
     @Bean(CACHE_MANAGER_CONTRACT_STATE)
     CacheManager cacheManagerContractState() {
-        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        final CaffeineCacheManager caffeineCacheManager = VersionedCaffeineCache.cacheManager();
         caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
         caffeineCacheManager.setCacheSpecification(cacheProperties.getContractState());
         return caffeineCacheManager;
@@ -150,7 +154,7 @@ public class EvmConfiguration {
 
     @Bean(CACHE_MANAGER_SYSTEM_ACCOUNT)
     CacheManager cacheManagerSystemAccount() {
-        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        final CaffeineCacheManager caffeineCacheManager = VersionedCaffeineCache.cacheManager();
         caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
         caffeineCacheManager.setCacheSpecification(cacheProperties.getSystemAccount());
         return caffeineCacheManager;
@@ -158,12 +162,20 @@ public class EvmConfiguration {
 
     @Bean(CACHE_MANAGER_ENTITY)
     CacheManager cacheManagerEntity() {
-        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        final CaffeineCacheManager caffeineCacheManager = VersionedCaffeineCache.cacheManager();
         caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME, CACHE_NAME_EVM_ADDRESS, CACHE_NAME_ALIAS));
         caffeineCacheManager.setCacheSpecification(cacheProperties.getEntity());
         return caffeineCacheManager;
     }
 
+    @Bean(CACHE_MANAGER_HISTORICAL)
+    CacheManager cacheManagerHistorical() {
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME_ACCOUNT_BALANCE, CACHE_NAME_CONTRACT_STATE));
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getHistorical());
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_SLOTS_PER_CONTRACT)
     CaffeineCacheManager cacheManagerSlotsPerContract() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -173,7 +185,7 @@ public class EvmConfiguration {
 
     @Bean(CACHE_MANAGER_TOKEN)
     CacheManager cacheManagerToken() {
-        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        final CaffeineCacheManager caffeineCacheManager = VersionedCaffeineCache.cacheManager();
         caffeineCacheManager.setCacheNames(Set.of(
                 CACHE_NAME_NFT,
                 CACHE_NAME_NFT_ALLOWANCE,
@@ -35,6 +35,12 @@ public class OpcodeActionTracer extends AbstractOpcodeTracer implements Operatio
         final var context = ContractCallContext.get();
 
         final var options = context.getOpcodeTracerOptions();
+        final var writer = context.getOpcodeWriter();
+        if (writer != null) {
+            writer.write(frame, operationResult.getGasCost(), options, captureStorage(frame, options));
+            return;
+        }
+
         final var memory = captureMemory(frame, options);
         final var stack = captureStack(frame, options);
         final var storage = captureStorage(frame, options);
@@ -60,20 +66,26 @@ public class OpcodeActionTracer extends AbstractOpcodeTracer implements Operatio
         final var revertReason = isCallToSystemContracts(frame, systemContracts)
                 ? getRevertReasonFromContractActions(context)
                 : frame.getRevertReason();
+        final var op =
+                frame.getCurrentOperation() != null ? frame.getCurrentOperation().getName() : StringUtils.EMPTY;
+        final var gasCost = output != null && !output.isEmpty() ? gasRequirement : 0L;
+        final var reason = revertReason.map(Bytes::toHexString).orElse(null);
+        final var writer = context.getOpcodeWriter();
+        if (writer != null) {
+            writer.writePrecompile(frame, op, gasCost, reason);
+            return;
+        }
 
         final var opcode = Opcode.builder()
                 .pc(frame.getPC())
-                .op(
-                        frame.getCurrentOperation() != null
-                                ? frame.getCurrentOperation().getName()
-                                : StringUtils.EMPTY)
+                .op(op)
                 .gas(frame.getRemainingGas())
-                .gasCost(output != null && !output.isEmpty() ? gasRequirement : 0L)
+                .gasCost(gasCost)
                 .depth(frame.getDepth())
                 .stack(Collections.emptyList())
                 .memory(Collections.emptyList())
                 .storage(Collections.emptyMap())
-                .reason(revertReason.map(Bytes::toHexString).orElse(null))
+                .reason(reason)
                 .build();
         context.addOpcodes(opcode);
     }
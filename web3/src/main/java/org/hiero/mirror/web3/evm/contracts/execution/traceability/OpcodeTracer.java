@@ -41,6 +41,12 @@ public class OpcodeTracer extends AbstractOpcodeTracer implements HederaOperatio
         final ContractCallContext context = ContractCallContext.get();
 
         final OpcodeTracerOptions options = context.getOpcodeTracerOptions();
+        final OpcodeWriter writer = context.getOpcodeWriter();
+        if (writer != null) {
+            writer.write(frame, operationResult.getGasCost(), options, getUpdatedStorage(frame, options));
+            return;
+        }
+
         final List<Bytes> memory = captureMemory(frame, options);
         final List<Bytes> stack = captureStack(frame, options);
         final Map<Bytes, Bytes> storage = captureStorage(frame, options);
@@ -65,25 +71,40 @@ public class OpcodeTracer extends AbstractOpcodeTracer implements HederaOperatio
         final Optional<Bytes> revertReason = isCallToHederaPrecompile(frame, hederaPrecompiles)
                 ? getRevertReasonFromContractActions(context)
                 : frame.getRevertReason();
+        final String op =
+                frame.getCurrentOperation() != null ? frame.getCurrentOperation().getName() : StringUtils.EMPTY;
+        final long gasCost = output != null ? gasRequirement : 0L;
+        final String reason = revertReason.map(Bytes::toHexString).orElse(null);
+        final OpcodeWriter writer = context.getOpcodeWriter();
+        if (writer != null) {
+            writer.writePrecompile(frame, op, gasCost, reason);
+            return;
+        }
+
         final Opcode opcode = Opcode.builder()
                 .pc(frame.getPC())
-                .op(
-                        frame.getCurrentOperation() != null
-                                ? frame.getCurrentOperation().getName()
-                                : StringUtils.EMPTY)
+                .op(op)
                 .gas(frame.getRemainingGas())
-                .gasCost(output != null ? gasRequirement : 0L)
+                .gasCost(gasCost)
                 .depth(frame.getDepth())
                 .stack(Collections.emptyList())
                 .memory(Collections.emptyList())
                 .storage(Collections.emptyMap())
-                .reason(revertReason.map(Bytes::toHexString).orElse(null))
+                .reason(reason)
                 .build();
 
         context.addOpcodes(opcode);
     }
 
     private Map<Bytes, Bytes> captureStorage(final MessageFrame frame, OpcodeTracerOptions options) {
+        return new TreeMap<>(getUpdatedStorage(frame, options));
+    }
+
+    /**
+     * Returns the live updated storage of the current contract, which must be copied if it's kept past the opcode.
+     */
+    private Map<? extends Bytes, ? extends Bytes> getUpdatedStorage(
+            final MessageFrame frame, OpcodeTracerOptions options) {
         if (!options.isStorage()) {
             return Collections.emptyMap();
         }
@@ -97,7 +118,7 @@ public class OpcodeTracer extends AbstractOpcodeTracer implements HederaOperatio
                 return Collections.emptyMap();
             }
 
-            return new TreeMap<>(account.getUpdatedStorage());
+            return account.getUpdatedStorage();
         } catch (final ModificationNotAllowedException e) {
             log.warn("Failed to retrieve storage contents", e);
             return Collections.emptyMap();
@@ -0,0 +1,144 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.evm.contracts.execution.traceability;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Writes each traced opcode as a JSON object straight to the response as it executes, instead of collecting the whole
+ * trace as {@link Opcode} objects before it's serialized. The stack, memory and storage are read from the frame and hex
+ * encoded into a reusable buffer, so the heap used by a replay doesn't grow with the length of its trace.
+ */
+public final class OpcodeWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int WORD_SIZE = 32;
+
+    private final JsonGenerator generator;
+    private char[] buffer = new char[2 + 2 * WORD_SIZE];
+
+    public OpcodeWriter(final JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Writes the opcode that was just executed by the frame.
+     *
+     * @param frame    the frame that executed the opcode
+     * @param gasCost  the cost of the opcode
+     * @param options  which of the stack, memory and storage to include
+     * @param storage  the storage of the current contract, which is only read and not copied
+     */
+    @SneakyThrows(IOException.class)
+    public void write(
+            final MessageFrame frame,
+            final long gasCost,
+            final OpcodeTracerOptions options,
+            final Map<? extends Bytes, ? extends Bytes> storage) {
+        writeStart(frame, frame.getCurrentOperation().getName(), gasCost);
+
+        generator.writeArrayFieldStart("stack");
+        if (options.isStack()) {
+            final int size = frame.stackSize();
+            for (int i = 0; i < size; i++) {
+                writeHex(frame.getStackItem(size - 1 - i), 0, -1);
+            }
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("memory");
+        final int words = options.isMemory() ? frame.memoryWordSize() : 0;
+        if (words > 0) {
+            // Read the memory once per opcode instead of once per word
+            final var memory = frame.readMemory(0, (long) words * WORD_SIZE);
+            for (int i = 0; i < words; i++) {
+                writeHex(memory, i * WORD_SIZE, WORD_SIZE);
+            }
+        }
+        generator.writeEndArray();
+
+        generator.writeObjectFieldStart("storage");
+        if (options.isStorage()) {
+            for (final var entry : storage.entrySet()) {
+                generator.writeFieldName(new String(buffer, 0, toHex(entry.getKey(), 0, -1)));
+                writeHex(entry.getValue(), 0, -1);
+            }
+        }
+        generator.writeEndObject();
+
+        writeEnd(frame.getRevertReason().map(Bytes::toString).orElse(null));
+    }
+
+    /**
+     * Writes a call to a precompile, which has no stack, memory or storage of its own.
+     *
+     * @param frame   the frame that called the precompile
+     * @param op      the name of the calling opcode
+     * @param gasCost the cost of the call
+     * @param reason  the revert reason in hex
+     */
+    @SneakyThrows(IOException.class)
+    public void writePrecompile(
+            final MessageFrame frame, final String op, final long gasCost, final @Nullable String reason) {
+        writeStart(frame, op, gasCost);
+        generator.writeArrayFieldStart("stack");
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("memory");
+        generator.writeEndArray();
+        generator.writeObjectFieldStart("storage");
+        generator.writeEndObject();
+        writeEnd(reason);
+    }
+
+    private void writeStart(final MessageFrame frame, final String op, final long gasCost) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("depth", frame.getDepth());
+        generator.writeNumberField("gas", frame.getRemainingGas());
+        generator.writeNumberField("gas_cost", gasCost);
+        generator.writeStringField("op", op);
+        generator.writeNumberField("pc", frame.getPC());
+    }
+
+    private void writeEnd(final @Nullable String reason) throws IOException {
+        generator.writeStringField("reason", reason);
+        generator.writeEndObject();
+    }
+
+    private void writeHex(final Bytes bytes, final int offset, final int length) throws IOException {
+        generator.writeString(buffer, 0, toHex(bytes, offset, length));
+    }
+
+    /**
+     * Encodes the bytes in the same format as {@link Bytes#toHexString()} into the buffer.
+     *
+     * @param bytes  the bytes to encode
+     * @param offset the offset of the first byte to encode
+     * @param length the number of bytes to encode, or -1 to encode the rest of the bytes
+     * @return the number of characters written to the buffer
+     */
+    private int toHex(final Bytes bytes, final int offset, final int length) {
+        final int size = length < 0 ? bytes.size() - offset : length;
+        final int chars = 2 + 2 * size;
+
+        if (buffer.length < chars) {
+            buffer = new char[chars];
+        }
+
+        buffer[0] = '0';
+        buffer[1] = 'x';
+
+        for (int i = 0; i < size; i++) {
+            final int b = bytes.get(offset + i) & 0xFF;
+            buffer[2 + 2 * i] = HEX[b >>> 4];
+            buffer[3 + 2 * i] = HEX[b & 0x0F];
+        }
+
+        return chars;
+    }
+}
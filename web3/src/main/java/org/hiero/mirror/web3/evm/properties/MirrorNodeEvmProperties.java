@@ -82,6 +82,11 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Positive
     private double estimateGasIterationThresholdPercent = 0.10d;
 
+    // number of gas candidates executed concurrently per round of eth_estimateGas' search algorithm
+    @Getter
+    @Min(1)
+    private int estimateGasParallelism = 1;
+
     private boolean directTokenCall = true;
 
     private boolean dynamicEvmVersion = true;
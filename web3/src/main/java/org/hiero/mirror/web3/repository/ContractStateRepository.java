@@ -58,4 +58,32 @@ public interface ContractStateRepository extends CrudRepository<ContractState, L
             """,
             nativeQuery = true)
     Optional<byte[]> findStorageByBlockTimestamp(long id, byte[] slot, long blockTimestamp);
+
+    /**
+     * Retrieves the most recent storage value up to the given block timestamp of every slot of a contract that changed
+     * within the window ending at the block timestamp. Since any later change at or before the block timestamp would
+     * also fall within the window, the value returned for each slot is its value as of the block timestamp.
+     *
+     * @param id             The ID of the contract.
+     * @param startTimestamp The exclusive start of the window.
+     * @param blockTimestamp The block timestamp up to which to retrieve the storage values.
+     * @return The slot and value pairs of the slots that changed within the window.
+     */
+    @Query(
+            value =
+                    """
+            select distinct on (slot)
+                slot,
+                coalesce(value_written, value_read) as value
+            from contract_state_change
+            where contract_id = :id
+            and consensus_timestamp > :startTimestamp
+            and consensus_timestamp <= :blockTimestamp
+            order by slot, consensus_timestamp desc
+            """,
+            nativeQuery = true)
+    List<ContractSlotValue> findStorageChangesByBlockTimestamp(
+            @Param("id") long id,
+            @Param("startTimestamp") long startTimestamp,
+            @Param("blockTimestamp") long blockTimestamp);
 }
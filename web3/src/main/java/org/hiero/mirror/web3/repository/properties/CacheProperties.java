@@ -3,8 +3,11 @@
 package org.hiero.mirror.web3.repository.properties;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @Data
@@ -18,6 +21,9 @@ public class CacheProperties {
      */
     private static final String ENTITY_CACHE_CONFIG = "expireAfterWrite=1s,maximumSize=10000,recordStats";
 
+    @NotNull
+    private Duration changeSetExpiry = Duration.ofHours(1L);
+
     @NotBlank
     private String contract = "expireAfterAccess=1h,maximumSize=1000,recordStats";
 
@@ -27,14 +33,30 @@ public class CacheProperties {
     @NotBlank
     private String contractState = "expireAfterWrite=2s,maximumSize=25000,recordStats";
 
+    @NotNull
+    private Duration contractStateOffHeapExpiry = Duration.ofSeconds(2L);
+
+    @NotNull
+    private DataSize contractStateOffHeapSize = DataSize.ofMegabytes(64L);
+
     private boolean enableBatchContractSlotCaching = true;
 
+    private boolean enableChangeSetInvalidation = false;
+
+    private boolean enableOffHeapContractStateCaching = false;
+
     @NotBlank
     private String entity = ENTITY_CACHE_CONFIG;
 
     @NotBlank
     private String fee = "expireAfterWrite=10m,maximumSize=20,recordStats";
 
+    @NotBlank
+    private String historical = "expireAfterAccess=10m,maximumSize=100000,recordStats";
+
+    @NotNull
+    private Duration historicalSlotPrefetchWindow = Duration.ofSeconds(30L);
+
     @NotBlank
     private String slotsPerContract = "expireAfterAccess=5m,maximumSize=1500";
 
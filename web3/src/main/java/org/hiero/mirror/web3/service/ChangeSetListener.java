@@ -0,0 +1,251 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_ENTITY;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_SYSTEM_ACCOUNT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_TOKEN;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ALIAS;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_EVM_ADDRESS;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_NFT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_NFT_ALLOWANCE;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT_COUNT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_AIRDROP;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ALLOWANCE;
+
+import jakarta.inject.Named;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiPredicate;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import org.hiero.mirror.common.domain.ChangeSet;
+import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.token.AbstractTokenAccount;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.jspecify.annotations.Nullable;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Listens for the change sets the importer publishes after each record file and evicts only the cached entities,
+ * tokens, token accounts and contract slots that changed. The other token caches aren't covered by the change set and
+ * are cleared on every change set instead. Since changes may be missed while not listening, every cache is cleared
+ * whenever the listener (re)connects. The caches are {@link VersionedCaffeineCache versioned}, so a call that read a
+ * row before its change was committed can't put it back after it's evicted.
+ *
+ * <p>The covered caches keep their configured expiry unless the listener is subscribed to the channel, and only use
+ * the longer change set expiry while it is. Otherwise, such as when LISTEN is rejected by a hot standby, whose
+ * connections never receive notifications, they fall back to expiring as configured.
+ */
+@CustomLog
+@Named
+public class ChangeSetListener {
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5L);
+
+    private final Cache aliasCache;
+    private final CacheProperties cacheProperties;
+    private final Cache contractStateCache;
+    private final ContractStateService contractStateService;
+    private final DataSource dataSource;
+    private final Cache entityCache;
+    private final Cache evmAddressCache;
+    private final Cache systemAccountCache;
+    private final Cache tokenAccountCache;
+    private final Cache tokenAccountCountCache;
+    private final Cache tokenCache;
+    private final List<Cache> coveredCaches;
+    private final List<Cache> uncoveredCaches;
+
+    ChangeSetListener(
+            final @Qualifier(CACHE_MANAGER_CONTRACT_STATE) CacheManager cacheManagerContractState,
+            final @Qualifier(CACHE_MANAGER_ENTITY) CacheManager cacheManagerEntity,
+            final @Qualifier(CACHE_MANAGER_SYSTEM_ACCOUNT) CacheManager cacheManagerSystemAccount,
+            final @Qualifier(CACHE_MANAGER_TOKEN) CacheManager cacheManagerToken,
+            final CacheProperties cacheProperties,
+            final ContractStateService contractStateService,
+            final DataSource dataSource) {
+        this.aliasCache = cacheManagerEntity.getCache(CACHE_NAME_ALIAS);
+        this.cacheProperties = cacheProperties;
+        this.contractStateCache = cacheManagerContractState.getCache(CACHE_NAME);
+        this.contractStateService = contractStateService;
+        this.dataSource = dataSource;
+        this.entityCache = cacheManagerEntity.getCache(CACHE_NAME);
+        this.evmAddressCache = cacheManagerEntity.getCache(CACHE_NAME_EVM_ADDRESS);
+        this.systemAccountCache = cacheManagerSystemAccount.getCache(CACHE_NAME);
+        this.tokenAccountCache = cacheManagerToken.getCache(CACHE_NAME_TOKEN_ACCOUNT);
+        this.tokenAccountCountCache = cacheManagerToken.getCache(CACHE_NAME_TOKEN_ACCOUNT_COUNT);
+        this.tokenCache = cacheManagerToken.getCache(CACHE_NAME_TOKEN);
+        this.coveredCaches = List.of(
+                aliasCache,
+                contractStateCache,
+                entityCache,
+                evmAddressCache,
+                systemAccountCache,
+                tokenAccountCache,
+                tokenAccountCountCache,
+                tokenCache);
+        this.uncoveredCaches = List.of(
+                cacheManagerToken.getCache(CACHE_NAME_NFT),
+                cacheManagerToken.getCache(CACHE_NAME_NFT_ALLOWANCE),
+                cacheManagerToken.getCache(CACHE_NAME_TOKEN_AIRDROP),
+                cacheManagerToken.getCache(CACHE_NAME_TOKEN_ALLOWANCE));
+
+        // The alias caches are keyed by the hash of the alias, so index them by the id of the cached entity
+        setIndexer(aliasCache);
+        setIndexer(evmAddressCache);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (cacheProperties.isEnableChangeSetInvalidation()) {
+            Thread.ofPlatform().daemon().name("change-set-listener").start(this::listen);
+        }
+    }
+
+    void onChangeSet(final ChangeSet changeSet) {
+        if (changeSet.isAll()) {
+            evictAll();
+            return;
+        }
+
+        var entities = changeSet.getEntities();
+        for (var id : entities) {
+            entityCache.evict(id);
+            systemAccountCache.evict(id);
+        }
+
+        if (!entities.isEmpty()) {
+            evictByEntityId(aliasCache, entities);
+            evictByEntityId(evmAddressCache, entities);
+        }
+
+        changeSet.getTokens().forEach(tokenCache::evict);
+
+        for (var id : changeSet.getTokenAccounts()) {
+            tokenAccountCache.evict(id);
+            tokenAccountCountCache.evict(id.getAccountId());
+        }
+
+        var tokensWithAccounts = changeSet.getTokensWithAccounts();
+        if (!tokensWithAccounts.isEmpty()) {
+            removeIf(
+                    tokenAccountCache,
+                    (k, v) -> k instanceof AbstractTokenAccount.Id id && tokensWithAccounts.contains(id.getTokenId()));
+            tokenAccountCountCache.clear();
+        }
+
+        changeSet.getSlots().forEach(id -> contractStateService.evict(id.getContractId(), id.getSlot()));
+        uncoveredCaches.forEach(Cache::clear);
+    }
+
+    private void evictAll() {
+        aliasCache.clear();
+        entityCache.clear();
+        evmAddressCache.clear();
+        systemAccountCache.clear();
+        tokenAccountCache.clear();
+        tokenAccountCountCache.clear();
+        tokenCache.clear();
+        uncoveredCaches.forEach(Cache::clear);
+        contractStateService.evictAll();
+    }
+
+    private void listen() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try (var connection = dataSource.getConnection();
+                    var statement = connection.createStatement()) {
+                var pgConnection = connection.unwrap(PGConnection.class);
+                statement.execute("listen " + ChangeSet.CHANNEL);
+                evictAll();
+                setExpiry(cacheProperties.getChangeSetExpiry());
+                log.info("Listening for change sets on channel {}", ChangeSet.CHANNEL);
+
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        var notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+
+                        if (notifications != null) {
+                            for (var notification : notifications) {
+                                onNotification(notification.getParameter());
+                            }
+                        }
+                    }
+                } finally {
+                    setExpiry(null);
+                }
+            } catch (SQLException e) {
+                log.warn(
+                        "Unable to listen for change sets, caches expire as configured until retrying in {}: {}",
+                        RETRY_DELAY,
+                        e.getMessage());
+                sleep();
+            }
+        }
+    }
+
+    /**
+     * Sets the expiry of the covered caches, or restores their configured expiry when null.
+     */
+    private void setExpiry(final @Nullable Duration expiry) {
+        for (var cache : coveredCaches) {
+            if (cache instanceof VersionedCaffeineCache versionedCache) {
+                versionedCache.setExpireAfterWrite(expiry);
+            }
+        }
+    }
+
+    private void onNotification(final String payload) {
+        try {
+            onChangeSet(ChangeSet.decode(payload));
+        } catch (Exception e) {
+            log.warn("Evicting all caches after failing to process change set: {}", e.getMessage());
+            evictAll();
+        }
+    }
+
+    private void evictByEntityId(final Cache cache, final Collection<Long> entities) {
+        if (cache instanceof VersionedCaffeineCache versionedCache) {
+            entities.forEach(versionedCache::evictByIndex);
+        } else {
+            removeIf(cache, (k, v) -> v instanceof Entity entity && entities.contains(entity.getId()));
+        }
+    }
+
+    private static void setIndexer(final Cache cache) {
+        if (cache instanceof VersionedCaffeineCache versionedCache) {
+            versionedCache.setIndexer(v -> v instanceof Entity entity ? entity.getId() : null);
+        }
+    }
+
+    private void removeIf(final Cache cache, final BiPredicate<Object, Object> predicate) {
+        if (cache instanceof VersionedCaffeineCache versionedCache) {
+            versionedCache.removeIf(predicate);
+        } else if (cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().asMap().entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue()));
+        } else {
+            cache.clear();
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(RETRY_DELAY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
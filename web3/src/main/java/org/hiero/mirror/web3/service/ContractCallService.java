@@ -151,6 +151,30 @@ public abstract class ContractCallService {
         return result;
     }
 
+    /**
+     * Executes one of several concurrent estimate candidates. Unlike the sequential estimate, which is covered by the
+     * gas charged for the request, the gas of each candidate is charged by {@link #throttleGas(long)} and its unused
+     * gas is restored to the bucket afterward.
+     */
+    protected final HederaEvmTransactionProcessingResult doProcessEstimateCandidate(
+            CallServiceParameters params, long estimatedGas) throws MirrorEvmTransactionException {
+        HederaEvmTransactionProcessingResult result = null;
+
+        try {
+            result = doProcessCall(params, estimatedGas, true);
+            return result;
+        } catch (MirrorEvmTransactionException e) {
+            result = e.getResult();
+            throw e;
+        } finally {
+            restoreGasToBucket(result, estimatedGas);
+        }
+    }
+
+    protected final void throttleGas(long gas) {
+        throttleManager.consume(gas);
+    }
+
     private void restoreGasToBucket(HederaEvmTransactionProcessingResult result, long gasLimit) {
         // If the transaction fails, gasUsed is equal to gasLimit, so restore the configured refund percent
         // of the gasLimit value back in the bucket.
@@ -81,9 +81,12 @@ public class ContractExecutionService extends ContractCallService {
      * that would prevent the estimation from succeeding.
      * <p>
      * 2. Finally, if the first step is successful, a binary search is initiated. The lower bound of the search is the
-     * gas used in the first step, while the upper bound is the inputted gas parameter.
+     * gas used in the first step, while the upper bound is the inputted gas parameter. When estimate gas parallelism is
+     * configured for the modularized services, several gas candidates are executed concurrently per round instead. The
+     * monolithic read-only state frame can't be shared across threads, so it always uses the sequential search.
      */
     private Bytes estimateGas(final ContractExecutionParameters params, final ContractCallContext context) {
+        final boolean parallel = params.isModularized() && mirrorNodeEvmProperties.getEstimateGasParallelism() > 1;
         final var processingResult = callContract(params, context);
         final var gasUsedByInitialCall = processingResult.getGasUsed();
 
@@ -93,6 +96,18 @@ public class ContractExecutionService extends ContractCallService {
         }
 
         final var status = ResponseCodeEnum.SUCCESS.toString();
+
+        if (parallel) {
+            final var estimatedGas = binaryGasEstimator.parallelSearch(
+                    (totalGas, iterations) -> updateMetrics(params, totalGas, iterations, status),
+                    this::throttleGas,
+                    gas -> context.runSnapshot(ctx -> doProcessEstimateCandidate(params, gas)),
+                    gasUsedByInitialCall,
+                    params.getGas(),
+                    params.isModularized());
+            return Bytes.ofUnsignedLong(estimatedGas);
+        }
+
         final var estimatedGas = binaryGasEstimator.search(
                 (totalGas, iterations) -> updateMetrics(params, totalGas, iterations, status),
                 gas -> doProcessCall(params, gas, true),
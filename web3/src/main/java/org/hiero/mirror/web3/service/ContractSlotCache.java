@@ -0,0 +1,278 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A fixed size, set associative cache of contract storage slot values stored off-heap. Each entry is a flat record of
+ * the contract id, the slot key and the slot value, so a cached slot costs {@value #ENTRY_SIZE} bytes regardless of
+ * how many slots are cached. When a set is full, its least recently used entry is evicted. Entries expire a fixed
+ * duration after they are written. Like {@link VersionedCaffeineCache}, it doesn't keep the values put by a contract
+ * call that started before the cache was last invalidated.
+ */
+final class ContractSlotCache {
+
+    static final String METRIC_EVICTIONS = "hiero.mirror.web3.cache.slot.evictions";
+    static final String METRIC_REQUESTS = "hiero.mirror.web3.cache.slot.requests";
+    static final String METRIC_SIZE = "hiero.mirror.web3.cache.slot.size";
+
+    private static final int MAX_LENGTH = 32;
+    private static final int WAYS = 8;
+
+    // Entry layout
+    private static final int CONTRACT_ID = 0;
+    private static final int WRITTEN = 8;
+    private static final int ACCESSED = 16;
+    private static final int KEY_LENGTH = 24;
+    private static final int VALUE_LENGTH = 25;
+    private static final int OCCUPIED = 26;
+    private static final int KEY = 32;
+    private static final int VALUE = KEY + MAX_LENGTH;
+    static final int ENTRY_SIZE = VALUE + MAX_LENGTH;
+
+    private static final int SET_SIZE = ENTRY_SIZE * WAYS;
+    private static final int MAX_SEGMENT_SIZE = Integer.MAX_VALUE - Integer.MAX_VALUE % SET_SIZE;
+    private static final int SEGMENTS = 64;
+
+    private final long expiry;
+    private final Segment[] segments;
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile long invalidated;
+
+    ContractSlotCache(long maxBytes, Duration expiry, MeterRegistry meterRegistry) {
+        this.expiry = expiry.toNanos();
+        long setsPerSegment = Math.max(1L, maxBytes / SEGMENTS / SET_SIZE);
+        int segmentSize = (int) Math.min(setsPerSegment * SET_SIZE, MAX_SEGMENT_SIZE);
+        segments = new Segment[SEGMENTS];
+
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentSize / SET_SIZE);
+        }
+
+        FunctionCounter.builder(METRIC_EVICTIONS, evictions, LongAdder::sum)
+                .description("The number of contract slot values evicted from the cache")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_REQUESTS, hits, LongAdder::sum)
+                .description("The number of contract slot value lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_REQUESTS, misses, LongAdder::sum)
+                .description("The number of contract slot value lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_SIZE, this, ContractSlotCache::size)
+                .description("The number of contract slot values in the cache")
+                .register(meterRegistry);
+    }
+
+    @Nullable
+    byte[] get(long contractId, byte[] key) {
+        if (key.length > MAX_LENGTH) {
+            misses.increment();
+            return null;
+        }
+
+        int hash = hash(contractId, key);
+        var value = segment(hash).get(hash, contractId, key, System.nanoTime());
+
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+
+        return value;
+    }
+
+    void put(long contractId, byte[] key, byte[] value) {
+        if (key.length > MAX_LENGTH || value.length > MAX_LENGTH) {
+            return;
+        }
+
+        int hash = hash(contractId, key);
+        var segment = segment(hash);
+        segment.put(hash, contractId, key, value, System.nanoTime());
+
+        if (VersionedCaffeineCache.isStale(invalidated)) {
+            segment.remove(hash, contractId, key);
+        }
+    }
+
+    void remove(long contractId, byte[] key) {
+        if (key.length > MAX_LENGTH) {
+            return;
+        }
+
+        invalidated = System.currentTimeMillis();
+
+        int hash = hash(contractId, key);
+        segment(hash).remove(hash, contractId, key);
+    }
+
+    void clear() {
+        invalidated = System.currentTimeMillis();
+
+        for (var segment : segments) {
+            segment.clear();
+        }
+    }
+
+    long size() {
+        long size = 0;
+
+        for (var segment : segments) {
+            size += segment.size();
+        }
+
+        return size;
+    }
+
+    private Segment segment(int hash) {
+        return segments[hash & (SEGMENTS - 1)];
+    }
+
+    private static int hash(long contractId, byte[] key) {
+        int hash = 31 * Long.hashCode(contractId) + Arrays.hashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Segment {
+
+        private final ByteBuffer buffer;
+        private final int sets;
+        private int size;
+
+        private Segment(int sets) {
+            this.buffer = ByteBuffer.allocateDirect(sets * SET_SIZE);
+            this.sets = sets;
+        }
+
+        private synchronized byte[] get(int hash, long contractId, byte[] key, long now) {
+            int offset = find(set(hash), contractId, key);
+
+            if (offset < 0) {
+                return null;
+            }
+
+            if (now - buffer.getLong(offset + WRITTEN) > expiry) {
+                buffer.put(offset + OCCUPIED, (byte) 0);
+                size--;
+                return null;
+            }
+
+            buffer.putLong(offset + ACCESSED, now);
+            var value = new byte[buffer.get(offset + VALUE_LENGTH)];
+            buffer.get(offset + VALUE, value);
+            return value;
+        }
+
+        private synchronized void put(int hash, long contractId, byte[] key, byte[] value, long now) {
+            int set = set(hash);
+            int offset = find(set, contractId, key);
+
+            if (offset < 0) {
+                offset = victim(set, now);
+                buffer.putLong(offset + CONTRACT_ID, contractId);
+                buffer.put(offset + KEY_LENGTH, (byte) key.length);
+                buffer.put(offset + KEY, key);
+                buffer.put(offset + OCCUPIED, (byte) 1);
+            }
+
+            buffer.putLong(offset + WRITTEN, now);
+            buffer.putLong(offset + ACCESSED, now);
+            buffer.put(offset + VALUE_LENGTH, (byte) value.length);
+            buffer.put(offset + VALUE, value);
+        }
+
+        private synchronized void remove(int hash, long contractId, byte[] key) {
+            int offset = find(set(hash), contractId, key);
+
+            if (offset >= 0) {
+                buffer.put(offset + OCCUPIED, (byte) 0);
+                size--;
+            }
+        }
+
+        private synchronized void clear() {
+            for (int offset = 0; offset < sets * SET_SIZE; offset += ENTRY_SIZE) {
+                buffer.put(offset + OCCUPIED, (byte) 0);
+            }
+
+            size = 0;
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private int set(int hash) {
+            return ((hash >>> 6) % sets) * SET_SIZE;
+        }
+
+        private int find(int set, long contractId, byte[] key) {
+            for (int way = 0; way < WAYS; way++) {
+                int offset = set + way * ENTRY_SIZE;
+
+                if (buffer.get(offset + OCCUPIED) != 0
+                        && buffer.getLong(offset + CONTRACT_ID) == contractId
+                        && buffer.get(offset + KEY_LENGTH) == key.length
+                        && matches(offset + KEY, key)) {
+                    return offset;
+                }
+            }
+
+            return -1;
+        }
+
+        private boolean matches(int offset, byte[] key) {
+            for (int i = 0; i < key.length; i++) {
+                if (buffer.get(offset + i) != key[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Finds the entry to write a new slot to, preferring an empty or expired entry over the least recently used.
+         */
+        private int victim(int set, long now) {
+            int victim = -1;
+            long oldest = 0L;
+
+            for (int way = 0; way < WAYS; way++) {
+                int offset = set + way * ENTRY_SIZE;
+
+                if (buffer.get(offset + OCCUPIED) == 0) {
+                    size++;
+                    return offset;
+                }
+
+                if (now - buffer.getLong(offset + WRITTEN) > expiry) {
+                    return offset;
+                }
+
+                long accessed = buffer.getLong(offset + ACCESSED);
+                if (victim < 0 || accessed - oldest < 0) {
+                    oldest = accessed;
+                    victim = offset;
+                }
+            }
+
+            evictions.increment();
+            return victim;
+        }
+    }
+}
@@ -10,4 +10,17 @@ public interface ContractStateService {
     Optional<byte[]> findStorage(EntityId contractId, byte[] key);
 
     Optional<byte[]> findStorageByBlockTimestamp(EntityId entityId, byte[] slotKeyByteArray, long blockTimestamp);
+
+    /**
+     * Evicts the cached value of a slot changed by the importer, so that the next lookup reads its latest value.
+     *
+     * @param contractId the contract id
+     * @param key        the slot key, either left padded to 32 bytes or with its leading zeros trimmed
+     */
+    void evict(long contractId, byte[] key);
+
+    /**
+     * Evicts every cached slot value.
+     */
+    void evictAll();
 }
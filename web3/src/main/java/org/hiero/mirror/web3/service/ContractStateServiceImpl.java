@@ -4,15 +4,20 @@ package org.hiero.mirror.web3.service;
 
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_SLOTS;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_SLOTS_PER_CONTRACT;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_STATE;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import lombok.CustomLog;
 import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.web3.repository.ContractStateRepository;
 import org.hiero.mirror.web3.repository.properties.CacheProperties;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -27,24 +32,61 @@ import org.springframework.stereotype.Service;
 final class ContractStateServiceImpl implements ContractStateService {
 
     private static final byte[] EMPTY_VALUE = new byte[0];
+    private static final int SLOT_LENGTH = 32;
 
     private final CacheManager cacheManagerSlotsPerContract;
     private final CacheProperties cacheProperties;
     private final Cache contractSlotsCache;
     private final Cache contractStateCache;
+    private final ContractSlotCache contractSlotValueCache;
     private final ContractStateRepository contractStateRepository;
+    private final Cache historicalContractStateCache;
 
     ContractStateServiceImpl(
             final @Qualifier(CACHE_MANAGER_CONTRACT_SLOTS) CacheManager cacheManagerContractSlots,
             final @Qualifier(CACHE_MANAGER_CONTRACT_STATE) CacheManager cacheManagerContractState,
+            final @Qualifier(CACHE_MANAGER_HISTORICAL) CacheManager cacheManagerHistorical,
             final @Qualifier(CACHE_MANAGER_SLOTS_PER_CONTRACT) CacheManager cacheManagerSlotsPerContract,
             final CacheProperties cacheProperties,
-            final ContractStateRepository contractStateRepository) {
+            final ContractStateRepository contractStateRepository,
+            final MeterRegistry meterRegistry) {
         this.cacheManagerSlotsPerContract = cacheManagerSlotsPerContract;
         this.cacheProperties = cacheProperties;
         this.contractSlotsCache = cacheManagerContractSlots.getCache(CACHE_NAME);
         this.contractStateCache = cacheManagerContractState.getCache(CACHE_NAME);
         this.contractStateRepository = contractStateRepository;
+        this.historicalContractStateCache = cacheManagerHistorical.getCache(CACHE_NAME_CONTRACT_STATE);
+        this.contractSlotValueCache = cacheProperties.isEnableOffHeapContractStateCaching()
+                ? new ContractSlotCache(
+                        cacheProperties.getContractStateOffHeapSize().toBytes(),
+                        cacheProperties.getContractStateOffHeapExpiry(),
+                        meterRegistry)
+                : null;
+    }
+
+    @Override
+    public void evict(final long contractId, final byte[] key) {
+        // The EVM looks up slots with their leading zeros either trimmed or left padded to 32 bytes
+        final var slots = List.of(DomainUtils.trim(key), DomainUtils.leftPadBytes(key, SLOT_LENGTH));
+        final var entityId = EntityId.of(contractId);
+
+        for (final var slot : slots) {
+            if (contractSlotValueCache != null) {
+                contractSlotValueCache.remove(contractId, slot);
+            }
+
+            contractStateCache.evict(generateCacheKey(entityId, slot));
+            contractStateCache.evict(new SimpleKey(contractId, slot));
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        if (contractSlotValueCache != null) {
+            contractSlotValueCache.clear();
+        }
+
+        contractStateCache.clear();
     }
 
     /**
@@ -60,7 +102,9 @@ final class ContractStateServiceImpl implements ContractStateService {
             return contractStateRepository.findStorage(contractId.getId(), key);
         }
 
-        final var cachedValue = contractStateCache.get(generateCacheKey(contractId, key), byte[].class);
+        final var cachedValue = contractSlotValueCache != null
+                ? contractSlotValueCache.get(contractId.getId(), key)
+                : contractStateCache.get(generateCacheKey(contractId, key), byte[].class);
 
         if (cachedValue != null && cachedValue != EMPTY_VALUE) {
             return Optional.of(cachedValue);
@@ -69,10 +113,63 @@ final class ContractStateServiceImpl implements ContractStateService {
         return findStorageBatch(contractId, key);
     }
 
+    /**
+     * Finds the slot value as of the block timestamp, caching the result since the state of a past block can't change.
+     * The first lookup for a contract at a block timestamp also prefetches every slot of the contract that changed
+     * shortly before it, as a call that reads one slot of a contract usually reads several.
+     *
+     * @param entityId         Entity ID of the contract that the slot key belongs to
+     * @param slotKeyByteArray The slot key with leading zeros trimmed
+     * @param blockTimestamp   The consensus end of the record file of the block
+     * @return slot value as of the block timestamp
+     */
     @Override
     public Optional<byte[]> findStorageByBlockTimestamp(
             final EntityId entityId, final byte[] slotKeyByteArray, final long blockTimestamp) {
-        return contractStateRepository.findStorageByBlockTimestamp(entityId.getId(), slotKeyByteArray, blockTimestamp);
+        final var cacheKey = new SimpleKey(entityId, slotKeyByteArray, blockTimestamp);
+        final var cachedValue = historicalContractStateCache.get(cacheKey, byte[].class);
+
+        if (cachedValue != null) {
+            return cachedValue != EMPTY_VALUE ? Optional.of(cachedValue) : Optional.empty();
+        }
+
+        if (prefetchHistoricalStorage(entityId, blockTimestamp)) {
+            final var prefetchedValue = historicalContractStateCache.get(cacheKey, byte[].class);
+            if (prefetchedValue != null) {
+                return Optional.of(prefetchedValue);
+            }
+        }
+
+        final var value =
+                contractStateRepository.findStorageByBlockTimestamp(entityId.getId(), slotKeyByteArray, blockTimestamp);
+        historicalContractStateCache.put(cacheKey, value.orElse(EMPTY_VALUE));
+        return value;
+    }
+
+    /**
+     * Loads the value of every slot of the contract that changed within the prefetch window ending at the block
+     * timestamp into the historical cache, once per contract and block timestamp.
+     *
+     * @return whether any slot values were prefetched
+     */
+    private boolean prefetchHistoricalStorage(final EntityId contractId, final long blockTimestamp) {
+        final long window = cacheProperties.getHistoricalSlotPrefetchWindow().toNanos();
+
+        if (window <= 0
+                || historicalContractStateCache.putIfAbsent(new SimpleKey(contractId, blockTimestamp), EMPTY_VALUE)
+                        != null) {
+            return false;
+        }
+
+        final var contractSlotValues = contractStateRepository.findStorageChangesByBlockTimestamp(
+                contractId.getId(), blockTimestamp - window, blockTimestamp);
+
+        for (final var contractSlotValue : contractSlotValues) {
+            final var cacheKey = new SimpleKey(contractId, contractSlotValue.getSlot(), blockTimestamp);
+            historicalContractStateCache.put(cacheKey, contractSlotValue.getValue());
+        }
+
+        return !contractSlotValues.isEmpty();
     }
 
     /**
@@ -106,7 +203,7 @@ final class ContractStateServiceImpl implements ContractStateService {
         for (final var contractSlotValue : contractSlotValues) {
             final byte[] slotKey = contractSlotValue.getSlot();
             final byte[] slotValue = contractSlotValue.getValue();
-            contractStateCache.put(generateCacheKey(contractId, slotKey), slotValue);
+            cacheSlotValue(contractId, slotKey, slotValue);
 
             if (Arrays.equals(slotKey, key)) {
                 cachedValue = slotValue;
@@ -121,6 +218,14 @@ final class ContractStateServiceImpl implements ContractStateService {
         return Optional.ofNullable(cachedValue);
     }
 
+    private void cacheSlotValue(final EntityId contractId, final byte[] slotKey, final byte[] slotValue) {
+        if (contractSlotValueCache != null) {
+            contractSlotValueCache.put(contractId.getId(), slotKey, slotValue);
+        } else {
+            contractStateCache.put(generateCacheKey(contractId, slotKey), slotValue);
+        }
+    }
+
     // Generates a cache key emulating the default caching behavior in Spring
     private SimpleKey generateCacheKey(final EntityId contractId, final byte[] slotKey) {
         return new SimpleKey(contractId, slotKey);
@@ -6,6 +6,7 @@ import org.hiero.mirror.rest.model.OpcodesResponse;
 import org.hiero.mirror.web3.common.TransactionIdOrHashParameter;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import org.jspecify.annotations.NonNull;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface OpcodeService {
 
@@ -16,4 +17,15 @@ public interface OpcodeService {
      */
     OpcodesResponse processOpcodeCall(
             @NonNull TransactionIdOrHashParameter transactionIdOrHash, @NonNull OpcodeTracerOptions options);
+
+    /**
+     * Looks up the transaction before returning, so that a missing transaction fails the request, then replays it when
+     * the response body is written and writes each opcode to the response as it's executed.
+     *
+     * @param transactionIdOrHash the {@link TransactionIdOrHashParameter}
+     * @param options the {@link OpcodeTracerOptions}
+     * @return the {@link StreamingResponseBody} writing the {@link OpcodesResponse} of the opcode call
+     */
+    StreamingResponseBody streamOpcodeCall(
+            @NonNull TransactionIdOrHashParameter transactionIdOrHash, @NonNull OpcodeTracerOptions options);
 }
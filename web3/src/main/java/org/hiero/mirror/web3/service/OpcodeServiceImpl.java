@@ -8,6 +8,9 @@ import static org.hiero.mirror.common.util.DomainUtils.EVM_ADDRESS_LENGTH;
 import static org.hiero.mirror.common.util.DomainUtils.convertToNanosMax;
 import static org.hiero.mirror.web3.evm.utils.EvmTokenUtils.toAddress;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.math.BigInteger;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -30,6 +33,7 @@ import org.hiero.mirror.web3.common.TransactionIdOrHashParameter;
 import org.hiero.mirror.web3.common.TransactionIdParameter;
 import org.hiero.mirror.web3.evm.contracts.execution.OpcodesProcessingResult;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
+import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeWriter;
 import org.hiero.mirror.web3.exception.EntityNotFoundException;
 import org.hiero.mirror.web3.repository.ContractResultRepository;
 import org.hiero.mirror.web3.repository.ContractTransactionHashRepository;
@@ -41,6 +45,7 @@ import org.hiero.mirror.web3.viewmodel.BlockType;
 import org.hyperledger.besu.datatypes.Address;
 import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @CustomLog
@@ -54,6 +59,7 @@ public class OpcodeServiceImpl implements OpcodeService {
     private final TransactionRepository transactionRepository;
     private final ContractResultRepository contractResultRepository;
     private final CommonEntityAccessor commonEntityAccessor;
+    private final ObjectMapper objectMapper;
 
     @Override
     public OpcodesResponse processOpcodeCall(
@@ -66,6 +72,44 @@ public class OpcodeServiceImpl implements OpcodeService {
         });
     }
 
+    @Override
+    public StreamingResponseBody streamOpcodeCall(
+            @NonNull TransactionIdOrHashParameter transactionIdOrHashParameter, @NonNull OpcodeTracerOptions options) {
+        final ContractDebugParameters params =
+                buildCallServiceParameters(transactionIdOrHashParameter, options.isModularized());
+
+        return outputStream -> {
+            // Leave the JSON unclosed if the replay fails so that the client can't mistake a partial trace for success
+            final var generator = objectMapper
+                    .getFactory()
+                    .createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+            try (generator) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("opcodes");
+                // Commit the response before the replay so that a failure always truncates it, even if it's early
+                generator.flush();
+
+                final OpcodesResponse response = ContractCallContext.run(ctx -> {
+                    ctx.setOpcodeWriter(new OpcodeWriter(generator));
+                    final OpcodesProcessingResult result = contractDebugService.processOpcodeCall(params, options);
+                    return buildOpcodesResponse(result);
+                });
+
+                // The opcodes were already written, so write only the fields that are known once the replay completes
+                generator.writeEndArray();
+                final ObjectNode fields = objectMapper.valueToTree(response);
+                fields.remove("opcodes");
+                for (final var field : fields.properties()) {
+                    generator.writeFieldName(field.getKey());
+                    generator.writeTree(field.getValue());
+                }
+                generator.writeEndObject();
+            }
+        };
+    }
+
     private ContractDebugParameters buildCallServiceParameters(
             @NonNull TransactionIdOrHashParameter transactionIdOrHash, boolean isModularized) {
         final Long consensusTimestamp;
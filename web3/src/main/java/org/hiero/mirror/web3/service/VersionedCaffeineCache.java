@@ -0,0 +1,189 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import org.hiero.mirror.web3.common.ContractCallContext;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * A Caffeine cache that doesn't keep the values put by a contract call that started before the cache was last
+ * invalidated. Such a call may have read its value before the importer committed the change that invalidated it, so
+ * putting it would bring the stale value back for as long as the cache expiry. Values put outside a contract call
+ * aren't checked.
+ */
+public final class VersionedCaffeineCache extends CaffeineCache {
+
+    // The index is pruned of the keys no longer cached once it holds this many times as many entries as the cache
+    private static final int PRUNE_RATIO = 2;
+    private static final int PRUNE_MIN_SIZE = 1024;
+
+    private final @Nullable Duration expireAfterWrite;
+    private final Map<Object, Set<Object>> index = new ConcurrentHashMap<>();
+    private volatile @Nullable Function<Object, @Nullable Object> indexer;
+    private volatile long invalidated;
+
+    VersionedCaffeineCache(
+            final String name,
+            final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+            final boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+        this.expireAfterWrite = cache.policy()
+                .expireAfterWrite()
+                .map(expiration -> expiration.getExpiresAfter())
+                .orElse(null);
+    }
+
+    /**
+     * @return a cache manager that creates versioned caches
+     */
+    public static CaffeineCacheManager cacheManager() {
+        return new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(
+                    final String name, final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new VersionedCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+    }
+
+    @Override
+    public void put(final Object key, final @Nullable Object value) {
+        super.put(key, value);
+        index(key, value);
+
+        // Check after the put so that an invalidation that races with it either sees the value or is seen here
+        if (isStale()) {
+            super.evict(key);
+        }
+    }
+
+    @Override
+    public @Nullable ValueWrapper putIfAbsent(final Object key, final @Nullable Object value) {
+        final var existing = super.putIfAbsent(key, value);
+
+        if (existing == null) {
+            index(key, value);
+
+            if (isStale()) {
+                super.evict(key);
+            }
+        }
+
+        return existing;
+    }
+
+    @Override
+    public void evict(final Object key) {
+        invalidated = System.currentTimeMillis();
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        invalidated = System.currentTimeMillis();
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidated = System.currentTimeMillis();
+        super.clear();
+        index.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        invalidated = System.currentTimeMillis();
+        index.clear();
+        return super.invalidate();
+    }
+
+    /**
+     * Evicts every entry whose value the indexer mapped to the index key, without scanning the cache.
+     *
+     * @param indexKey the index key of the values to evict
+     */
+    public void evictByIndex(final Object indexKey) {
+        invalidated = System.currentTimeMillis();
+        final var keys = index.remove(indexKey);
+
+        if (keys != null) {
+            keys.forEach(super::evict);
+        }
+    }
+
+    /**
+     * Indexes the values put from now on by the key the indexer maps them to, so that they can be evicted with
+     * {@link #evictByIndex(Object)}. Values the indexer maps to null aren't indexed.
+     *
+     * @param indexer maps a cached value to its index key
+     */
+    public void setIndexer(final Function<Object, @Nullable Object> indexer) {
+        this.indexer = indexer;
+    }
+
+    /**
+     * Overrides how long entries stay cached after they're written, applying to the entries already cached as well.
+     * Only caches configured with expireAfterWrite are affected, and the override never shortens the configured expiry.
+     *
+     * @param expiry the expiry, or null to restore the configured expiry
+     */
+    public void setExpireAfterWrite(final @Nullable Duration expiry) {
+        if (expireAfterWrite == null) {
+            return;
+        }
+
+        final var duration = expiry != null && expiry.compareTo(expireAfterWrite) > 0 ? expiry : expireAfterWrite;
+        getNativeCache().policy().expireAfterWrite().ifPresent(expiration -> expiration.setExpiresAfter(duration));
+    }
+
+    /**
+     * Evicts every entry that matches the predicate.
+     *
+     * @param predicate tests the key and value of each entry
+     */
+    public void removeIf(final BiPredicate<Object, Object> predicate) {
+        invalidated = System.currentTimeMillis();
+        getNativeCache().asMap().entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue()));
+    }
+
+    /**
+     * Whether the current contract call started before the last invalidation, allowing for clock granularity.
+     */
+    static boolean isStale(final long invalidated) {
+        return ContractCallContext.isInitialized() && ContractCallContext.get().getStartTime() <= invalidated;
+    }
+
+    private boolean isStale() {
+        return isStale(invalidated);
+    }
+
+    private void index(final Object key, final @Nullable Object value) {
+        final var currentIndexer = indexer;
+        final var indexKey = currentIndexer != null && value != null ? currentIndexer.apply(value) : null;
+
+        if (indexKey == null) {
+            return;
+        }
+
+        index.computeIfAbsent(indexKey, k -> ConcurrentHashMap.newKeySet()).add(key);
+
+        // Entries that expire or are evicted for size leave their keys behind, so drop those once in a while
+        if (index.size() > Math.max(PRUNE_MIN_SIZE, PRUNE_RATIO * getNativeCache().estimatedSize())) {
+            final var cached = getNativeCache().asMap();
+            index.values().removeIf(keys -> {
+                keys.removeIf(k -> !cached.containsKey(k));
+                return keys.isEmpty();
+            });
+        }
+    }
+}
@@ -2,8 +2,16 @@
 
 package org.hiero.mirror.web3.service.utils;
 
+import com.google.common.base.Throwables;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
 import java.util.function.ObjIntConsumer;
 import lombok.CustomLog;
@@ -15,6 +23,7 @@ import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 @RequiredArgsConstructor
 @Named
 public class BinaryGasEstimator {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
     private final MirrorNodeEvmProperties properties;
 
     public long search(
@@ -67,6 +76,103 @@ public class BinaryGasEstimator {
         return hi;
     }
 
+    /**
+     * Searches for the estimate by executing several evenly spaced gas candidates between the bounds concurrently per
+     * round, narrowing the bounds to the lowest successful candidate and the highest failed candidate below it. With n
+     * candidates per round the range shrinks by a factor of n + 1 per round instead of 2, so the search takes fewer
+     * rounds of wall-clock time. The maximum retries count limits the number of rounds. Since every candidate lies
+     * strictly between bounds that were already executed, no gas value is ever executed twice. The candidates above the
+     * lowest successful one are cancelled once it's known. Cancellation doesn't interrupt a running candidate, which
+     * may be in the middle of a database query, but keeps the candidates that haven't started from running.
+     *
+     * @param throttle charges the gas of each candidate when it starts executing, since a round executes several times
+     *                 the gas of a sequential search. A candidate that's cancelled before it starts is never charged,
+     *                 and {@code call} must restore the unused gas of one that does.
+     * @param call     executes the call with the given gas on the calling thread, so it must bind its own
+     *                 {@link ContractCallContext}
+     */
+    public long parallelSearch(
+            final ObjIntConsumer<Long> metricUpdater,
+            final LongConsumer throttle,
+            final LongFunction<HederaEvmTransactionProcessingResult> call,
+            long lo,
+            long hi,
+            final boolean isModularized) {
+        final int parallelism = properties.getEstimateGasParallelism();
+        final long estimateIterationThreshold = (long) (lo * properties.getEstimateGasIterationThresholdPercent());
+        int iterationsMade = 0;
+        int roundsMade = 0;
+        long totalGasUsed = 0;
+
+        while (lo + 1 < hi
+                && hi - lo > estimateIterationThreshold
+                && roundsMade < properties.getMaxGasEstimateRetriesCount()) {
+            final int count = (int) Math.min(parallelism, hi - lo - 1);
+            final var candidates = new long[count];
+            final var futures = new ArrayList<Future<HederaEvmTransactionProcessingResult>>(count);
+
+            for (int i = 0; i < count; i++) {
+                candidates[i] = lo + (hi - lo) / (count + 1) * (i + 1);
+            }
+
+            iterationsMade += count;
+            roundsMade++;
+            long newLo = lo;
+            long newHi = hi;
+
+            try {
+                for (final long gas : candidates) {
+                    futures.add(executor.submit(() -> {
+                        throttle.accept(gas);
+                        return isModularized ? safeCall(gas, call) : call.apply(gas);
+                    }));
+                }
+
+                for (int i = 0; i < count; i++) {
+                    final var transactionResult = get(futures.get(i));
+                    final boolean err = transactionResult == null
+                            || !transactionResult.isSuccessful()
+                            || transactionResult.getGasUsed() <= 0;
+
+                    if (err) {
+                        newLo = candidates[i];
+                        totalGasUsed += candidates[i];
+                    } else {
+                        newHi = candidates[i];
+                        totalGasUsed += transactionResult.getGasUsed();
+                        break;
+                    }
+                }
+            } finally {
+                // The candidates above the lowest successful one can't change the bounds, so stop executing them
+                futures.forEach(future -> future.cancel(false));
+            }
+
+            lo = newLo;
+            hi = newHi;
+        }
+
+        metricUpdater.accept(totalGasUsed, iterationsMade);
+        return hi;
+    }
+
+    @PreDestroy
+    void close() {
+        executor.close();
+    }
+
+    private static HederaEvmTransactionProcessingResult get(Future<HederaEvmTransactionProcessingResult> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
     // This method is needed because within the modularized services if the contract call fails an exception is thrown
     // instead of transaction result with 'failed' status which will result in a failing test. This way we handle the
     // exception and return estimated gas
@@ -8,5 +8,12 @@ public interface ThrottleManager {
 
     void throttle(ContractCallRequest request);
 
+    /**
+     * Consumes the gas of an additional execution on behalf of a request that was already throttled
+     *
+     * @param gas the gas limit of the execution
+     */
+    void consume(long gas);
+
     void restore(long gas);
 }
@@ -44,6 +44,13 @@ final class ThrottleManagerImpl implements ThrottleManager {
         }
     }
 
+    @Override
+    public void consume(long gas) {
+        if (!gasLimitBucket.tryConsume(throttleProperties.scaleGas(gas))) {
+            throw new ThrottleException(GAS_PER_SECOND_LIMIT_EXCEEDED);
+        }
+    }
+
     @Override
     public void restore(long gas) {
         long tokens = throttleProperties.scaleGas(gas);
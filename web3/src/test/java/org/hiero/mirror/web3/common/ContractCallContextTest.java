@@ -59,4 +59,25 @@ class ContractCallContextTest {
 
         assertThat(context.getTimestamp()).isEqualTo(Optional.of(timestamp));
     }
+
+    @Test
+    void testRunSnapshot() {
+        var context = ContractCallContext.get();
+        var recordFile = RecordFile.builder().consensusEnd(123L).build();
+        context.setRecordFile(recordFile);
+        context.setCallServiceParameters(
+                ContractExecutionParameters.builder().block(BlockType.LATEST).build());
+        context.getReadCacheState(1).put("key", "value");
+
+        context.runSnapshot(snapshot -> {
+            assertThat(ContractCallContext.get()).isSameAs(snapshot).isNotSameAs(context);
+            assertThat(snapshot.getRecordFile()).isSameAs(recordFile);
+            assertThat(snapshot.getTimestamp()).isEmpty();
+            assertThat(snapshot.getReadCacheState(1)).containsEntry("key", "value");
+            snapshot.getReadCacheState(1).put("other", "value");
+            return null;
+        });
+
+        assertThat(context.getReadCacheState(1)).doesNotContainKey("other");
+    }
 }
@@ -4,8 +4,10 @@ package org.hiero.mirror.web3.controller;
 
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_EXECUTION_EXCEPTION;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hiero.mirror.common.util.CommonUtils.instant;
 import static org.hiero.mirror.common.util.DomainUtils.convertToNanosMax;
+import static org.hiero.mirror.web3.utils.Constants.MODULARIZED_HEADER;
 import static org.hiero.mirror.web3.utils.Constants.OPCODES_URI;
 import static org.hiero.mirror.web3.utils.TransactionProviderEnum.entityAddress;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -16,10 +18,12 @@ import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -405,6 +409,59 @@ class OpcodesControllerTest {
                 .isEqualTo(expectedCallServiceParameters.get().toBuilder().build());
     }
 
+    @ParameterizedTest
+    @EnumSource(TransactionProviderEnum.class)
+    void streamCall(final TransactionProviderEnum providerEnum) throws Exception {
+        final TransactionIdOrHashParameter transactionIdOrHash = setUp(providerEnum);
+
+        final var result = mockMvc.perform(opcodesRequest(transactionIdOrHash).queryParam("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // The mocked replay doesn't trace, so no opcodes are written as it executes
+        final var expected = Builder.opcodesResponse(opcodesResultCaptor.get(), commonEntityAccessor)
+                .opcodes(List.of());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MODULARIZED_HEADER, "true"))
+                .andExpect(content().json(objectMapper.writeValueAsString(expected), true));
+
+        assertThat(callServiceParametersCaptor.getValue()).isEqualTo(expectedCallServiceParameters.get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransactionProviderEnum.class)
+    void streamCallThrowsException(final TransactionProviderEnum providerEnum) throws Exception {
+        final TransactionIdOrHashParameter transactionIdOrHash = setUp(providerEnum);
+
+        reset(contractDebugService);
+        when(contractDebugService.processOpcodeCall(
+                        callServiceParametersCaptor.capture(), tracerOptionsCaptor.capture()))
+                .thenThrow(new MirrorEvmTransactionException(CONTRACT_EXECUTION_EXCEPTION, "Failed", "0x"));
+
+        final var result = mockMvc.perform(opcodesRequest(transactionIdOrHash).queryParam("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final var body = mockMvc.perform(asyncDispatch(result)).andReturn().getResponse().getContentAsString();
+
+        assertThat(body).startsWith("{\"opcodes\":[");
+        assertThatThrownBy(() -> objectMapper.readTree(body)).isInstanceOf(JsonProcessingException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransactionProviderEnum.class)
+    void streamCallWithContractResultNotFound(final TransactionProviderEnum providerEnum) throws Exception {
+        final TransactionIdOrHashParameter transactionIdOrHash = setUp(providerEnum);
+        final var id = providerEnum.getContractResult().get().getConsensusTimestamp();
+
+        when(contractResultRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        mockMvc.perform(opcodesRequest(transactionIdOrHash).queryParam("stream", "true"))
+                .andExpect(status().isNotFound())
+                .andExpect(responseBody(
+                        new GenericErrorResponse(NOT_FOUND.getReasonPhrase(), "Contract result not found: " + id)));
+    }
+
     @ParameterizedTest
     @EnumSource(TransactionProviderEnum.class)
     void callWithContractResultNotFoundExceptionTest(final TransactionProviderEnum providerEnum) throws Exception {
@@ -835,7 +892,8 @@ class OpcodesControllerTest {
                 final EthereumTransactionRepository ethereumTransactionRepository,
                 final TransactionRepository transactionRepository,
                 final ContractResultRepository contractResultRepository,
-                final CommonEntityAccessor commonEntityAccessor) {
+                final CommonEntityAccessor commonEntityAccessor,
+                final ObjectMapper objectMapper) {
             return new OpcodeServiceImpl(
                     recordFileService,
                     contractDebugService,
@@ -843,7 +901,8 @@ class OpcodesControllerTest {
                     ethereumTransactionRepository,
                     transactionRepository,
                     contractResultRepository,
-                    commonEntityAccessor);
+                    commonEntityAccessor,
+                    objectMapper);
         }
     }
 }
@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.evm.contracts.execution.traceability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.Operation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OpcodeWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StringWriter output = new StringWriter();
+
+    @Mock
+    private MessageFrame frame;
+
+    @Mock
+    private Operation operation;
+
+    private JsonGenerator generator;
+    private OpcodeWriter opcodeWriter;
+
+    @BeforeEach
+    void setup() throws IOException {
+        generator = objectMapper.getFactory().createGenerator(output);
+        generator.writeStartArray();
+        opcodeWriter = new OpcodeWriter(generator);
+
+        when(frame.getDepth()).thenReturn(1);
+        when(frame.getPC()).thenReturn(10);
+        when(frame.getRemainingGas()).thenReturn(1000L);
+    }
+
+    @Test
+    void write() throws IOException {
+        // given
+        var memory = Bytes.fromHexString("0x" + "01".repeat(32) + "ff".repeat(32));
+        var storage = Map.of(UInt256.ONE, UInt256.valueOf(2L));
+        when(frame.getCurrentOperation()).thenReturn(operation);
+        when(operation.getName()).thenReturn("SSTORE");
+        when(frame.stackSize()).thenReturn(2);
+        when(frame.getStackItem(0)).thenReturn(Bytes.fromHexString("0x0102"));
+        when(frame.getStackItem(1)).thenReturn(Bytes.fromHexString("0xabcdef"));
+        when(frame.memoryWordSize()).thenReturn(2);
+        when(frame.readMemory(0, 64)).thenReturn(memory);
+        when(frame.getRevertReason()).thenReturn(Optional.of(Bytes.fromHexString("0x0a")));
+
+        // when
+        opcodeWriter.write(frame, 3L, new OpcodeTracerOptions(true, true, true), storage);
+
+        // then
+        var opcode = read();
+        assertThat(opcode.get("depth").asInt()).isEqualTo(1);
+        assertThat(opcode.get("gas").asLong()).isEqualTo(1000L);
+        assertThat(opcode.get("gas_cost").asLong()).isEqualTo(3L);
+        assertThat(opcode.get("op").asText()).isEqualTo("SSTORE");
+        assertThat(opcode.get("pc").asInt()).isEqualTo(10);
+        assertThat(opcode.get("reason").asText()).isEqualTo("0x0a");
+        assertThat(objectMapper.convertValue(opcode.get("stack"), String[].class))
+                .containsExactly("0xabcdef", "0x0102");
+        assertThat(objectMapper.convertValue(opcode.get("memory"), String[].class))
+                .containsExactly(memory.slice(0, 32).toHexString(), memory.slice(32, 32).toHexString());
+        assertThat(objectMapper.convertValue(opcode.get("storage"), Map.class))
+                .containsExactlyEntriesOf(Map.of(UInt256.ONE.toHexString(), UInt256.valueOf(2L).toHexString()));
+    }
+
+    @Test
+    void writeWithoutOptions() throws IOException {
+        // given
+        when(frame.getCurrentOperation()).thenReturn(operation);
+        when(operation.getName()).thenReturn("PUSH1");
+        when(frame.getRevertReason()).thenReturn(Optional.empty());
+
+        // when
+        opcodeWriter.write(frame, 3L, new OpcodeTracerOptions(false, false, false), Map.of(UInt256.ONE, UInt256.ONE));
+
+        // then
+        var opcode = read();
+        assertThat(opcode.get("op").asText()).isEqualTo("PUSH1");
+        assertThat(opcode.get("reason").isNull()).isTrue();
+        assertThat(opcode.get("stack")).isEmpty();
+        assertThat(opcode.get("memory")).isEmpty();
+        assertThat(opcode.get("storage")).isEmpty();
+    }
+
+    @Test
+    void writePrecompile() throws IOException {
+        // when
+        opcodeWriter.writePrecompile(frame, "CALL", 100L, "0x01");
+
+        // then
+        var opcode = read();
+        assertThat(opcode.get("gas_cost").asLong()).isEqualTo(100L);
+        assertThat(opcode.get("op").asText()).isEqualTo("CALL");
+        assertThat(opcode.get("reason").asText()).isEqualTo("0x01");
+        assertThat(opcode.get("stack")).isEmpty();
+        assertThat(opcode.get("memory")).isEmpty();
+        assertThat(opcode.get("storage")).isEmpty();
+    }
+
+    private JsonNode read() throws IOException {
+        generator.writeEndArray();
+        generator.close();
+        var opcodes = objectMapper.readTree(output.toString());
+        assertThat(opcodes).hasSize(1);
+        return opcodes.get(0);
+    }
+}
@@ -0,0 +1,172 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ALIAS;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_EVM_ADDRESS;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_NFT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT_COUNT;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import org.hiero.mirror.common.domain.ChangeSet;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeSetListenerTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final CaffeineCacheManager cacheManagerContractState = VersionedCaffeineCache.cacheManager();
+    private final CaffeineCacheManager cacheManagerEntity = VersionedCaffeineCache.cacheManager();
+    private final CaffeineCacheManager cacheManagerSystemAccount = VersionedCaffeineCache.cacheManager();
+    private final CaffeineCacheManager cacheManagerToken = VersionedCaffeineCache.cacheManager();
+
+    @Mock
+    private ContractStateService contractStateService;
+
+    @Mock
+    private DataSource dataSource;
+
+    private ChangeSetListener changeSetListener;
+
+    @BeforeEach
+    void setup() {
+        changeSetListener = new ChangeSetListener(
+                cacheManagerContractState,
+                cacheManagerEntity,
+                cacheManagerSystemAccount,
+                cacheManagerToken,
+                new CacheProperties(),
+                contractStateService,
+                dataSource);
+    }
+
+    @Test
+    void onChangeSetEntity() {
+        // given
+        var entity = domainBuilder.entity().get();
+        var other = domainBuilder.entity().get();
+        var entityCache = cacheManagerEntity.getCache(CACHE_NAME);
+        var evmAddressCache = cacheManagerEntity.getCache(CACHE_NAME_EVM_ADDRESS);
+        var systemAccountCache = cacheManagerSystemAccount.getCache(CACHE_NAME);
+        entityCache.put(entity.getId(), entity);
+        entityCache.put(other.getId(), other);
+        evmAddressCache.put(Arrays.hashCode(entity.getEvmAddress()), entity);
+        evmAddressCache.put(Arrays.hashCode(other.getEvmAddress()), other);
+        cacheManagerEntity.getCache(CACHE_NAME_ALIAS).put(Arrays.hashCode(entity.getAlias()), entity);
+        systemAccountCache.put(entity.getId(), entity);
+        var changeSet = new ChangeSet();
+        changeSet.addEntity(entity.getId());
+
+        // when
+        changeSetListener.onChangeSet(changeSet);
+
+        // then
+        assertThat(entityCache.get(entity.getId())).isNull();
+        assertThat(entityCache.get(other.getId())).isNotNull();
+        assertThat(evmAddressCache.get(Arrays.hashCode(entity.getEvmAddress()))).isNull();
+        assertThat(evmAddressCache.get(Arrays.hashCode(other.getEvmAddress()))).isNotNull();
+        assertThat(cacheManagerEntity.getCache(CACHE_NAME_ALIAS).get(Arrays.hashCode(entity.getAlias())))
+                .isNull();
+        assertThat(systemAccountCache.get(entity.getId())).isNull();
+    }
+
+    @Test
+    void onChangeSetToken() {
+        // given
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        var other = domainBuilder.tokenAccount().get();
+        var tokenCache = cacheManagerToken.getCache(CACHE_NAME_TOKEN);
+        var tokenAccountCache = cacheManagerToken.getCache(CACHE_NAME_TOKEN_ACCOUNT);
+        var tokenAccountCountCache = cacheManagerToken.getCache(CACHE_NAME_TOKEN_ACCOUNT_COUNT);
+        var nftCache = cacheManagerToken.getCache(CACHE_NAME_NFT);
+        tokenCache.put(tokenAccount.getTokenId(), domainBuilder.token().get());
+        tokenCache.put(other.getTokenId(), domainBuilder.token().get());
+        tokenAccountCache.put(tokenAccount.getId(), tokenAccount);
+        tokenAccountCache.put(other.getId(), other);
+        tokenAccountCountCache.put(tokenAccount.getAccountId(), List.of());
+        var nft = domainBuilder.nft().get();
+        nftCache.put(nft.getId(), nft);
+        var changeSet = new ChangeSet();
+        changeSet.addToken(tokenAccount.getTokenId());
+        changeSet.addTokenAccount(tokenAccount.getAccountId(), tokenAccount.getTokenId());
+
+        // when
+        changeSetListener.onChangeSet(changeSet);
+
+        // then
+        assertThat(tokenCache.get(tokenAccount.getTokenId())).isNull();
+        assertThat(tokenCache.get(other.getTokenId())).isNotNull();
+        assertThat(tokenAccountCache.get(tokenAccount.getId())).isNull();
+        assertThat(tokenAccountCache.get(other.getId())).isNotNull();
+        assertThat(tokenAccountCountCache.get(tokenAccount.getAccountId())).isNull();
+        assertThat(nftCache.get(nft.getId())).isNull();
+    }
+
+    @Test
+    void onChangeSetTokenAccounts() {
+        // given
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        var other = domainBuilder.tokenAccount().get();
+        var tokenAccountCache = cacheManagerToken.getCache(CACHE_NAME_TOKEN_ACCOUNT);
+        tokenAccountCache.put(tokenAccount.getId(), tokenAccount);
+        tokenAccountCache.put(other.getId(), other);
+        var changeSet = new ChangeSet();
+        changeSet.addTokenAccounts(tokenAccount.getTokenId());
+
+        // when
+        changeSetListener.onChangeSet(changeSet);
+
+        // then
+        assertThat(tokenAccountCache.get(tokenAccount.getId())).isNull();
+        assertThat(tokenAccountCache.get(other.getId())).isNotNull();
+    }
+
+    @Test
+    void onChangeSetSlot() {
+        // given
+        var slot = new byte[] {1};
+        var changeSet = new ChangeSet();
+        changeSet.addSlot(100L, slot);
+
+        // when
+        changeSetListener.onChangeSet(changeSet);
+
+        // then
+        verify(contractStateService).evict(100L, slot);
+    }
+
+    @Test
+    void onChangeSetAll() {
+        // given
+        var entity = domainBuilder.entity().get();
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        var entityCache = cacheManagerEntity.getCache(CACHE_NAME);
+        var tokenAccountCache = cacheManagerToken.getCache(CACHE_NAME_TOKEN_ACCOUNT);
+        entityCache.put(entity.getId(), entity);
+        tokenAccountCache.put(tokenAccount.getId(), tokenAccount);
+        var changeSet = new ChangeSet();
+        changeSet.addAll();
+
+        // when
+        changeSetListener.onChangeSet(changeSet);
+
+        // then
+        assertThat(entityCache.get(entity.getId())).isNull();
+        assertThat(tokenAccountCache.get(tokenAccount.getId())).isNull();
+        verify(contractStateService).evictAll();
+    }
+}
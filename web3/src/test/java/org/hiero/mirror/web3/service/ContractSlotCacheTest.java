@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hiero.mirror.web3.service.ContractSlotCache.ENTRY_SIZE;
+import static org.hiero.mirror.web3.service.ContractSlotCache.METRIC_EVICTIONS;
+import static org.hiero.mirror.web3.service.ContractSlotCache.METRIC_REQUESTS;
+import static org.hiero.mirror.web3.service.ContractSlotCache.METRIC_SIZE;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.awaitility.Durations;
+import org.hiero.mirror.web3.common.ContractCallContext;
+import org.junit.jupiter.api.Test;
+
+class ContractSlotCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void getAndPut() {
+        // given
+        var cache = new ContractSlotCache(1024 * 1024, Duration.ofMinutes(1), meterRegistry);
+        var key = new byte[] {1, 2};
+        var paddedKey = new byte[32];
+        paddedKey[30] = 1;
+        paddedKey[31] = 2;
+        var value = new byte[] {3};
+
+        // when
+        cache.put(100L, key, value);
+        cache.put(100L, key, new byte[] {4});
+
+        // then
+        assertThat(cache.get(100L, key)).containsExactly(4);
+        assertThat(cache.get(101L, key)).isNull();
+        assertThat(cache.get(100L, paddedKey)).isNull();
+        assertThat(cache.size()).isOne();
+        assertThat(meterRegistry.find(METRIC_REQUESTS).tag("result", "hit").functionCounter())
+                .returns(1.0, c -> c.count());
+        assertThat(meterRegistry.find(METRIC_REQUESTS).tag("result", "miss").functionCounter())
+                .returns(2.0, c -> c.count());
+        assertThat(meterRegistry.find(METRIC_SIZE).gauge()).returns(1.0, g -> g.value());
+    }
+
+    @Test
+    void expiry() {
+        // given
+        var cache = new ContractSlotCache(1024 * 1024, Duration.ofMillis(10), meterRegistry);
+        var key = new byte[] {1};
+
+        // when
+        cache.put(100L, key, key);
+
+        // then
+        await().atMost(Durations.ONE_SECOND)
+                .pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .untilAsserted(() -> assertThat(cache.get(100L, key)).isNull());
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void eviction() {
+        // given
+        var cache = new ContractSlotCache(0L, Duration.ofMinutes(1), meterRegistry);
+        int capacity = 64 * 8;
+        int count = capacity * 4;
+
+        // when
+        for (int i = 0; i < count; i++) {
+            cache.put(i, new byte[] {1}, new byte[] {1});
+        }
+
+        // then
+        var size = cache.size();
+        assertThat(size).isPositive().isLessThanOrEqualTo(capacity);
+        assertThat(meterRegistry.find(METRIC_EVICTIONS).functionCounter())
+                .returns((double) (count - size), c -> c.count());
+        assertThat(cache.get(count - 1, new byte[] {1})).containsExactly(1);
+        assertThat(ENTRY_SIZE).isEqualTo(96);
+    }
+
+    @Test
+    void remove() {
+        // given
+        var cache = new ContractSlotCache(1024 * 1024, Duration.ofMinutes(1), meterRegistry);
+        var key = new byte[] {1};
+        cache.put(100L, key, key);
+        cache.put(101L, key, key);
+
+        // when
+        cache.remove(100L, key);
+        cache.remove(102L, key);
+
+        // then
+        assertThat(cache.get(100L, key)).isNull();
+        assertThat(cache.get(101L, key)).containsExactly(1);
+        assertThat(cache.size()).isOne();
+    }
+
+    @Test
+    void clear() {
+        // given
+        var cache = new ContractSlotCache(1024 * 1024, Duration.ofMinutes(1), meterRegistry);
+        var key = new byte[] {1};
+        cache.put(100L, key, key);
+        cache.put(101L, key, key);
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(cache.get(100L, key)).isNull();
+        assertThat(cache.get(101L, key)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void putAfterRemoveInSameCall() {
+        // given
+        var cache = new ContractSlotCache(1024 * 1024, Duration.ofMinutes(1), meterRegistry);
+        var key = new byte[] {1};
+
+        // when
+        ContractCallContext.run(ctx -> {
+            cache.remove(100L, key);
+            cache.put(100L, key, key);
+            return null;
+        });
+
+        // then
+        assertThat(cache.get(100L, key)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void oversized() {
+        // given
+        var cache = new ContractSlotCache(1024 * 1024, Duration.ofMinutes(1), meterRegistry);
+        var key = new byte[33];
+
+        // when
+        cache.put(100L, key, new byte[] {1});
+        cache.put(100L, new byte[] {1}, key);
+
+        // then
+        assertThat(cache.get(100L, key)).isNull();
+        assertThat(cache.get(100L, new byte[] {1})).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
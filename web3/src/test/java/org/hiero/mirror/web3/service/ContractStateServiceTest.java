@@ -36,6 +36,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.testcontainers.shaded.org.apache.commons.lang3.RandomUtils;
 
 @RequiredArgsConstructor
@@ -53,6 +54,7 @@ final class ContractStateServiceTest extends Web3IntegrationTest {
     private final ContractStateService contractStateService;
     private final ContractStateRepository contractStateRepository;
     private final EntityRepository entityRepository;
+    private final JdbcOperations jdbcOperations;
 
     @BeforeEach
     void setup() {
@@ -270,6 +272,30 @@ final class ContractStateServiceTest extends Web3IntegrationTest {
                 .isEqualTo(olderContractState.getValueWritten());
     }
 
+    @Test
+    void verifyHistoricalContractSlotsArePrefetched() {
+        // Given
+        final var contractStateChange1 = domainBuilder.contractStateChange().persist();
+        final var contractStateChange2 = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(contractStateChange1.getContractId()))
+                .persist();
+        final var contractId = EntityId.of(contractStateChange1.getContractId());
+        final var blockTimestamp = contractStateChange2.getConsensusTimestamp();
+
+        // When
+        final var result = contractStateService.findStorageByBlockTimestamp(
+                contractId, contractStateChange1.getSlot(), blockTimestamp);
+        jdbcOperations.update("delete from contract_state_change");
+
+        // Then
+        assertThat(result).get().isEqualTo(contractStateChange1.getValueWritten());
+        assertThat(contractStateService.findStorageByBlockTimestamp(
+                        contractId, contractStateChange2.getSlot(), blockTimestamp))
+                .get()
+                .isEqualTo(contractStateChange2.getValueWritten());
+    }
+
     @Test
     void verifyOnlyExistingHistoricalContractSlotIsReturned() {
         // Given
@@ -0,0 +1,137 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import org.hiero.mirror.web3.common.ContractCallContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+class VersionedCaffeineCacheTest {
+
+    private final Cache cache = VersionedCaffeineCache.cacheManager().getCache("test");
+
+    @Test
+    void put() {
+        // when
+        ContractCallContext.run(ctx -> {
+            cache.put("key1", "value1");
+            cache.putIfAbsent("key2", "value2");
+            return null;
+        });
+
+        // then
+        assertThat(cache).isInstanceOf(VersionedCaffeineCache.class);
+        assertThat(cache.get("key1", String.class)).isEqualTo("value1");
+        assertThat(cache.get("key2", String.class)).isEqualTo("value2");
+    }
+
+    @Test
+    void putAfterInvalidationInSameCall() {
+        // when
+        ContractCallContext.run(ctx -> {
+            cache.evict("other");
+            cache.put("key1", "value1");
+            cache.putIfAbsent("key2", "value2");
+            return null;
+        });
+
+        // then
+        assertThat(cache.get("key1")).isNull();
+        assertThat(cache.get("key2")).isNull();
+    }
+
+    @Test
+    void putAfterInvalidationInLaterCall() {
+        // given
+        cache.clear();
+        long invalidated = System.currentTimeMillis();
+        await().until(() -> System.currentTimeMillis() > invalidated);
+
+        // when
+        ContractCallContext.run(ctx -> {
+            cache.put("key", "value");
+            return null;
+        });
+
+        // then
+        assertThat(cache.get("key", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    void putAfterInvalidationOutsideCall() {
+        // when
+        cache.evict("other");
+        cache.put("key", "value");
+
+        // then
+        assertThat(cache.get("key", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    void removeIf() {
+        // given
+        var versionedCache = (VersionedCaffeineCache) cache;
+        versionedCache.put("key1", "value1");
+        versionedCache.put("key2", "value2");
+
+        // when
+        ContractCallContext.run(ctx -> {
+            versionedCache.removeIf((k, v) -> "value1".equals(v));
+            versionedCache.put("key3", "value3");
+            return null;
+        });
+
+        // then
+        assertThat(cache.get("key1")).isNull();
+        assertThat(cache.get("key2", String.class)).isEqualTo("value2");
+        assertThat(cache.get("key3")).isNull();
+    }
+
+    @Test
+    void evictByIndex() {
+        // given
+        var versionedCache = (VersionedCaffeineCache) cache;
+        versionedCache.setIndexer(v -> v instanceof String value ? value.substring(0, 1) : null);
+        versionedCache.put("key1", "a1");
+        versionedCache.put("key2", "a2");
+        versionedCache.putIfAbsent("key3", "b3");
+        versionedCache.put("key4", 4);
+
+        // when
+        ContractCallContext.run(ctx -> {
+            versionedCache.evictByIndex("a");
+            versionedCache.put("key5", "a5");
+            return null;
+        });
+
+        // then
+        assertThat(cache.get("key1")).isNull();
+        assertThat(cache.get("key2")).isNull();
+        assertThat(cache.get("key3", String.class)).isEqualTo("b3");
+        assertThat(cache.get("key4", Integer.class)).isEqualTo(4);
+        assertThat(cache.get("key5")).isNull();
+    }
+
+    @Test
+    void setExpireAfterWrite() {
+        // given
+        var cacheManager = VersionedCaffeineCache.cacheManager();
+        cacheManager.setCacheSpecification("expireAfterWrite=1s");
+        var versionedCache = (VersionedCaffeineCache) cacheManager.getCache("test");
+        var expiration = versionedCache.getNativeCache().policy().expireAfterWrite().orElseThrow();
+
+        // when, then
+        versionedCache.setExpireAfterWrite(Duration.ofHours(1L));
+        assertThat(expiration.getExpiresAfter()).isEqualTo(Duration.ofHours(1L));
+
+        versionedCache.setExpireAfterWrite(Duration.ofMillis(1L));
+        assertThat(expiration.getExpiresAfter()).isEqualTo(Duration.ofSeconds(1L));
+
+        versionedCache.setExpireAfterWrite(null);
+        assertThat(expiration.getExpiresAfter()).isEqualTo(Duration.ofSeconds(1L));
+    }
+}
@@ -3,9 +3,13 @@
 package org.hiero.mirror.web3.service.utils;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import org.assertj.core.data.Percentage;
@@ -111,6 +115,111 @@ class BinaryGasEstimatorTest extends Web3IntegrationTest {
                 .isLessThanOrEqualTo(properties.getMaxGasEstimateRetriesCount());
     }
 
+    @DisplayName("parallelSearch")
+    @ParameterizedTest(name = "#{index} (low {0}, high {1}, required {2}")
+    @CsvSource({
+        "21000, 100000, 21617",
+        "35000, 15_000_000, 35913",
+        "1_000_000, 1_000_000_000, 1000952",
+        "21000, 50_000_000, 21914",
+        "55555, 55555, 55555"
+    })
+    void parallelSearch(final long low, final long high, final long required) {
+        final int parallelism = properties.getEstimateGasParallelism();
+        properties.setEstimateGasParallelism(4);
+
+        try {
+            final var throttled = new AtomicInteger();
+            final var result = binaryGasEstimator.parallelSearch(
+                    (a, b) -> iterations.addAndGet(b),
+                    gas -> throttled.incrementAndGet(),
+                    gas -> createTxnResult(low, gas >= required),
+                    low,
+                    high,
+                    properties.isModularizedServices());
+
+            assertThat(result).as("result must not go out of bounds").isBetween(required, high);
+            assertThat(result)
+                    .as("result must be within the 20% range of the required gas")
+                    .isCloseTo(required, Percentage.withPercentage(20));
+            assertThat(iterations.get())
+                    .as("iteration limit")
+                    .isLessThanOrEqualTo(properties.getMaxGasEstimateRetriesCount() * 4);
+            assertThat(throttled.get())
+                    .as("only candidates that started are throttled")
+                    .isPositive()
+                    .isLessThanOrEqualTo(iterations.get());
+        } finally {
+            properties.setEstimateGasParallelism(parallelism);
+        }
+    }
+
+    @Test
+    void parallelSearchCancelsCandidatesAboveSuccess() throws InterruptedException {
+        final int parallelism = properties.getEstimateGasParallelism();
+        properties.setEstimateGasParallelism(2);
+        final var release = new CountDownLatch(1);
+        final var finished = new CountDownLatch(1);
+        final var interrupted = new AtomicBoolean();
+
+        try {
+            // The higher candidate blocks until it's released, so the search must not wait for it
+            final var result = binaryGasEstimator.parallelSearch(
+                    (a, b) -> iterations.addAndGet(b),
+                    gas -> {},
+                    gas -> {
+                        if (gas > 60_000L) {
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                interrupted.set(true);
+                            } finally {
+                                finished.countDown();
+                            }
+                        }
+                        return createTxnResult(21_000L, true);
+                    },
+                    21_000L,
+                    100_000L,
+                    properties.isModularizedServices());
+
+            assertThat(result).isBetween(21_000L, 47_333L);
+            release.countDown();
+            assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(interrupted.get()).as("running candidate not interrupted").isFalse();
+        } finally {
+            properties.setEstimateGasParallelism(parallelism);
+        }
+    }
+
+    @Test
+    void parallelSearchThrottled() {
+        final int parallelism = properties.getEstimateGasParallelism();
+        properties.setEstimateGasParallelism(2);
+        final var calls = new AtomicInteger();
+
+        try {
+            // The throttle rejects candidates before they execute, so none of them has gas to restore
+            assertThatThrownBy(() -> binaryGasEstimator.parallelSearch(
+                            (a, b) -> iterations.addAndGet(b),
+                            gas -> {
+                                throw new IllegalStateException("throttled");
+                            },
+                            gas -> {
+                                calls.incrementAndGet();
+                                return createTxnResult(21_000L, true);
+                            },
+                            21_000L,
+                            100_000L,
+                            properties.isModularizedServices()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("throttled");
+            assertThat(calls.get()).isZero();
+        } finally {
+            properties.setEstimateGasParallelism(parallelism);
+        }
+    }
+
     private HederaEvmTransactionProcessingResult createTxnResult(final long gasUsed, final boolean isSuccessful) {
         if (!isSuccessful) {
             return HederaEvmTransactionProcessingResult.failed(gasUsed, 0, 0, Optional.empty(), Optional.empty());
@@ -78,6 +78,24 @@ final class ThrottleManagerImplTest {
                 .hasMessageContaining(GAS_PER_SECOND_LIMIT_EXCEEDED);
     }
 
+    @Test
+    void consume() {
+        var request = request();
+        throttleManager.consume(request.getGas());
+        assertThatThrownBy(() -> throttleManager.throttle(request))
+                .isInstanceOf(ThrottleException.class)
+                .hasMessageContaining(GAS_PER_SECOND_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    void consumeGasLimit() {
+        var request = request();
+        throttleManager.throttle(request);
+        assertThatThrownBy(() -> throttleManager.consume(request.getGas()))
+                .isInstanceOf(ThrottleException.class)
+                .hasMessageContaining(GAS_PER_SECOND_LIMIT_EXCEEDED);
+    }
+
     @Test
     void restore() {
         var request = request();